@@ -0,0 +1,34 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.simulation.SimulatedHost;
+
+
+/**
+ * The host for the benchmarks. In contrast to the simulated host bitmaps are really rendered and
+ * the output is not captured.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BenchmarkHost extends SimulatedHost
+{
+    /**
+     * Constructor.
+     */
+    public BenchmarkHost ()
+    {
+        this.getCapture ().setEnabled (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBitmap createBitmap (final int width, final int height)
+    {
+        return new Java2DBitmap (width, height);
+    }
+}
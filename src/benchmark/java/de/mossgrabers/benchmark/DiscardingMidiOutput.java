@@ -0,0 +1,54 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.daw.midi.AbstractMidiOutput;
+
+
+/**
+ * A MIDI output which only counts the sent bytes. In contrast to the simulated output of the
+ * framework it does not store anything, which would distort the allocation measurements.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DiscardingMidiOutput extends AbstractMidiOutput
+{
+    private long numBytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.numBytes += data.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.numBytes += data.length () / 2;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        this.numBytes += 3;
+    }
+
+
+    /**
+     * Get the number of sent bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getNumBytes ()
+    {
+        return this.numBytes;
+    }
+}
@@ -0,0 +1,85 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
+import de.mossgrabers.controller.generic.flexihandler.utils.CommandSlot;
+import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChanger;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.simulation.SimulatedSettingsUI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the lookup of the command slot for incoming MIDI messages of the Generic Flexi, which
+ * happens for every received CC and note.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlexiSlotBenchmark
+{
+    @Param({"8", "64", "256"})
+    private int                       numMappedSlots;
+
+    private GenericFlexiConfiguration configuration;
+
+
+    /**
+     * Create the configuration and map CCs of MIDI channel 1 to the first slots.
+     */
+    @Setup
+    public void setup ()
+    {
+        final BenchmarkHost host = new BenchmarkHost ();
+        this.configuration = new GenericFlexiConfiguration (host, new TwosComplementValueChanger (128, 1), Arrays.asList (ArpeggiatorMode.values ()));
+        this.configuration.init (new SimulatedSettingsUI (), new SimulatedSettingsUI ());
+
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        for (int i = 0; i < this.numMappedSlots; i++)
+        {
+            final CommandSlot slot = slots[i];
+            slot.setType (i < 128 ? CommandSlot.TYPE_CC : CommandSlot.TYPE_NOTE);
+            slot.setNumber (i % 128);
+            slot.setMidiChannel (0);
+            slot.setCommand (FlexiCommand.TRACK_1_SET_VOLUME);
+        }
+    }
+
+
+    /**
+     * Look up a mapped CC, the last mapped CC and an unmapped CC.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void getSlot (final Blackhole blackhole)
+    {
+        blackhole.consume (this.configuration.getSlot (CommandSlot.TYPE_CC, 0, 0));
+        blackhole.consume (this.configuration.getSlot (CommandSlot.TYPE_CC, Math.min (this.numMappedSlots, 128) - 1, 0));
+        blackhole.consume (this.configuration.getSlot (CommandSlot.TYPE_CC, 7, 5));
+    }
+}
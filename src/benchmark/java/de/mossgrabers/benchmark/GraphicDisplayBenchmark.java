@@ -0,0 +1,121 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.ableton.push.PushConfiguration;
+import de.mossgrabers.controller.ableton.push.controller.Push2Display;
+import de.mossgrabers.controller.akai.fire.controller.FireDisplay;
+import de.mossgrabers.controller.akai.fire.graphics.canvas.component.TitleValueComponent;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChanger;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.simulation.SimulatedSettingsUI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks sending a frame to the Push 2 and Fire displays. If the content changes the frame is
+ * rendered and encoded, otherwise it is only encoded (since the displays need to be refreshed
+ * constantly).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphicDisplayBenchmark
+{
+    private static final int     MAX_VALUE = 1024;
+
+    @Param({"true", "false"})
+    private boolean              changeContent;
+
+    private final BenchmarkHost  host      = new BenchmarkHost ();
+    private DiscardingMidiOutput output;
+    private Push2Display         push2Display;
+    private FireDisplay          fireDisplay;
+    private int                  frame;
+
+
+    /**
+     * Create the displays.
+     */
+    @Setup
+    public void setup ()
+    {
+        final TwosComplementValueChanger valueChanger = new TwosComplementValueChanger (MAX_VALUE, 10);
+        final PushConfiguration configuration = new PushConfiguration (this.host, valueChanger, Arrays.asList (ArpeggiatorMode.values ()), true);
+        configuration.init (new SimulatedSettingsUI (), new SimulatedSettingsUI ());
+        this.push2Display = new Push2Display (this.host, MAX_VALUE, configuration);
+        this.output = new DiscardingMidiOutput ();
+        this.fireDisplay = new FireDisplay (this.host, this.output, MAX_VALUE);
+    }
+
+
+    /**
+     * Stop the threads of the displays.
+     */
+    @TearDown
+    public void tearDown ()
+    {
+        this.push2Display.shutdown ();
+        this.fireDisplay.shutdown ();
+    }
+
+
+    /**
+     * Send 8 parameter columns to the Push 2 display.
+     */
+    @Benchmark
+    public void push2Display ()
+    {
+        if (this.changeContent)
+            this.frame++;
+
+        for (int i = 0; i < 8; i++)
+        {
+            final int value = (this.frame * 8 + i * 128) % MAX_VALUE;
+            this.push2Display.addParameterElement ("Page " + i, i == 0, "Track " + i, ChannelType.AUDIO, ColorEx.ORANGE, false, "Param " + i, value, Integer.toString (value), i == 2, value);
+        }
+        this.push2Display.send ();
+    }
+
+
+    /**
+     * Send a parameter to the Fire display.
+     *
+     * @return The number of sent bytes
+     */
+    @Benchmark
+    public long fireDisplay ()
+    {
+        if (this.changeContent)
+            this.frame++;
+
+        final int value = this.frame * 8 % MAX_VALUE;
+        this.fireDisplay.addElement (new TitleValueComponent ("Device: Page", "Param: " + value, value, false));
+        this.fireDisplay.send ();
+        return this.output.getNumBytes ();
+    }
+}
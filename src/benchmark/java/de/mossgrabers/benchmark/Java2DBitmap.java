@@ -0,0 +1,87 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * A bitmap which is rendered with Java2D. The encoder gets the pixels in the same byte order as
+ * from the DAW (blue, green, red, alpha).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Java2DBitmap implements IBitmap
+{
+    private final BufferedImage image;
+    private final int []        pixels;
+    private final ByteBuffer    imageBuffer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public Java2DBitmap (final int width, final int height)
+    {
+        this.image = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) this.image.getRaster ().getDataBuffer ()).getData ();
+        this.imageBuffer = ByteBuffer.allocateDirect (width * height * 4).order (ByteOrder.LITTLE_ENDIAN);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        // No window in the benchmarks
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // No window in the benchmarks
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        final Graphics2D gc = this.image.createGraphics ();
+        try
+        {
+            gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, enableAntialias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+            renderer.render (new Java2DGraphicsContext (gc));
+        }
+        finally
+        {
+            gc.dispose ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        this.imageBuffer.clear ();
+        this.imageBuffer.asIntBuffer ().put (this.pixels);
+        encoder.encode (this.imageBuffer, this.image.getWidth (), this.image.getHeight ());
+    }
+}
@@ -0,0 +1,263 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+
+
+/**
+ * Implementation of the graphics context with Java2D. Mirrors the drawing of the DAW graphics
+ * context as close as possible. Images are not drawn since the simulated host does not load them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Java2DGraphicsContext implements IGraphicsContext
+{
+    private final Graphics2D gc;
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The Java2D graphics context
+     */
+    public Java2DGraphicsContext (final Graphics2D gc)
+    {
+        this.gc = gc;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.draw (new Line2D.Double (x1, y1, x2, y2));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.fill (new Rectangle2D.Double (left, top, Math.max (0, width), Math.max (0, height)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        this.setColor (color);
+        this.gc.setStroke (new BasicStroke ((float) lineWidth));
+        this.gc.draw (new Rectangle2D.Double (left, top, width, height));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx fillColor)
+    {
+        this.setColor (fillColor);
+        this.gc.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        this.gc.setPaint (new GradientPaint ((float) left, (float) top, toColor (color1), (float) left, (float) (top + height), toColor (color2)));
+        this.gc.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx fillColor)
+    {
+        this.setColor (fillColor);
+        this.gc.fill (createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.draw (createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        final double r = Math.max (0, radius);
+        this.setColor (fillColor);
+        this.gc.fill (new Ellipse2D.Double (x - r, y - r, 2 * r, 2 * r));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+        this.setFontSize (fontSize);
+
+        final double h = this.gc.getFontMetrics ().getAscent ();
+        final double posY = y + (height + h) / 2;
+
+        if (backgroundColor != null)
+        {
+            final double w = this.gc.getFontMetrics ().stringWidth (txt);
+            final double inset = 12.0;
+            this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (txt, (float) x, (float) posY);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+        this.setFontSize (fontSize);
+
+        final double h = this.gc.getFontMetrics ().getAscent ();
+        final double w = this.gc.getFontMetrics ().stringWidth (txt);
+        final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
+        final double posY = y + (height + h) / 2;
+
+        final Shape clip = this.gc.getClip ();
+        this.gc.clip (new Rectangle2D.Double (x, y, width, height));
+
+        if (backgroundColor != null)
+        {
+            final double inset = 12.0;
+            this.fillRoundedRectangle (posX - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (txt, (float) posX, (float) posY);
+        this.gc.setClip (clip);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage image, final double x, final double y)
+    {
+        // Images are not loaded by the simulated host
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage image, final double x, final double y, final ColorEx maskColor)
+    {
+        // Images are not loaded by the simulated host
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        double size = minimumFontSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            this.setFontSize (size);
+            final double width = this.gc.getFontMetrics ().stringWidth (text);
+            if (width > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+        return fittingSize;
+    }
+
+
+    private void setColor (final ColorEx color)
+    {
+        this.gc.setColor (toColor (color));
+    }
+
+
+    private void setFontSize (final double fontSize)
+    {
+        this.gc.setFont (this.gc.getFont ().deriveFont (Font.PLAIN, (float) fontSize));
+    }
+
+
+    private static Color toColor (final ColorEx color)
+    {
+        return new Color ((float) color.getRed (), (float) color.getGreen (), (float) color.getBlue ());
+    }
+
+
+    private static Shape createTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3)
+    {
+        final Path2D.Double path = new Path2D.Double ();
+        path.moveTo (x1, y1);
+        path.lineTo (x2, y2);
+        path.lineTo (x3, y3);
+        path.closePath ();
+        return path;
+    }
+}
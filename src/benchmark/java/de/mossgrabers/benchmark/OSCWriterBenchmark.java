@@ -0,0 +1,114 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.controller.osc.protocol.OSCWriter;
+import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChanger;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks flushing the values of a track bank with the OSC writer. Only the VU values change
+ * between two flushes, all other values are filtered by the cache unless everything is dumped.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OSCWriterBenchmark
+{
+    private static final int NUM_TRACKS = 8;
+
+    @Param({"false", "true"})
+    private boolean          dump;
+
+    private OSCWriter        writer;
+    private int              numMessages;
+    private int              frame;
+
+
+    /**
+     * Create the writer.
+     */
+    @Setup
+    public void setup ()
+    {
+        final BenchmarkHost host = new BenchmarkHost ();
+        final OSCConfiguration configuration = new OSCConfiguration (host, new TwosComplementValueChanger (128, 1), Arrays.asList (ArpeggiatorMode.values ()));
+        final IOpenSoundControlClient client = new IOpenSoundControlClient ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public void sendMessage (final IOpenSoundControlMessage message)
+            {
+                OSCWriterBenchmark.this.numMessages++;
+            }
+
+
+            /** {@inheritDoc} */
+            @Override
+            public void sendBundle (final List<IOpenSoundControlMessage> messages)
+            {
+                OSCWriterBenchmark.this.numMessages += messages.size ();
+            }
+        };
+        this.writer = new OSCWriter (host, null, client, configuration);
+    }
+
+
+    /**
+     * Send the values of all tracks and flush.
+     *
+     * @return The number of sent messages
+     */
+    @Benchmark
+    public int flushTrackBank ()
+    {
+        this.frame++;
+
+        for (int i = 1; i <= NUM_TRACKS; i++)
+        {
+            final String address = "/track/" + i + "/";
+            this.writer.sendOSC (address + "exists", true, this.dump);
+            this.writer.sendOSC (address + "name", "Track " + i, this.dump);
+            this.writer.sendOSC (address + "selected", i == 1, this.dump);
+            this.writer.sendOSC (address + "mute", false, this.dump);
+            this.writer.sendOSC (address + "solo", false, this.dump);
+            this.writer.sendOSC (address + "recarm", false, this.dump);
+            this.writer.sendOSC (address + "volume", 100, this.dump);
+            this.writer.sendOSC (address + "volumeStr", "-1.2 dB", this.dump);
+            this.writer.sendOSC (address + "pan", 64, this.dump);
+            this.writer.sendOSC (address + "panStr", "C", this.dump);
+            this.writer.sendOSCColor (address + "color", 0.2 * (i % 5), 0.5, 0.8, this.dump);
+            this.writer.sendOSC (address + "vu", (this.frame + i) % 128, this.dump);
+        }
+
+        this.writer.flush ("/update");
+        return this.numMessages;
+    }
+}
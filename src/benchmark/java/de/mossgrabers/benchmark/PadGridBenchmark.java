@@ -0,0 +1,130 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.ableton.push.controller.PushColorManager;
+import de.mossgrabers.controller.akai.fire.controller.FireColorManager;
+import de.mossgrabers.controller.akai.fire.controller.FirePadGrid;
+import de.mossgrabers.framework.controller.animation.AnimationClock;
+import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.view.AbstractPlayView;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks updating all pads of a grid like a play view does in each flush. The Push grid sends
+ * note messages, the Fire grid collects the changes and sends them as one system exclusive message
+ * including the blinking pads, whose phases follow the animation clock.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PadGridBenchmark
+{
+    private static final String [] COLORS =
+    {
+        Scales.SCALE_COLOR_OFF,
+        Scales.SCALE_COLOR_OCTAVE,
+        Scales.SCALE_COLOR_NOTE,
+        Scales.SCALE_COLOR_OUT_OF_SCALE,
+        AbstractPlayView.COLOR_PLAY,
+        AbstractPlayView.COLOR_RECORD
+    };
+
+    private final DiscardingMidiOutput output = new DiscardingMidiOutput ();
+    private PadGridImpl                padGrid;
+    private FirePadGrid                blinkingPadGrid;
+    private AnimationClock             animationClock;
+    private int                        frame;
+
+
+    /**
+     * Create the pad grids.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.padGrid = new PadGridImpl (new PushColorManager (true), this.output);
+        this.blinkingPadGrid = new FirePadGrid (new FireColorManager (), this.output);
+
+        // Provides the blink phases like the clock of the control surface
+        this.animationClock = new AnimationClock (new BenchmarkHost (), () -> {
+            // Intentionally empty, there are no running animations
+        });
+        this.blinkingPadGrid.setAnimationClock (this.animationClock);
+    }
+
+
+    /**
+     * Light and send all pads of an 8x8 grid, a quarter of the pads change their color.
+     *
+     * @return The number of sent bytes
+     */
+    @Benchmark
+    public long padGridFlush ()
+    {
+        this.frame++;
+        lightAll (this.padGrid, this.frame);
+        for (int note = this.padGrid.getStartNote (); note < this.padGrid.getStartNote () + 64; note++)
+            this.padGrid.sendState (note);
+        return this.output.getNumBytes ();
+    }
+
+
+    /**
+     * Light and send all pads of a 16x4 grid with blinking pads.
+     *
+     * @return The number of sent bytes
+     */
+    @Benchmark
+    public long blinkingPadGridFlush ()
+    {
+        this.frame++;
+        lightAll (this.blinkingPadGrid, this.frame);
+        for (int note = this.blinkingPadGrid.getStartNote (); note < this.blinkingPadGrid.getStartNote () + 64; note++)
+            this.blinkingPadGrid.sendState (note);
+        this.animationClock.tick ();
+        this.blinkingPadGrid.flush ();
+        return this.output.getNumBytes ();
+    }
+
+
+    private static void lightAll (final PadGridImpl grid, final int frame)
+    {
+        final int rows = grid.getRows ();
+        final int cols = grid.getCols ();
+        for (int y = 0; y < rows; y++)
+        {
+            for (int x = 0; x < cols; x++)
+            {
+                final int pad = y * cols + x;
+                final int offset = pad % 4 == 0 ? frame : 0;
+                final String color = COLORS[(pad + offset) % COLORS.length];
+                if (pad % 16 == 0)
+                    grid.lightEx (x, y, color, AbstractPlayView.COLOR_OFF, false);
+                else
+                    grid.lightEx (x, y, color);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChanger;
+import de.mossgrabers.framework.scale.Scale;
+import de.mossgrabers.framework.scale.ScaleLayout;
+import de.mossgrabers.framework.scale.Scales;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the calculation of the note matrices, which happens when the scale settings change
+ * and on each update of the play and drum views.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScalesBenchmark
+{
+    private Scales scales;
+    private int    counter;
+
+
+    /**
+     * Create the scales for an 8x8 grid.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.scales = new Scales (new TwosComplementValueChanger (128, 1), 36, 100, 8, 8);
+    }
+
+
+    /**
+     * Get the note matrix of the current scale.
+     *
+     * @return The matrix
+     */
+    @Benchmark
+    public int [] noteMatrix ()
+    {
+        return this.scales.getNoteMatrix ();
+    }
+
+
+    /**
+     * Change the scale, layout and offset and calculate the matrix, like browsing through the
+     * scales.
+     *
+     * @return The matrix
+     */
+    @Benchmark
+    public int [] changeScaleAndNoteMatrix ()
+    {
+        this.counter++;
+        final Scale [] scaleValues = Scale.values ();
+        final ScaleLayout [] layoutValues = ScaleLayout.values ();
+        this.scales.setScale (scaleValues[this.counter % scaleValues.length]);
+        this.scales.setScaleLayout (layoutValues[this.counter % layoutValues.length]);
+        this.scales.setScaleOffset (this.counter % 12);
+        return this.scales.getNoteMatrix ();
+    }
+
+
+    /**
+     * Get the drum and the piano matrices.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void drumAndPianoMatrix (final Blackhole blackhole)
+    {
+        blackhole.consume (this.scales.getDrumMatrix ());
+        blackhole.consume (this.scales.getPianoMatrix (8, 8));
+    }
+
+
+    /**
+     * Get the colors of all pads of the grid.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void padColors (final Blackhole blackhole)
+    {
+        final int [] matrix = this.scales.getNoteMatrix ();
+        for (int note = 36; note < 100; note++)
+            blackhole.consume (this.scales.getColor (matrix, note));
+    }
+}
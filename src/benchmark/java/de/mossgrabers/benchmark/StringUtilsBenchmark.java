@@ -0,0 +1,158 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the text formatting, which is used for all text displays and OSC.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark
+{
+    private static final String [] NAMES =
+    {
+        "Lead Synth Layer",
+        "Drum Machine - Kick",
+        "Polysynth Pad (Warm)",
+        "Bass Übersteuert",
+        "Vocal Reverb Send",
+        "Filter Cutoff Frequency",
+        "Résonance",
+        "Master"
+    };
+
+    private static final byte []   SYSEX =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x66,
+        0x14,
+        0x12,
+        0x00,
+        0x48,
+        0x65,
+        0x6C,
+        0x6C,
+        0x6F,
+        (byte) 0xF7
+    };
+
+    /** More names than the cache can hold, therefore each one is shortened again. */
+    private static final int       NUM_NEW_NAMES = 4096;
+
+    private final String []        newNames      = new String [NUM_NEW_NAMES];
+    private int                    counter;
+    private int                    newNameIndex;
+
+
+    /**
+     * Create the names which are not found in the cache.
+     */
+    @Setup
+    public void setup ()
+    {
+        for (int i = 0; i < NUM_NEW_NAMES; i++)
+            this.newNames[i] = NAMES[i % NAMES.length] + " " + i;
+    }
+
+
+    /**
+     * Shorten the names to the lengths of the different displays. The names do not change, like
+     * the track names during a flush, and are therefore found in the cache.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void optimizeName (final Blackhole blackhole)
+    {
+        for (final String name: NAMES)
+        {
+            blackhole.consume (StringUtils.optimizeName (name, 6));
+            blackhole.consume (StringUtils.optimizeName (name, 8));
+        }
+    }
+
+
+    /**
+     * Shorten names which are not in the cache, like parameter names while browsing devices.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void optimizeNewName (final Blackhole blackhole)
+    {
+        for (int i = 0; i < NAMES.length; i++)
+        {
+            final String name = this.newNames[this.newNameIndex];
+            this.newNameIndex = (this.newNameIndex + 1) % NUM_NEW_NAMES;
+            blackhole.consume (StringUtils.optimizeName (name, 6));
+            blackhole.consume (StringUtils.optimizeName (name, 8));
+        }
+    }
+
+
+    /**
+     * Replace all non-ASCII characters and pad the names.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void fixASCIIAndPad (final Blackhole blackhole)
+    {
+        for (final String name: NAMES)
+            blackhole.consume (StringUtils.pad (StringUtils.fixASCII (name), 28));
+    }
+
+
+    /**
+     * Format a changing play position as measures and time.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void formatPosition (final Blackhole blackhole)
+    {
+        this.counter++;
+        final double beats = this.counter * 0.125;
+        blackhole.consume (StringUtils.formatMeasures (4, beats, 1, true));
+        blackhole.consume (StringUtils.formatTime (120, beats, true));
+    }
+
+
+    /**
+     * Format a system exclusive message as hex.
+     *
+     * @return The formatted message
+     */
+    @Benchmark
+    public String toHexStr ()
+    {
+        return StringUtils.toHexStr (SYSEX);
+    }
+}
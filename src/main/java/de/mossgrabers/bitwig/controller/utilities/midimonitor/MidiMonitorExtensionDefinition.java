@@ -11,7 +11,7 @@ import de.mossgrabers.bitwig.framework.extension.AbstractControllerExtensionDefi
 import de.mossgrabers.controller.utilities.midimonitor.MidiMonitorConfiguration;
 import de.mossgrabers.controller.utilities.midimonitor.MidiMonitorDefinition;
 import de.mossgrabers.controller.utilities.midimonitor.MidiMonitorSetup;
-import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.controller.utilities.midimonitor.controller.MidiMonitorControlSurface;
 import de.mossgrabers.framework.controller.IControllerSetup;
 
 import com.bitwig.extension.controller.api.ControllerHost;
@@ -22,7 +22,7 @@ import com.bitwig.extension.controller.api.ControllerHost;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class MidiMonitorExtensionDefinition extends AbstractControllerExtensionDefinition<IControlSurface<MidiMonitorConfiguration>, MidiMonitorConfiguration>
+public class MidiMonitorExtensionDefinition extends AbstractControllerExtensionDefinition<MidiMonitorControlSurface, MidiMonitorConfiguration>
 {
     /**
      * Constructor.
@@ -35,7 +35,7 @@ public class MidiMonitorExtensionDefinition extends AbstractControllerExtensionD
 
     /** {@inheritDoc} */
     @Override
-    protected IControllerSetup<IControlSurface<MidiMonitorConfiguration>, MidiMonitorConfiguration> getControllerSetup (final ControllerHost host)
+    protected IControllerSetup<MidiMonitorControlSurface, MidiMonitorConfiguration> getControllerSetup (final ControllerHost host)
     {
         return new MidiMonitorSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host, host.getPreferences ()), new SettingsUIImpl (host, host.getDocumentState ()));
     }
@@ -12,13 +12,16 @@ import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
 import de.mossgrabers.bitwig.framework.daw.data.SlotImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.daw.AbstractBrowser;
+import de.mossgrabers.framework.daw.BrowserResultCache;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.BrowserFilterColumn;
+import com.bitwig.extension.controller.api.BrowserItem;
 import com.bitwig.extension.controller.api.BrowserResultsItemBank;
 import com.bitwig.extension.controller.api.CursorBrowserResultItem;
 import com.bitwig.extension.controller.api.CursorDevice;
@@ -34,6 +37,8 @@ import com.bitwig.extension.controller.api.PopupBrowser;
  */
 public class BrowserImpl extends AbstractBrowser
 {
+    private static final int              PREFETCH_PAGES   = 3;
+
     private final IHost                   host;
     private final CursorDevice            cursorDevice;
     private final CursorTrack             cursorTrack;
@@ -41,6 +46,10 @@ public class BrowserImpl extends AbstractBrowser
     private final BrowserFilterColumn []  filterColumns;
     private final CursorBrowserResultItem cursorResult;
     private final BrowserResultsItemBank  resultsItemBank;
+    private final BrowserResultsItemBank  prefetchBank;
+    private final BrowserResultCache      resultCache;
+    private int                           selectedPosition = -1;
+    private int                           prefetchPosition = 0;
 
 
     /**
@@ -63,8 +72,11 @@ public class BrowserImpl extends AbstractBrowser
 
         this.browser = browser;
 
-        this.browser.exists ().addValueObserver (this::fireActiveObserver);
-        this.browser.selectedContentTypeIndex ().markInterested ();
+        this.browser.exists ().addValueObserver (exists -> {
+            this.selectResultList ();
+            this.fireActiveObserver (exists);
+        });
+        this.browser.selectedContentTypeIndex ().addValueObserver (index -> this.selectResultList ());
         this.browser.selectedContentTypeName ().markInterested ();
         this.browser.contentTypeNames ().markInterested ();
         this.browser.shouldAudition ().markInterested ();
@@ -87,7 +99,23 @@ public class BrowserImpl extends AbstractBrowser
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
+        this.resultsItemBank.scrollPosition ().addValueObserver (position -> this.updateSelectedPosition ());
+        this.resultsItemBank.cursorIndex ().addValueObserver (index -> this.updateSelectedPosition ());
         this.resultData = this.createResultData (this.numResults);
+
+        // Pre-fetch the result pages before and after the page of the selected result
+        this.resultCache = new BrowserResultCache (this.numResults);
+        this.prefetchBank = this.browser.resultsColumn ().createItemBank (this.numResults * PREFETCH_PAGES);
+        this.prefetchBank.scrollPosition ().markInterested ();
+        // There is no access to the search text, a search changes the number of results
+        this.prefetchBank.itemCount ().addValueObserver (this::updateItemCount);
+        for (int i = 0; i < this.prefetchBank.getSizeOfBank (); i++)
+        {
+            final int index = i;
+            final BrowserItem item = this.prefetchBank.getItemAt (i);
+            item.exists ().markInterested ();
+            item.name ().addValueObserver (name -> this.cacheResult (index, item, name));
+        }
     }
 
 
@@ -108,6 +136,17 @@ public class BrowserImpl extends AbstractBrowser
 
         for (final IBrowserColumnItem item: this.resultData)
             item.enableObservers (enable);
+
+        Util.setIsSubscribed (this.resultsItemBank.scrollPosition (), enable);
+        Util.setIsSubscribed (this.resultsItemBank.cursorIndex (), enable);
+        Util.setIsSubscribed (this.prefetchBank.scrollPosition (), enable);
+        Util.setIsSubscribed (this.prefetchBank.itemCount (), enable);
+        for (int i = 0; i < this.prefetchBank.getSizeOfBank (); i++)
+        {
+            final BrowserItem item = this.prefetchBank.getItemAt (i);
+            Util.setIsSubscribed (item.exists (), enable);
+            Util.setIsSubscribed (item.name (), enable);
+        }
     }
 
 
@@ -254,6 +293,8 @@ public class BrowserImpl extends AbstractBrowser
             this.browser.commit ();
         else
             this.browser.cancel ();
+
+        this.selectResultList ();
     }
 
 
@@ -270,6 +311,9 @@ public class BrowserImpl extends AbstractBrowser
     public void selectPreviousResult ()
     {
         this.cursorResult.selectPrevious ();
+
+        if (this.selectedPosition > 0)
+            this.setSelectedPosition (this.selectedPosition - 1);
     }
 
 
@@ -278,6 +322,9 @@ public class BrowserImpl extends AbstractBrowser
     public void selectNextResult ()
     {
         this.cursorResult.selectNext ();
+
+        if (this.selectedPosition >= 0 && this.selectedPosition < this.prefetchBank.itemCount ().get () - 1)
+            this.setSelectedPosition (this.selectedPosition + 1);
     }
 
 
@@ -289,38 +336,205 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    private IBrowserColumn [] createFilterColumns (final int count, final int numFilterColumnEntries)
+    {
+        final IBrowserColumn [] columns = new IBrowserColumn [count];
+        for (int i = 0; i < count; i++)
+        {
+            final BrowserColumnImpl column = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
+            column.addCursorNameObserver (name -> this.selectResultList ());
+            columns[i] = column;
+        }
+        return columns;
+    }
+
+
+    private IBrowserColumnItem [] createResultData (final int count)
+    {
+        final IBrowserColumnItem [] items = new IBrowserColumnItem [count];
+        for (int i = 0; i < count; i++)
+            items[i] = new CachedResultItem (this.resultsItemBank.getItemAt (i), i);
+        return items;
+    }
+
+
     /**
-     * Select the previous result page.
+     * Update the position of the selected result from the result bank of the DAW.
      */
-    public void previousResultPage ()
+    private void updateSelectedPosition ()
     {
-        this.resultsItemBank.scrollPageBackwards ();
+        final int cursorIndex = this.resultsItemBank.cursorIndex ().get ();
+        if (cursorIndex >= 0)
+            this.setSelectedPosition (this.resultsItemBank.scrollPosition ().get () + cursorIndex);
     }
 
 
     /**
-     * Select the next result page.
+     * Set the position of the selected result and move the pre-fetch bank to the pages around it.
+     *
+     * @param position The absolute position of the selected result
      */
-    public void nextResultPage ()
+    private void setSelectedPosition (final int position)
     {
-        this.resultsItemBank.scrollPageForwards ();
+        this.selectedPosition = position;
+        this.prefetchPosition = Math.max (0, this.getResultPageStart () - this.numResults);
+        this.prefetchBank.scrollPosition ().set (this.prefetchPosition);
     }
 
 
-    private IBrowserColumn [] createFilterColumns (final int count, final int numFilterColumnEntries)
+    /**
+     * Get the absolute position of the first result on the page of the selected result.
+     *
+     * @return The position or -1 if the position of the selected result is not known
+     */
+    private int getResultPageStart ()
     {
-        final IBrowserColumn [] columns = new IBrowserColumn [count];
-        for (int i = 0; i < count; i++)
-            columns[i] = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
-        return columns;
+        return this.selectedPosition < 0 ? -1 : this.selectedPosition / this.numResults * this.numResults;
     }
 
 
-    private IBrowserColumnItem [] createResultData (final int count)
+    /**
+     * Store the name of a result of the pre-fetch bank. Names are ignored while the bank is still
+     * moving to its new position, since it is unknown if they belong to the old or new one.
+     *
+     * @param index The index of the result in the pre-fetch bank
+     * @param item The result item
+     * @param name The name of the result
+     */
+    private void cacheResult (final int index, final BrowserItem item, final String name)
     {
-        final IBrowserColumnItem [] items = new IBrowserColumnItem [count];
-        for (int i = 0; i < count; i++)
-            items[i] = new BrowserColumnItemImpl (this.resultsItemBank.getItemAt (i), i);
-        return items;
+        if (item.exists ().get () && !name.isEmpty () && this.prefetchBank.scrollPosition ().get () == this.prefetchPosition)
+            this.resultCache.put (this.prefetchPosition + index, name);
+    }
+
+
+    /**
+     * The filter combination might have changed, e.g. the browser was opened or closed, a filter or
+     * the content type was selected. Switches to the cached results of the filter combination.
+     */
+    private void selectResultList ()
+    {
+        this.resultCache.select (this.getFilterKey (), this.prefetchBank.itemCount ().get ());
+        this.resetSelectedPosition ();
+    }
+
+
+    /**
+     * The number of results has changed, e.g. a search was entered. Only the cached results of the
+     * current filter combination are dropped.
+     *
+     * @param count The number of results
+     */
+    private void updateItemCount (final int count)
+    {
+        this.resultCache.setItemCount (count);
+        this.resetSelectedPosition ();
+    }
+
+
+    /**
+     * Forget the position of the selected result and request it again from the result bank.
+     */
+    private void resetSelectedPosition ()
+    {
+        this.selectedPosition = -1;
+        this.updateSelectedPosition ();
+    }
+
+
+    /**
+     * Get a text which identifies the current filter combination: the content type and the
+     * selected item of each filter column.
+     *
+     * @return The key
+     */
+    private String getFilterKey ()
+    {
+        final StringBuilder key = new StringBuilder ().append (this.browser.selectedContentTypeIndex ().get ());
+        for (final IBrowserColumn column: this.columnData)
+            key.append ('\n').append (column.getCursorName ());
+        return key.toString ();
+    }
+
+
+    /**
+     * A result item which is served from the result cache if the result page of the DAW is not yet
+     * up to date with the selected result.
+     */
+    private class CachedResultItem extends BrowserColumnItemImpl
+    {
+        /**
+         * Constructor.
+         *
+         * @param item The item
+         * @param index The index of the item
+         */
+        public CachedResultItem (final BrowserItem item, final int index)
+        {
+            super (item, index);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean doesExist ()
+        {
+            final int position = this.getPosition ();
+            return position < 0 ? super.doesExist () : position < BrowserImpl.this.prefetchBank.itemCount ().get ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getName ()
+        {
+            final String name = this.getCachedName ();
+            return name == null ? super.getName () : name;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getName (final int limit)
+        {
+            final String name = this.getCachedName ();
+            return name == null ? super.getName (limit) : StringUtils.optimizeName (name, limit);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isSelected ()
+        {
+            final int position = this.getPosition ();
+            return position < 0 ? super.isSelected () : position == BrowserImpl.this.selectedPosition;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getPosition ()
+        {
+            final int pageStart = BrowserImpl.this.getResultPageStart ();
+            return pageStart < 0 ? -1 : pageStart + this.getIndex ();
+        }
+
+
+        /**
+         * Get the name of the result from the cache.
+         *
+         * @return The name, an empty text if it is not yet known, null if the DAW result page
+         *         should be used
+         */
+        private String getCachedName ()
+        {
+            final int position = this.getPosition ();
+            if (position < 0)
+                return null;
+            if (position == BrowserImpl.this.resultsItemBank.scrollPosition ().get () + this.getIndex () && super.doesExist ())
+                return null;
+            final String name = BrowserImpl.this.resultCache.get (position);
+            return name == null ? "" : name;
+        }
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.daw.NoteOccurrenceType;
@@ -37,6 +38,7 @@ import java.util.List;
 public class CursorClipImpl implements INoteClip
 {
     private final ControllerHost     host;
+    private final ChangeEpochs       changeEpochs;
     private final IValueChanger      valueChanger;
     private final int                numSteps;
     private final int                numRows;
@@ -52,14 +54,16 @@ public class CursorClipImpl implements INoteClip
      * Constructor.
      *
      * @param host The host
+     * @param changeEpochs Notified about changes of the notes, the playing step and the loop
      * @param cursorTrack The cursor track
      * @param valueChanger The value changer
      * @param numSteps The number of steps of the clip to monitor
      * @param numRows The number of note rows of the clip to monitor
      */
-    public CursorClipImpl (final ControllerHost host, final CursorTrack cursorTrack, final IValueChanger valueChanger, final int numSteps, final int numRows)
+    public CursorClipImpl (final ControllerHost host, final ChangeEpochs changeEpochs, final CursorTrack cursorTrack, final IValueChanger valueChanger, final int numSteps, final int numRows)
     {
         this.host = host;
+        this.changeEpochs = changeEpochs;
         this.valueChanger = valueChanger;
 
         this.numSteps = numSteps;
@@ -88,6 +92,15 @@ public class CursorClipImpl implements INoteClip
         this.launcherClip.isPinned ().markInterested ();
 
         this.launcherClip.getTrack ().canHoldNoteData ().markInterested ();
+
+        // Redraw the sequencer views if the playing step or the loop changes
+        this.launcherClip.exists ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.STEPS));
+        this.launcherClip.playingStep ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.STEPS));
+        this.launcherClip.getLoopStart ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.STEPS));
+        this.launcherClip.getLoopLength ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.STEPS));
+        this.launcherClip.getPlayStart ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.STEPS));
+        this.launcherClip.getPlayStop ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.STEPS));
+        this.launcherClip.color ().addValueObserver ( (red, green, blue) -> changeEpochs.bump (ChangeEpochs.Domain.STEPS));
     }
 
 
@@ -1166,6 +1179,7 @@ public class CursorClipImpl implements INoteClip
         }
 
         this.getUpdateableStep (channel, step, note).updateData (noteStep);
+        this.changeEpochs.bump (ChangeEpochs.Domain.STEPS);
     }
 
 
@@ -13,8 +13,10 @@ import de.mossgrabers.bitwig.framework.osc.OpenSoundControlMessageImpl;
 import de.mossgrabers.bitwig.framework.osc.OpenSoundControlServerImpl;
 import de.mossgrabers.bitwig.framework.usb.UsbDeviceImpl;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.daw.SubscriptionProfiler;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.graphics.IBitmap;
@@ -26,6 +28,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
 import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.api.graphics.BitmapFormat;
 import com.bitwig.extension.api.opensoundcontrol.OscAddressSpace;
@@ -90,8 +93,11 @@ public class HostImpl implements IHost
         CAPABILITIES.add (Capability.HAS_BROWSER_PREVIEW);
     }
 
-    private final ControllerHost   host;
-    private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final ControllerHost       host;
+    private final List<IUsbDevice>     usbDevices           = new ArrayList<> ();
+    private final TimerWheel           timerWheel           = new TimerWheel (this);
+    private final SubscriptionProfiler subscriptionProfiler = new SubscriptionProfiler ();
+    private final ChangeEpochs         changeEpochs         = new ChangeEpochs ();
 
 
     /**
@@ -139,6 +145,30 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public SubscriptionProfiler getSubscriptionProfiler ()
+    {
+        return this.subscriptionProfiler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ChangeEpochs getChangeEpochs ()
+    {
+        return this.changeEpochs;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void error (final String text)
@@ -87,7 +87,7 @@ public class ModelImpl extends AbstractModel
         this.rootTrackGroup = proj.getRootTrackGroup ();
         this.project = new ProjectImpl (this.valueChanger, proj, bwApplication);
 
-        this.transport = new TransportImpl (controllerHost, this.application, this.valueChanger);
+        this.transport = new TransportImpl (controllerHost, this.application, this.valueChanger, this.host.getChangeEpochs ());
         this.arranger = new ArrangerImpl (bwArranger);
         final int numMarkers = modelSetup.getNumMarkers ();
         if (numMarkers > 0)
@@ -256,7 +256,7 @@ public class ModelImpl extends AbstractModel
     @Override
     public INoteClip getNoteClip (final int cols, final int rows)
     {
-        return this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.bwCursorTrack, this.valueChanger, cols, rows));
+        return this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.host.getChangeEpochs (), this.bwCursorTrack, this.valueChanger, cols, rows));
     }
 
 
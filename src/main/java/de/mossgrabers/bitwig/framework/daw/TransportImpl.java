@@ -9,6 +9,7 @@ import de.mossgrabers.bitwig.framework.daw.data.RangedValueImpl;
 import de.mossgrabers.bitwig.framework.daw.data.RawParameterImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
@@ -19,11 +20,13 @@ import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.BeatTimeFormatter;
+import com.bitwig.extension.controller.api.BooleanValue;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.TimeSignatureValue;
 import com.bitwig.extension.controller.api.Transport;
 
 import java.text.DecimalFormat;
+import java.util.List;
 
 
 /**
@@ -61,8 +64,9 @@ public class TransportImpl implements ITransport
      * @param host The host
      * @param application The application
      * @param valueChanger The value changer
+     * @param changeEpochs Notified about changes of the play and record states
      */
-    public TransportImpl (final ControllerHost host, final IApplication application, final IValueChanger valueChanger)
+    public TransportImpl (final ControllerHost host, final IApplication application, final IValueChanger valueChanger, final ChangeEpochs changeEpochs)
     {
         this.host = host;
         this.application = application;
@@ -91,6 +95,10 @@ public class TransportImpl implements ITransport
         this.transport.defaultLaunchQuantization ().markInterested ();
         this.transport.isFillModeActive ().markInterested ();
 
+        // Redraw the grid views which display the play or record state
+        for (final BooleanValue state: List.of (this.transport.isPlaying (), this.transport.isArrangerRecordEnabled (), this.transport.isArrangerOverdubEnabled (), this.transport.isClipLauncherOverdubEnabled ()))
+            state.addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.TRANSPORT));
+
         this.crossfadeParameter = new ParameterImpl (valueChanger, this.transport.crossfade ());
         this.metronomeVolumeParameter = new RangedValueImpl ("Metronome Volume", valueChanger, this.transport.metronomeVolume ());
         this.tempoParameter = new RawParameterImpl (valueChanger, this.transport.tempo (), TransportConstants.MIN_TEMPO, TransportConstants.MAX_TEMPO);
@@ -131,6 +131,17 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     }
 
 
+    /**
+     * Register an observer for the name of the selected filter item.
+     *
+     * @param observer The observer
+     */
+    public void addCursorNameObserver (final IValueObserver<String> observer)
+    {
+        this.cursorResult.name ().addValueObserver (observer::update);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public String getCursorName (final int limit)
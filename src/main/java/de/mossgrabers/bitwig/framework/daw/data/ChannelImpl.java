@@ -9,7 +9,9 @@ import de.mossgrabers.bitwig.framework.daw.data.bank.AbstractChannelBankImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.SendBankImpl;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.VuMeter;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.daw.data.IParameter;
@@ -19,10 +21,12 @@ import de.mossgrabers.framework.daw.data.empty.EmptySendBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.IValueObserver;
 
+import com.bitwig.extension.controller.api.BooleanValue;
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.InsertionPoint;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
+import java.util.List;
 import java.util.UUID;
 
 
@@ -42,12 +46,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     private final IParameter                    volumeParameter;
     private final IParameter                    panParameter;
     private final ISendBank                     sendBank;
-
-    private int                                 vuLeft;
-    private int                                 vuRight;
-    private int                                 vuPeakLeft;
-    private int                                 vuPeakRight;
-    private int                                 vuPeakLastVolume;
+    private final VuMeter                       vuMeter        = new VuMeter ();
 
 
     /**
@@ -86,6 +85,12 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         channel.isMutedBySolo ().markInterested ();
         channel.color ().markInterested ();
 
+        // Redraw the grid views if anything changes which is displayed on their pads
+        final ChangeEpochs changeEpochs = host.getChangeEpochs ();
+        for (final BooleanValue state: List.of (channel.exists (), channel.isActivated (), channel.mute (), channel.solo (), channel.isMutedBySolo ()))
+            state.addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.CHANNELS));
+        channel.color ().addValueObserver ( (red, green, blue) -> changeEpochs.bump (ChangeEpochs.Domain.CHANNELS));
+
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index);
 
@@ -400,7 +405,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVu ()
     {
-        return (this.vuLeft + this.vuRight) * this.valueChanger.getUpperBound () / MAX_RESOLUTION / 2;
+        return this.scaleVu ((this.vuMeter.getLevel (0) + this.vuMeter.getLevel (1)) / 2);
     }
 
 
@@ -408,7 +413,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuLeft ()
     {
-        return this.vuLeft * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.scaleVu (this.vuMeter.getLevel (0));
     }
 
 
@@ -416,7 +421,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuRight ()
     {
-        return this.vuRight * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.scaleVu (this.vuMeter.getLevel (1));
     }
 
 
@@ -424,12 +429,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuPeakLeft ()
     {
-        this.checkPeakVolume ();
-
-        final int vuLeftAdjusted = this.getVuLeft ();
-        if (vuLeftAdjusted > this.vuPeakLeft)
-            this.vuPeakLeft = vuLeftAdjusted;
-        return this.vuPeakLeft;
+        return this.scaleVu (this.vuMeter.getPeak (0));
     }
 
 
@@ -437,26 +437,27 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuPeakRight ()
     {
-        this.checkPeakVolume ();
+        return this.scaleVu (this.vuMeter.getPeak (1));
+    }
+
 
-        final int vuRightAdjusted = this.getVuRight ();
-        if (vuRightAdjusted > this.vuPeakRight)
-            this.vuPeakRight = vuRightAdjusted;
-        return this.vuPeakRight;
+    /** {@inheritDoc} */
+    @Override
+    public void setVuBallistics (final int attackMillis, final int releaseMillis, final int peakHoldMillis)
+    {
+        this.vuMeter.setBallistics (attackMillis, releaseMillis, peakHoldMillis);
     }
 
 
     /**
-     * If the volume has changed, reset the maximum peak value.
+     * Scale a normalized meter level to the range of the value changer.
+     *
+     * @param level The level in the range of [0..1[
+     * @return The scaled level
      */
-    protected void checkPeakVolume ()
+    private int scaleVu (final double level)
     {
-        final int volume = this.volumeParameter.getValue ();
-        if (this.vuPeakLastVolume == volume)
-            return;
-        this.vuPeakLastVolume = volume;
-        this.vuPeakLeft = 0;
-        this.vuPeakRight = 0;
+        return (int) (level * this.valueChanger.getUpperBound ());
     }
 
 
@@ -547,7 +548,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     {
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuLeft = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        this.vuMeter.setValue (0, (value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value) / (double) MAX_RESOLUTION);
     }
 
 
@@ -555,6 +556,6 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     {
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        this.vuMeter.setValue (1, (value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value) / (double) MAX_RESOLUTION);
     }
 }
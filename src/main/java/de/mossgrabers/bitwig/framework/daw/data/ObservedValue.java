@@ -0,0 +1,87 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw.data;
+
+import de.mossgrabers.framework.daw.SubscriptionProfiler;
+
+import com.bitwig.extension.controller.api.Value;
+
+
+/**
+ * Wraps an observed Bitwig value. Reads are counted by the subscription profiler. If the profiler
+ * is set to subscribe on first read, the value stays unsubscribed until it is read.
+ *
+ * @param <V> The type of the value
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ObservedValue<V extends Value<?>> implements SubscriptionProfiler.ISubscription
+{
+    private final V                          value;
+    private final SubscriptionProfiler       profiler;
+    private final SubscriptionProfiler.Entry entry;
+    private boolean                          isEnabled    = true;
+    private boolean                          wasRead      = false;
+    private boolean                          isSubscribed = true;
+
+
+    /**
+     * Constructor. Marks the value as interested, therefore must be called during initialization.
+     *
+     * @param profiler The subscription profiler
+     * @param name The name of the kind of the value, e.g. "Slot.isPlaying"
+     * @param value The value to observe
+     */
+    public ObservedValue (final SubscriptionProfiler profiler, final String name, final V value)
+    {
+        this.value = value;
+        this.profiler = profiler;
+
+        value.markInterested ();
+        this.entry = profiler.register (name, this);
+        this.updateSubscription ();
+    }
+
+
+    /**
+     * Get the value for reading. Counts the read and subscribes the value on the first read.
+     *
+     * @return The value
+     */
+    public V get ()
+    {
+        this.entry.countRead ();
+        if (!this.wasRead)
+        {
+            this.wasRead = true;
+            this.updateSubscription ();
+        }
+        return this.value;
+    }
+
+
+    /**
+     * Enable or disable the observation of the value.
+     *
+     * @param enable True to enable
+     */
+    public void enableObservers (final boolean enable)
+    {
+        this.isEnabled = enable;
+        this.updateSubscription ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSubscription ()
+    {
+        final boolean subscribe = this.isEnabled && (this.wasRead || !this.profiler.isSubscribeOnFirstRead ());
+        if (subscribe == this.isSubscribed)
+            return;
+        this.isSubscribed = subscribe;
+        Util.setIsSubscribed (this.value, subscribe);
+    }
+}
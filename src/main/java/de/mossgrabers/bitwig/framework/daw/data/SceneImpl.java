@@ -5,12 +5,16 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.SubscriptionProfiler;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.observer.IValueObserver;
 
+import com.bitwig.extension.controller.api.BooleanValue;
+import com.bitwig.extension.controller.api.IntegerValue;
 import com.bitwig.extension.controller.api.Scene;
 import com.bitwig.extension.controller.api.SettableColorValue;
+import com.bitwig.extension.controller.api.StringValue;
 
 
 /**
@@ -20,25 +24,30 @@ import com.bitwig.extension.controller.api.SettableColorValue;
  */
 public class SceneImpl extends AbstractItemImpl implements IScene
 {
-    private final Scene scene;
+    private final Scene                             scene;
+    private final ObservedValue<BooleanValue>       exists;
+    private final ObservedValue<StringValue>        name;
+    private final ObservedValue<IntegerValue>       sceneIndex;
+    private final ObservedValue<SettableColorValue> color;
 
 
     /**
      * Constructor.
      *
+     * @param profiler The profiler for the subscriptions of the observed values
      * @param scene The scene
      * @param index The index of the scene
      */
-    public SceneImpl (final Scene scene, final int index)
+    public SceneImpl (final SubscriptionProfiler profiler, final Scene scene, final int index)
     {
         super (index);
 
         this.scene = scene;
 
-        scene.exists ().markInterested ();
-        scene.name ().markInterested ();
-        scene.sceneIndex ().markInterested ();
-        scene.color ().markInterested ();
+        this.exists = new ObservedValue<> (profiler, "Scene.exists", scene.exists ());
+        this.name = new ObservedValue<> (profiler, "Scene.name", scene.name ());
+        this.sceneIndex = new ObservedValue<> (profiler, "Scene.sceneIndex", scene.sceneIndex ());
+        this.color = new ObservedValue<> (profiler, "Scene.color", scene.color ());
         scene.addIsSelectedInEditorObserver (this::setSelected);
     }
 
@@ -47,10 +56,10 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public void enableObservers (final boolean enable)
     {
-        Util.setIsSubscribed (this.scene.exists (), enable);
-        Util.setIsSubscribed (this.scene.name (), enable);
-        Util.setIsSubscribed (this.scene.sceneIndex (), enable);
-        Util.setIsSubscribed (this.scene.color (), enable);
+        this.exists.enableObservers (enable);
+        this.name.enableObservers (enable);
+        this.sceneIndex.enableObservers (enable);
+        this.color.enableObservers (enable);
     }
 
 
@@ -58,7 +67,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public boolean doesExist ()
     {
-        return this.scene.exists ().get ();
+        return this.exists.get ().get ();
     }
 
 
@@ -66,7 +75,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public String getName ()
     {
-        return this.scene.name ().get ();
+        return this.name.get ().get ();
     }
 
 
@@ -74,7 +83,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public String getName (final int limit)
     {
-        return this.scene.name ().getLimited (limit);
+        return this.name.get ().getLimited (limit);
     }
 
 
@@ -82,7 +91,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public void addNameObserver (final IValueObserver<String> observer)
     {
-        this.scene.name ().addValueObserver (observer::update);
+        this.name.get ().addValueObserver (observer::update);
     }
 
 
@@ -98,7 +107,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.scene.color ();
+        final SettableColorValue color = this.color.get ();
         return new ColorEx (color.red (), color.green (), color.blue ());
     }
 
@@ -115,7 +124,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public int getPosition ()
     {
-        return this.scene.sceneIndex ().get ();
+        return this.sceneIndex.get ().get ();
     }
 
 
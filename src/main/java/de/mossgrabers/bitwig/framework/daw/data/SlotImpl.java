@@ -5,13 +5,20 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.ChangeEpochs;
+import de.mossgrabers.framework.daw.SubscriptionProfiler;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IValueObserver;
 
+import com.bitwig.extension.controller.api.BooleanValue;
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
 import com.bitwig.extension.controller.api.ColorValue;
+import com.bitwig.extension.controller.api.IntegerValue;
+import com.bitwig.extension.controller.api.StringValue;
+
+import java.util.List;
 
 
 /**
@@ -21,37 +28,55 @@ import com.bitwig.extension.controller.api.ColorValue;
  */
 public class SlotImpl extends AbstractItemImpl implements ISlot
 {
-    private final ITrack           track;
-    private final ClipLauncherSlot slot;
+    private final ITrack                      track;
+    private final ClipLauncherSlot            slot;
+    private final ObservedValue<BooleanValue> exists;
+    private final ObservedValue<IntegerValue> sceneIndex;
+    private final ObservedValue<StringValue>  name;
+    private final ObservedValue<BooleanValue> hasContent;
+    private final ObservedValue<ColorValue>   color;
+    private final ObservedValue<BooleanValue> isPlaying;
+    private final ObservedValue<BooleanValue> isPlaybackQueued;
+    private final ObservedValue<BooleanValue> isRecording;
+    private final ObservedValue<BooleanValue> isRecordingQueued;
+    private final ObservedValue<BooleanValue> isStopQueued;
+    private final ObservedValue<BooleanValue> isSelected;
 
 
     /**
      * Constructor.
      *
+     * @param profiler The profiler for the subscriptions of the observed values
+     * @param changeEpochs Notified about changes of the slot states
      * @param track The track which contains the slot
      * @param slot The slot
      * @param index The index of the slot
      */
-    public SlotImpl (final ITrack track, final ClipLauncherSlot slot, final int index)
+    public SlotImpl (final SubscriptionProfiler profiler, final ChangeEpochs changeEpochs, final ITrack track, final ClipLauncherSlot slot, final int index)
     {
         super (index);
 
         this.track = track;
         this.slot = slot;
 
-        slot.exists ().markInterested ();
-        slot.sceneIndex ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        this.exists = new ObservedValue<> (profiler, "Slot.exists", slot.exists ());
+        this.sceneIndex = new ObservedValue<> (profiler, "Slot.sceneIndex", slot.sceneIndex ());
+        this.name = new ObservedValue<> (profiler, "Slot.name", slot.name ());
+        this.hasContent = new ObservedValue<> (profiler, "Slot.hasContent", slot.hasContent ());
+        this.color = new ObservedValue<> (profiler, "Slot.color", slot.color ());
 
         // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        this.isPlaying = new ObservedValue<> (profiler, "Slot.isPlaying", slot.isPlaying ());
+        this.isPlaybackQueued = new ObservedValue<> (profiler, "Slot.isPlaybackQueued", slot.isPlaybackQueued ());
+        this.isRecording = new ObservedValue<> (profiler, "Slot.isRecording", slot.isRecording ());
+        this.isRecordingQueued = new ObservedValue<> (profiler, "Slot.isRecordingQueued", slot.isRecordingQueued ());
+        this.isStopQueued = new ObservedValue<> (profiler, "Slot.isStopQueued", slot.isStopQueued ());
+        this.isSelected = new ObservedValue<> (profiler, "Slot.isSelected", slot.isSelected ());
+
+        // Redraw the session views if anything changes which is displayed on their pads
+        for (final BooleanValue state: List.of (slot.exists (), slot.hasContent (), slot.isPlaying (), slot.isPlaybackQueued (), slot.isRecording (), slot.isRecordingQueued (), slot.isStopQueued (), slot.isSelected ()))
+            state.addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.SLOTS));
+        slot.color ().addValueObserver ( (red, green, blue) -> changeEpochs.bump (ChangeEpochs.Domain.SLOTS));
     }
 
 
@@ -59,17 +84,17 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public void enableObservers (final boolean enable)
     {
-        Util.setIsSubscribed (this.slot.exists (), enable);
-        Util.setIsSubscribed (this.slot.sceneIndex (), enable);
-        Util.setIsSubscribed (this.slot.name (), enable);
-        Util.setIsSubscribed (this.slot.hasContent (), enable);
-        Util.setIsSubscribed (this.slot.color (), enable);
-        Util.setIsSubscribed (this.slot.isPlaying (), enable);
-        Util.setIsSubscribed (this.slot.isPlaybackQueued (), enable);
-        Util.setIsSubscribed (this.slot.isRecording (), enable);
-        Util.setIsSubscribed (this.slot.isRecordingQueued (), enable);
-        Util.setIsSubscribed (this.slot.isStopQueued (), enable);
-        Util.setIsSubscribed (this.slot.isSelected (), enable);
+        this.exists.enableObservers (enable);
+        this.sceneIndex.enableObservers (enable);
+        this.name.enableObservers (enable);
+        this.hasContent.enableObservers (enable);
+        this.color.enableObservers (enable);
+        this.isPlaying.enableObservers (enable);
+        this.isPlaybackQueued.enableObservers (enable);
+        this.isRecording.enableObservers (enable);
+        this.isRecordingQueued.enableObservers (enable);
+        this.isStopQueued.enableObservers (enable);
+        this.isSelected.enableObservers (enable);
     }
 
 
@@ -77,7 +102,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean doesExist ()
     {
-        return this.slot.exists ().get ();
+        return this.exists.get ().get ();
     }
 
 
@@ -85,7 +110,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public int getPosition ()
     {
-        return this.slot.sceneIndex ().get ();
+        return this.sceneIndex.get ().get ();
     }
 
 
@@ -93,7 +118,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public String getName ()
     {
-        return this.slot.name ().get ();
+        return this.name.get ().get ();
     }
 
 
@@ -101,7 +126,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public String getName (final int limit)
     {
-        return this.slot.name ().getLimited (limit);
+        return this.name.get ().getLimited (limit);
     }
 
 
@@ -109,7 +134,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public void addNameObserver (final IValueObserver<String> observer)
     {
-        this.slot.name ().addValueObserver (observer::update);
+        this.name.get ().addValueObserver (observer::update);
     }
 
 
@@ -117,7 +142,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isSelected ()
     {
-        return this.slot.isSelected ().get ();
+        return this.isSelected.get ().get ();
     }
 
 
@@ -125,7 +150,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean hasContent ()
     {
-        return this.slot.hasContent ().get ();
+        return this.hasContent.get ().get ();
     }
 
 
@@ -133,7 +158,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isRecording ()
     {
-        return this.slot.isRecording ().get ();
+        return this.isRecording.get ().get ();
     }
 
 
@@ -141,7 +166,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isPlaying ()
     {
-        return this.slot.isPlaying ().get ();
+        return this.isPlaying.get ().get ();
     }
 
 
@@ -149,7 +174,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isPlayingQueued ()
     {
-        return this.slot.isPlaybackQueued ().get () || this.slot.isRecordingQueued ().get ();
+        return this.isPlaybackQueued.get ().get () || this.isRecordingQueued.get ().get ();
     }
 
 
@@ -157,7 +182,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isRecordingQueued ()
     {
-        return this.slot.isRecordingQueued ().get ();
+        return this.isRecordingQueued.get ().get ();
     }
 
 
@@ -165,7 +190,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isStopQueued ()
     {
-        return this.slot.isStopQueued ().get ();
+        return this.isStopQueued.get ().get ();
     }
 
 
@@ -177,7 +202,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         if (this.track.isGroup ())
             return this.track.getColor ();
 
-        final ColorValue color = this.slot.color ();
+        final ColorValue color = this.color.get ();
         return new ColorEx (color.red (), color.green (), color.blue ());
     }
 
@@ -9,6 +9,7 @@ import de.mossgrabers.bitwig.framework.daw.HostImpl;
 import de.mossgrabers.bitwig.framework.daw.ModelImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.SlotBankImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.IParameter;
@@ -26,6 +27,7 @@ import com.bitwig.extension.controller.api.PlayingNote;
 import com.bitwig.extension.controller.api.Track;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -95,6 +97,10 @@ public class TrackImpl extends ChannelImpl implements ITrack
         track.isStopped ().markInterested ();
         track.playingNotes ().addValueObserver (this::handleNotes);
 
+        final ChangeEpochs changeEpochs = host.getChangeEpochs ();
+        for (final BooleanValue state: List.of (track.isGroup (), track.isGroupExpanded (), track.arm (), track.canHoldNoteData (), track.isStopped ()))
+            state.addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.CHANNELS));
+
         this.isTopGroup = track.createParentTrack (0, 0).createEqualsValue (rootGroup);
         this.isTopGroup.markInterested ();
 
@@ -431,6 +437,9 @@ public class TrackImpl extends ChannelImpl implements ITrack
                 }
             }
         }
+
+        // The playing notes are displayed on the pads of the play and drum views
+        this.host.getChangeEpochs ().bump (ChangeEpochs.Domain.NOTES);
     }
 
 
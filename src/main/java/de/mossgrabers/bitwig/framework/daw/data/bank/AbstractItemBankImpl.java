@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw.data.bank;
 
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.daw.data.bank.AbstractItemBank;
@@ -51,6 +52,11 @@ public abstract class AbstractItemBankImpl<B extends Bank<?>, T extends IItem> e
         bank.canScrollBackwards ().markInterested ();
         bank.canScrollForwards ().markInterested ();
         bank.itemCount ().markInterested ();
+
+        // The bird's-eye views display the page position and the number of pages
+        final ChangeEpochs changeEpochs = host.getChangeEpochs ();
+        bank.scrollPosition ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.BANKS));
+        bank.itemCount ().addValueObserver (value -> changeEpochs.bump (ChangeEpochs.Domain.BANKS));
     }
 
 
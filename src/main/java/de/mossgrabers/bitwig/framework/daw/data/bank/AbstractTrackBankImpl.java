@@ -9,6 +9,7 @@ import de.mossgrabers.bitwig.framework.daw.data.CursorTrackImpl;
 import de.mossgrabers.bitwig.framework.daw.data.TrackImpl;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -153,6 +154,9 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
                 this.notifySelectionObservers (i, isSelected);
             }
         }
+
+        // The grid views depend on the selected track
+        this.host.getChangeEpochs ().bump (ChangeEpochs.Domain.CHANNELS);
     }
 
 
@@ -46,7 +46,7 @@ public class SceneBankImpl extends AbstractItemBankImpl<SceneBank, IScene> imple
 
         final SceneBank sb = this.bank.get ();
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new SceneImpl (sb.getItemAt (i), i));
+            this.items.add (new SceneImpl (host.getSubscriptionProfiler (), sb.getItemAt (i), i));
     }
 
 
@@ -46,7 +46,7 @@ public class SlotBankImpl extends AbstractItemBankImpl<ClipLauncherSlotBank, ISl
 
         final ClipLauncherSlotBank clsb = this.bank.get ();
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new SlotImpl (this.track, clsb.getItemAt (i), i));
+            this.items.add (new SlotImpl (host.getSubscriptionProfiler (), host.getChangeEpochs (), this.track, clsb.getItemAt (i), i));
     }
 
 
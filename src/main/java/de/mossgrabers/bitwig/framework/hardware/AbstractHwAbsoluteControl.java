@@ -143,19 +143,19 @@ public abstract class AbstractHwAbsoluteControl<T extends AbsoluteHardwareContro
     @Override
     public void handleValue (final double value)
     {
+        final long token = this.traceInput ();
+
         if (this.command != null)
-        {
             this.command.execute ((int) Math.round (value * 127.0));
-            return;
-        }
-
-        if (this.pitchbendCommand != null)
+        else if (this.pitchbendCommand != null)
         {
             final double v = value * 16383.0;
             final int data1 = (int) Math.min (127, Math.round (v % 128.0));
             final int data2 = (int) Math.min (127, Math.round (v / 128.0));
             this.pitchbendCommand.onPitchbend (data1, data2);
         }
+
+        this.traceDispatched (token);
     }
 
 
@@ -158,11 +158,15 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
         if (this.command == null)
             return;
 
+        final long token = this.traceInput ();
+
         // Convert the value back from the default 2s relative matcher, because we do the conversion
         // our own way
         final double a = value * 61.0;
         final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
         this.command.execute (v < 0 ? v + 128 : v);
+
+        this.traceDispatched (token);
     }
 
 
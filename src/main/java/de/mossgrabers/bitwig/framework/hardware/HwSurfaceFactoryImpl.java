@@ -85,7 +85,10 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         final String id = createID (surfaceID, outputID == null ? "LIGHT" + this.lightCounter : outputID.name ());
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final Supplier<InternalHardwareLightState> valueSupplier = new InternedLightStateSupplier ( () -> {
+            final ColorEx color = supplier.get ();
+            return color == null ? 0 : color.encode ();
+        }, encodedColor -> new RawColorLightState (ColorEx.decode (encodedColor)));
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
@@ -104,7 +107,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
 
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        final Supplier<InternalHardwareLightState> valueSupplier = new InternedLightStateSupplier (supplier, encodedColorState -> new EncodedColorLightState (encodedColorState, stateToColorFunction));
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
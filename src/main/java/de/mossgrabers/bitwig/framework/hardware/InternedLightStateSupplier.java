@@ -0,0 +1,66 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import com.bitwig.extension.controller.api.InternalHardwareLightState;
+
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+
+/**
+ * Supplies the state of a light from an encoded integer state. Since a light only switches between
+ * a few states, the created light states are kept in a small table and re-used. Therefore, no new
+ * objects are created when the hardware surface polls the light.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class InternedLightStateSupplier implements Supplier<InternalHardwareLightState>
+{
+    private static final int                             SIZE   = 8;
+
+    private final IntSupplier                            stateSupplier;
+    private final IntFunction<InternalHardwareLightState> stateFactory;
+    private final int []                                 keys   = new int [SIZE];
+    private final InternalHardwareLightState []          states = new InternalHardwareLightState [SIZE];
+    private int                                          count  = 0;
+    private int                                          next   = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param stateSupplier Supplies the encoded state of the light
+     * @param stateFactory Creates a light state from an encoded state
+     */
+    public InternedLightStateSupplier (final IntSupplier stateSupplier, final IntFunction<InternalHardwareLightState> stateFactory)
+    {
+        this.stateSupplier = stateSupplier;
+        this.stateFactory = stateFactory;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public InternalHardwareLightState get ()
+    {
+        final int key = this.stateSupplier.getAsInt ();
+        for (int i = 0; i < this.count; i++)
+        {
+            if (this.keys[i] == key)
+                return this.states[i];
+        }
+
+        // Not yet known, replace the oldest entry
+        final InternalHardwareLightState state = this.stateFactory.apply (key);
+        this.keys[this.next] = key;
+        this.states[this.next] = state;
+        this.next = (this.next + 1) % SIZE;
+        if (this.count < SIZE)
+            this.count++;
+        return state;
+    }
+}
@@ -19,7 +19,10 @@ import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExByteCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.daw.midi.SysExDispatcher;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.AbsoluteHardwareControl;
 import com.bitwig.extension.controller.api.AbsoluteHardwareValueMatcher;
@@ -41,8 +44,11 @@ import com.bitwig.extension.controller.api.RelativeHardwareValueMatcher;
  */
 public class MidiInputImpl implements IMidiInput
 {
-    private final MidiIn  port;
-    private NoteInputImpl defaultNoteInput;
+    private final MidiIn          port;
+    private final SysExDispatcher sysexDispatcher = new SysExDispatcher ();
+    private NoteInputImpl         defaultNoteInput;
+    private MidiSysExCallback     sysexCallback;
+    private boolean               isSysexObserved = false;
 
 
     /**
@@ -86,7 +92,46 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setSysexCallback (final MidiSysExCallback callback)
     {
-        this.port.setSysexCallback (callback::handleMidi);
+        this.sysexCallback = callback;
+        this.observeSysex ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexByteCallback (final MidiSysExByteCallback callback)
+    {
+        this.sysexDispatcher.setDefaultCallback (callback);
+        this.observeSysex ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addSysexByteCallback (final byte [] prefix, final MidiSysExByteCallback callback)
+    {
+        this.sysexDispatcher.addCallback (prefix, callback);
+        this.observeSysex ();
+    }
+
+
+    /**
+     * Register the one callback at the port, which decodes the hex string only once and hands the
+     * bytes to all callbacks. The string callback is still supported for compatibility.
+     */
+    private void observeSysex ()
+    {
+        if (this.isSysexObserved)
+            return;
+        this.isSysexObserved = true;
+
+        this.port.setSysexCallback (data -> {
+            final MidiSysExCallback callback = this.sysexCallback;
+            if (callback != null)
+                callback.handleMidi (data);
+            if (this.sysexDispatcher.hasCallbacks ())
+                this.sysexDispatcher.dispatch (StringUtils.fromHexStrToBytes (data));
+        });
     }
 
 
@@ -48,6 +48,7 @@ class MidiOutputImpl extends AbstractMidiOutput
     public void sendSysex (final byte [] data)
     {
         this.port.sendSysex (data);
+        this.traceOutput ();
     }
 
 
@@ -56,6 +57,7 @@ class MidiOutputImpl extends AbstractMidiOutput
     public void sendSysex (final String data)
     {
         this.port.sendSysex (data);
+        this.traceOutput ();
     }
 
 
@@ -64,5 +66,6 @@ class MidiOutputImpl extends AbstractMidiOutput
     protected void sendMidiShort (final int status, final int data1, final int data2)
     {
         this.port.sendMidi (status, data1, data2);
+        this.traceOutput ();
     }
 }
\ No newline at end of file
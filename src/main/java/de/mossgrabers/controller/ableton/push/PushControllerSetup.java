@@ -281,34 +281,35 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         modeManager.register (Modes.NOTE, new NoteMode (surface, this.model));
         modeManager.register (Modes.FRAME, new FrameMode (surface, this.model));
 
-        modeManager.register (Modes.GROOVE, new GrooveMode (surface, this.model));
-        modeManager.register (Modes.REC_ARM, new QuantizeMode (surface, this.model));
-        modeManager.register (Modes.ACCENT, new AccentMode (surface, this.model));
+        // Rarely used modes are only created on first use
+        modeManager.register (Modes.GROOVE, () -> new GrooveMode (surface, this.model));
+        modeManager.register (Modes.REC_ARM, () -> new QuantizeMode (surface, this.model));
+        modeManager.register (Modes.ACCENT, () -> new AccentMode (surface, this.model));
 
         modeManager.register (Modes.SCALES, new ScalesMode (surface, this.model));
-        modeManager.register (Modes.SCALE_LAYOUT, new ScaleLayoutMode (surface, this.model));
-        modeManager.register (Modes.FIXED, new FixedMode (surface, this.model));
-        modeManager.register (Modes.RIBBON, new RibbonMode (surface, this.model));
+        modeManager.register (Modes.SCALE_LAYOUT, () -> new ScaleLayoutMode (surface, this.model));
+        modeManager.register (Modes.FIXED, () -> new FixedMode (surface, this.model));
+        modeManager.register (Modes.RIBBON, () -> new RibbonMode (surface, this.model));
         modeManager.register (Modes.VIEW_SELECT, new NoteViewSelectMode (surface, this.model));
 
-        modeManager.register (Modes.AUTOMATION, new AutomationSelectionMode (surface, this.model));
-        modeManager.register (Modes.TRANSPORT, new MetronomeMode (surface, this.model));
-        modeManager.register (Modes.MARKERS, new MarkerMode (surface, this.model));
+        modeManager.register (Modes.AUTOMATION, () -> new AutomationSelectionMode (surface, this.model));
+        modeManager.register (Modes.TRANSPORT, () -> new MetronomeMode (surface, this.model));
+        modeManager.register (Modes.MARKERS, () -> new MarkerMode (surface, this.model));
         modeManager.register (Modes.USER, new UserMode (surface, this.model));
 
         if (this.isPush2)
         {
-            modeManager.register (Modes.SETUP, new SetupMode (surface, this.model));
-            modeManager.register (Modes.INFO, new InfoMode (surface, this.model));
+            modeManager.register (Modes.SETUP, () -> new SetupMode (surface, this.model));
+            modeManager.register (Modes.INFO, () -> new InfoMode (surface, this.model));
         }
         else
-            modeManager.register (Modes.CONFIGURATION, new ConfigurationMode (surface, this.model));
+            modeManager.register (Modes.CONFIGURATION, () -> new ConfigurationMode (surface, this.model));
 
         modeManager.register (Modes.SESSION, new SessionMode (surface, this.model, this.sceneBank64));
         modeManager.register (Modes.SESSION_VIEW_SELECT, new SessionViewSelectMode (surface, this.model));
 
-        modeManager.register (Modes.REPEAT_NOTE, new NoteRepeatMode (surface, this.model));
-        modeManager.register (Modes.ADD_TRACK, new AddTrackMode (surface, this.model));
+        modeManager.register (Modes.REPEAT_NOTE, () -> new NoteRepeatMode (surface, this.model));
+        modeManager.register (Modes.ADD_TRACK, () -> new AddTrackMode (surface, this.model));
     }
 
 
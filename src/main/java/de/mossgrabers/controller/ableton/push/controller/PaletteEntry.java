@@ -26,7 +26,8 @@ public class PaletteEntry
     private static final int PALETTE_MESSAGE_OUT_ID = 0x03;
     private static final int PALETTE_MESSAGE_IN_ID  = 0x04;
 
-    private static final int MESSAGE_LENGTH         = 17;
+    /** The length of the message without the Push 2 system exclusive header and end byte. */
+    private static final int PAYLOAD_LENGTH         = 10;
 
     private int              red                    = -1;
     private int              green                  = -1;
@@ -55,24 +56,27 @@ public class PaletteEntry
      * Test if the given data is a valid palette entry message.
      *
      * @param data The data to test
+     * @param offset The offset of the payload following the Push 2 system exclusive header
+     * @param length The length of the payload without the end byte
      * @return True if valid
      */
-    public static boolean isValid (final int [] data)
+    public static boolean isValid (final byte [] data, final int offset, final int length)
     {
-        return data.length == MESSAGE_LENGTH && data[6] == PALETTE_MESSAGE_IN_ID;
+        return length == PAYLOAD_LENGTH && data[offset] == PALETTE_MESSAGE_IN_ID;
     }
 
 
     /**
      * Test if the received data is the same as the already stored one.
      *
-     * @param data The SysEx data of a received color palette entry. Must be 17 characters long.
+     * @param data The SysEx data of a received color palette entry
+     * @param offset The offset of the payload following the Push 2 system exclusive header
      * @return True if the given color is different than the color already stored in this object
      */
-    public boolean requiresUpdate (final int [] data)
+    public boolean requiresUpdate (final byte [] data, final int offset)
     {
-        this.white = data[14] + (data[15] << 7);
-        return this.red != data[8] + (data[9] << 7) || this.green != data[10] + (data[11] << 7) || this.blue != data[12] + (data[13] << 7);
+        this.white = data[offset + 8] + (data[offset + 9] << 7);
+        return this.red != data[offset + 2] + (data[offset + 3] << 7) || this.green != data[offset + 4] + (data[offset + 5] << 7) || this.blue != data[offset + 6] + (data[offset + 7] << 7);
     }
 
 
@@ -0,0 +1,354 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ableton.push.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.TimerWheel;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Properties;
+
+
+/**
+ * Synchronizes the color palette of the Push 2 with the colors of the default palette. Several
+ * palette entries are requested at the same time. Entries which differ are written and only these
+ * are read again to verify them.
+ *
+ * The hash of the palette is stored for the serial number of the device after a successful
+ * synchronization. If it matches on the next start, only a few entries are checked and the full
+ * synchronization is skipped if they are correct.
+ *
+ * Each request has a timeout timer, which is cancelled when the response arrives.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PaletteSync
+{
+    /** The number of palette entries. */
+    public static final int              NUM_ENTRIES  = 128;
+
+    /** The number of requests which are sent without waiting for the response. */
+    private static final int             WINDOW_SIZE  = 16;
+    /** Timeout in milliseconds after which a request is sent again. */
+    private static final int             TIMEOUT      = 1000;
+    /** The entries to check if the palette was already synchronized. */
+    private static final int []          SPOT_CHECKS  =
+    {
+        0,
+        5,
+        70,
+        96,
+        127
+    };
+
+    private static final String          CACHE_FILE   = "Push2-Palette.properties";
+
+    private final IHost                  host;
+    private final PushControlSurface     surface;
+    private final PaletteEntry []        entries      = new PaletteEntry [NUM_ENTRIES];
+    private final String                 paletteHash;
+
+    private final int []                 queue        = new int [2 * NUM_ENTRIES];
+    private final boolean []             inFlight     = new boolean [NUM_ENTRIES];
+    private final TimerWheel.Deadline [] timeouts     = new TimerWheel.Deadline [NUM_ENTRIES];
+    private int                          queueHead    = 0;
+    private int                          queueTail    = 0;
+    private int                          numInFlight  = 0;
+    private boolean                      hasWritten   = false;
+    private boolean                      isSpotCheck  = false;
+    private boolean                      isRunning    = false;
+    private int                          serialNumber = -1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param surface The Push 2 surface to which to send the requests
+     */
+    public PaletteSync (final IHost host, final PushControlSurface surface)
+    {
+        this.host = host;
+        this.surface = surface;
+
+        int hash = 1;
+        for (int i = 0; i < NUM_ENTRIES; i++)
+        {
+            final int [] color = PushColorManager.getPaletteColorRGB (i);
+            this.entries[i] = new PaletteEntry (color);
+            hash = 31 * hash + (color[0] << 16 | color[1] << 8 | color[2]);
+        }
+        this.paletteHash = Integer.toHexString (hash);
+    }
+
+
+    /**
+     * Start the synchronization.
+     *
+     * @param serialNumber The serial number of the device, -1 if unknown
+     */
+    public synchronized void start (final int serialNumber)
+    {
+        if (this.isRunning)
+            return;
+        this.isRunning = true;
+        this.serialNumber = serialNumber;
+        this.hasWritten = false;
+        this.queueHead = 0;
+        this.queueTail = 0;
+        this.numInFlight = 0;
+        Arrays.fill (this.inFlight, false);
+
+        this.isSpotCheck = serialNumber > 0 && this.paletteHash.equals (this.loadCache ().getProperty (Integer.toString (serialNumber)));
+        if (this.isSpotCheck)
+        {
+            for (final int index: SPOT_CHECKS)
+                this.enqueue (index);
+        }
+        else
+        {
+            for (int i = 0; i < NUM_ENTRIES; i++)
+                this.enqueue (i);
+        }
+        this.sendRequests ();
+    }
+
+
+    /**
+     * Handle a received color palette message.
+     *
+     * @param data The message data
+     * @param offset The offset of the payload following the Push 2 header
+     */
+    public void handleMessage (final byte [] data, final int offset)
+    {
+        final boolean isFinished;
+        final int finishedSerialNumber;
+
+        synchronized (this)
+        {
+            final int index = data[offset + 1];
+            if (!this.isRunning || !this.inFlight[index])
+                return;
+            this.inFlight[index] = false;
+            this.numInFlight--;
+            this.cancelTimeout (index);
+
+            final PaletteEntry entry = this.entries[index];
+            if (entry.requiresUpdate (data, offset))
+            {
+                if (entry.hasMaxNumberOfWriteRetriesReached ())
+                {
+                    // Cancel the whole process
+                    this.host.error ("Failed writing color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
+                    this.cancel ();
+                    return;
+                }
+
+                // A spot check failed, synchronize all other entries as well
+                if (this.isSpotCheck)
+                {
+                    this.isSpotCheck = false;
+                    for (int i = 0; i < NUM_ENTRIES; i++)
+                    {
+                        if (this.entries[i].requiresRead () && !this.inFlight[i] && !isSpotCheckEntry (i))
+                            this.enqueue (i);
+                    }
+                }
+
+                // Write the entry and read it again to verify it
+                entry.incWriteRetries ();
+                this.surface.sendPush2SysEx (entry.createUpdateMessage (index));
+                this.hasWritten = true;
+                this.enqueue (index);
+            }
+            else
+            {
+                entry.setOK ();
+
+                final int retries = entry.getWriteRetries ();
+                if (retries > 1)
+                    this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
+            }
+
+            this.sendRequests ();
+
+            isFinished = this.numInFlight == 0 && this.queueHead == this.queueTail;
+            if (isFinished)
+                this.isRunning = false;
+            finishedSerialNumber = this.serialNumber;
+        }
+
+        if (isFinished)
+            this.finish (finishedSerialNumber);
+    }
+
+
+    /**
+     * Re-apply the palette if it was changed and store the hash of the synchronized palette.
+     *
+     * @param serialNumber The serial number of the synchronized device, -1 if unknown
+     */
+    private void finish (final int serialNumber)
+    {
+        if (this.hasWritten)
+            this.surface.scheduleTask ( () -> this.surface.sendPush2SysEx (new int []
+            {
+                0x05
+            }), 1000);
+
+        if (serialNumber <= 0)
+            return;
+        final Properties cache = this.loadCache ();
+        if (this.paletteHash.equals (cache.getProperty (Integer.toString (serialNumber))))
+            return;
+        cache.setProperty (Integer.toString (serialNumber), this.paletteHash);
+        this.storeCache (cache);
+    }
+
+
+    /**
+     * Stop the synchronization and cancel all pending timeouts. Must be called while holding the
+     * lock.
+     */
+    private void cancel ()
+    {
+        this.isRunning = false;
+        for (int i = 0; i < NUM_ENTRIES; i++)
+            this.cancelTimeout (i);
+    }
+
+
+    private void cancelTimeout (final int index)
+    {
+        final TimerWheel.Deadline timeout = this.timeouts[index];
+        if (timeout == null)
+            return;
+        timeout.cancel ();
+        this.timeouts[index] = null;
+    }
+
+
+    /**
+     * Send requests from the queue until the window is full.
+     */
+    private void sendRequests ()
+    {
+        while (this.numInFlight < WINDOW_SIZE && this.queueHead != this.queueTail)
+        {
+            final int index = this.queue[this.queueHead];
+            this.queueHead = (this.queueHead + 1) % this.queue.length;
+            this.inFlight[index] = true;
+            this.numInFlight++;
+            this.sendRequest (index);
+        }
+    }
+
+
+    /**
+     * Send a request to the Push 2 to send the values of an entry of the current color palette.
+     * Sends the request again if there is no answer in time.
+     *
+     * @param index The index of the entry 0-127
+     */
+    private void sendRequest (final int index)
+    {
+        this.surface.sendPush2SysEx (new int []
+        {
+            0x04,
+            index
+        });
+        this.entries[index].incReadRetries ();
+
+        this.timeouts[index] = this.host.getTimerWheel ().schedule ( () -> {
+
+            synchronized (this)
+            {
+                this.timeouts[index] = null;
+                if (!this.isRunning || !this.inFlight[index])
+                    return;
+
+                if (this.entries[index].hasMaxNumberOfReadRetriesReached ())
+                {
+                    this.host.error ("Failed reading color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
+                    this.cancel ();
+                    return;
+                }
+
+                this.host.println ("Resending color palette entry #" + index + " request.");
+                this.sendRequest (index);
+            }
+
+        }, TIMEOUT);
+    }
+
+
+    private void enqueue (final int index)
+    {
+        this.queue[this.queueTail] = index;
+        this.queueTail = (this.queueTail + 1) % this.queue.length;
+    }
+
+
+    private static boolean isSpotCheckEntry (final int index)
+    {
+        for (final int spotCheck: SPOT_CHECKS)
+        {
+            if (spotCheck == index)
+                return true;
+        }
+        return false;
+    }
+
+
+    private Properties loadCache ()
+    {
+        final Properties cache = new Properties ();
+        final File cacheFile = getCacheFile ();
+        if (!cacheFile.exists ())
+            return cache;
+        try (final Reader reader = Files.newBufferedReader (cacheFile.toPath (), StandardCharsets.UTF_8))
+        {
+            cache.load (reader);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not read the color palette cache.", ex);
+        }
+        return cache;
+    }
+
+
+    private void storeCache (final Properties cache)
+    {
+        final File cacheFile = getCacheFile ();
+        final File folder = cacheFile.getParentFile ();
+        if (!folder.exists () && !folder.mkdirs ())
+        {
+            this.host.error ("Could not create the folder " + folder.getAbsolutePath ());
+            return;
+        }
+        try (final Writer writer = Files.newBufferedWriter (cacheFile.toPath (), StandardCharsets.UTF_8))
+        {
+            cache.store (writer, "Push 2 color palette");
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not store the color palette cache.", ex);
+        }
+    }
+
+
+    private static File getCacheFile ()
+    {
+        return new File (new File (System.getProperty ("user.home", ""), ".DrivenByMoss"), CACHE_FILE);
+    }
+}
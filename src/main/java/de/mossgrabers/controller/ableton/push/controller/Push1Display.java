@@ -48,15 +48,28 @@ public class Push1Display extends AbstractTextDisplay
     /** Push character for the division sign. */
     public static final String     DIVISION      = Character.toString ((char) 24);
 
-    private static final String [] SYSEX_MESSAGE =
+    private static final byte []   SYSEX_HEADER  =
     {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
+        (byte) 0xF0,
+        0x47,
+        0x7F,
+        0x15,
+        0x18,
+        0x00,
+        0x45,
+        0x00
     };
 
+    /** The index of the row in the system exclusive header. */
+    private static final int       ROW_INDEX     = 4;
+
+    // Cached bar glyphs indexed by the number of bars (0-16)
+    private static final String [] VALUE_BARS    = new String [17];
+    private static final String [] MOD_BARS      = new String [17 * 17];
+    private static final String [] PAN_BARS      = new String [3 * 17];
+
     private final int              maxParameterValue;
+    private final byte [][]        lineMessages;
 
 
     /**
@@ -73,6 +86,16 @@ public class Push1Display extends AbstractTextDisplay
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
 
         this.maxParameterValue = maxParameterValue;
+
+        // Pre-allocate the messages for all rows, the text is encoded directly into them
+        this.lineMessages = new byte [this.noOfLines][SYSEX_HEADER.length + this.noOfCharacters + 1];
+        for (int row = 0; row < this.noOfLines; row++)
+        {
+            final byte [] message = this.lineMessages[row];
+            System.arraycopy (SYSEX_HEADER, 0, message, 0, SYSEX_HEADER.length);
+            message[ROW_INDEX] = (byte) (SYSEX_HEADER[ROW_INDEX] + row);
+            message[message.length - 1] = (byte) 0xF7;
+        }
     }
 
 
@@ -133,19 +156,34 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     protected String convertCharacterset (final String text)
     {
-        final String t = text.replace (Push1Display.BARS_NON, "-").replace (Push1Display.BARS_ONE, "|").replace (Push1Display.BARS_TWO, "|").replace (Push1Display.BARS_ONE_L, "|").replace (Push1Display.SELECT_ARROW, ">").replace (Push1Display.RIGHT_ARROW, ">");
-        final StringBuilder sb = new StringBuilder (t.length ());
-        int beginIndex = 0;
-        int endIndex = 17;
-        for (int i = 0; i < 4; i++)
+        // Replace the special characters and add a space after each block of 17 characters
+        final char [] chars = new char [71];
+        int pos = 0;
+        for (int i = 0; i < 68; i++)
         {
-            sb.append (t.substring (beginIndex, endIndex));
-            beginIndex += 17;
-            endIndex += 17;
-            if (i != 3)
-                sb.append (' ');
+            if (i > 0 && i % 17 == 0)
+                chars[pos++] = ' ';
+            final char c = text.charAt (i);
+            switch (c)
+            {
+                case 6:
+                    chars[pos++] = '-';
+                    break;
+                case 3:
+                case 4:
+                case 5:
+                    chars[pos++] = '|';
+                    break;
+                case 30:
+                case 127:
+                    chars[pos++] = '>';
+                    break;
+                default:
+                    chars[pos++] = c;
+                    break;
+            }
         }
-        return sb.toString ();
+        return new String (chars);
     }
 
 
@@ -153,7 +191,33 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        // Encode the text directly into the message of the row and only send it if it has changed
+        final byte [] message = this.lineMessages[row];
+        boolean hasChanged = false;
+        final int length = Math.min (text.length (), this.noOfCharacters);
+        for (int i = 0; i < this.noOfCharacters; i++)
+        {
+            final byte b = (byte) (i < length ? text.charAt (i) & 0x7F : ' ');
+            final int pos = SYSEX_HEADER.length + i;
+            if (message[pos] != b)
+            {
+                message[pos] = b;
+                hasChanged = true;
+            }
+        }
+        if (hasChanged)
+            this.output.sendSysex (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        // Invalidate the last sent messages
+        for (final byte [] message: this.lineMessages)
+            Arrays.fill (message, SYSEX_HEADER.length, message.length - 1, (byte) 0);
+        super.forceFlush ();
     }
 
 
@@ -179,6 +243,17 @@ public class Push1Display extends AbstractTextDisplay
      * @return The formatted bar
      */
     public static String formatValue (final int value, final int maxParam)
+    {
+        final int noOfBars = (int) Math.round (16.0 * value / maxParam);
+        if (noOfBars < 0 || noOfBars > 16)
+            return createValueBars (value, maxParam);
+        if (VALUE_BARS[noOfBars] == null)
+            VALUE_BARS[noOfBars] = createValueBars (value, maxParam);
+        return VALUE_BARS[noOfBars];
+    }
+
+
+    private static String createValueBars (final int value, final int maxParam)
     {
         final StringBuilder n = new StringBuilder ();
         Arrays.asList (fillFields (value, maxParam)).forEach (n::append);
@@ -196,6 +271,19 @@ public class Push1Display extends AbstractTextDisplay
      * @return The formatted bar
      */
     public static String formatValue (final int modulated, final int value, final int maxParam)
+    {
+        final int noOfBars = (int) Math.round (16.0 * value / maxParam);
+        final int noOfBarsModulated = (int) Math.round (16.0 * modulated / maxParam);
+        if (noOfBars < 0 || noOfBars > 16 || noOfBarsModulated < 0 || noOfBarsModulated > 16)
+            return createModulatedValueBars (modulated, value, maxParam);
+        final int index = noOfBars * 17 + noOfBarsModulated;
+        if (MOD_BARS[index] == null)
+            MOD_BARS[index] = createModulatedValueBars (modulated, value, maxParam);
+        return MOD_BARS[index];
+    }
+
+
+    private static String createModulatedValueBars (final int modulated, final int value, final int maxParam)
     {
         final String [] fields = fillFields (value, maxParam);
 
@@ -242,6 +330,23 @@ public class Push1Display extends AbstractTextDisplay
 
 
     private static String formatPan (final int pan, final int maxParam)
+    {
+        final int middle = maxParam / 2;
+        final boolean isLeft = pan < middle;
+        final int noOfBars = 16 * (isLeft ? middle - pan : pan - middle) / maxParam;
+        if (noOfBars < 0 || noOfBars > 16)
+            return createPanBars (pan, maxParam);
+
+        // Left, right and right at the maximum
+        final int side = isLeft ? 0 : pan >= maxParam - 1 ? 2 : 1;
+        final int index = side * 17 + noOfBars;
+        if (PAN_BARS[index] == null)
+            PAN_BARS[index] = createPanBars (pan, maxParam);
+        return PAN_BARS[index];
+    }
+
+
+    private static String createPanBars (final int pan, final int maxParam)
     {
         final int middle = maxParam / 2;
         if (pan == middle)
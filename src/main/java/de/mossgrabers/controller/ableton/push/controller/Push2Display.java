@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -83,6 +84,15 @@ public class Push2Display extends AbstractGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setLatencyTracer (final LatencyTracer latencyTracer)
+    {
+        if (this.usbDisplay != null)
+            this.usbDisplay.setLatencyTracer (latencyTracer);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void send (final IBitmap image)
@@ -9,12 +9,14 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.VuMeterSampler;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -434,10 +436,12 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
     private static final int       PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
     private static final int       NUM_VELOCITY_CURVE_ENTRIES    = 128;
+    private static final int       PALETTE_SYNC_DELAY            = 1000;
+    private static final int       VU_INTERVAL                   = 40;
 
-    private static final int []    SYSEX_HEADER                  =
+    private static final byte []   SYSEX_HEADER                  =
     {
-        0xF0,
+        (byte) 0xF0,
         0x00,
         0x21,
         0x1D,
@@ -445,8 +449,9 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01
     };
 
-    private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
-    private boolean                colorPaletteHasUpdate         = false;
+    private final PaletteSync      paletteSync;
+    private final VuMeterSampler   vuSampler                     = new VuMeterSampler (VU_INTERVAL, 18);
+    private boolean                paletteSyncPending            = false;
 
     private int                    ribbonMode                    = -1;
     private int                    ribbonValue                   = -1;
@@ -454,7 +459,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     private int                    majorVersion                  = -1;
     private int                    minorVersion                  = -1;
     private int                    buildNumber                   = -1;
-    private int                    serialNumber                  = -1;
+    private final AtomicInteger    serialNumber                  = new AtomicInteger (-1);
     private int                    boardRevision                 = -1;
 
 
@@ -471,10 +476,10 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         super (host, configuration, colorManager, output, input, new PadGridImpl (colorManager, output), 200, 156);
 
-        for (int i = 0; i < this.colorPalette.length; i++)
-            this.colorPalette[i] = new PaletteEntry (PushColorManager.getPaletteColorRGB (i));
+        this.paletteSync = new PaletteSync (host, this);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexByteCallback (DeviceInquiry.RESPONSE_PREFIX, this::handleDeviceInquirySysEx);
+        this.input.addSysexByteCallback (SYSEX_HEADER, this::handlePush2SysEx);
     }
 
 
@@ -806,38 +811,32 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Handle incoming system exclusive data.
+     * Handle incoming universal non-real time system exclusive data.
      *
      * @param data The data
+     * @param offset The offset of the payload
+     * @param length The length of the payload
      */
-    private void handleSysEx (final String data)
+    private void handleDeviceInquirySysEx (final byte [] data, final int offset, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
-        {
             this.handleDeviceInquiryResponse (deviceInquiry);
-            return;
-        }
-
-        // Color palette entry message?
-        if (this.configuration.isPush2 () && isPush2Data (byteData) && PaletteEntry.isValid (byteData))
-            this.handleColorPaletteMessage (byteData);
     }
 
 
-    private static boolean isPush2Data (final int [] data)
+    /**
+     * Handle incoming Push 2 specific system exclusive data.
+     *
+     * @param data The data
+     * @param offset The offset of the payload following the Push 2 header
+     * @param length The length of the payload
+     */
+    private void handlePush2SysEx (final byte [] data, final int offset, final int length)
     {
-        if (data.length + 1 < SYSEX_HEADER.length)
-            return false;
-
-        for (int i = 0; i < SYSEX_HEADER.length; i++)
-        {
-            if (SYSEX_HEADER[i] != data[i])
-                return false;
-        }
-
-        return data[data.length - 1] == 0xF7;
+        // Color palette entry message?
+        if (this.configuration.isPush2 () && data[data.length - 1] == (byte) 0xF7 && PaletteEntry.isValid (data, offset, length))
+            this.paletteSync.handleMessage (data, offset);
     }
 
 
@@ -858,8 +857,10 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.majorVersion = revisionLevel[0];
             this.minorVersion = revisionLevel[1];
             this.buildNumber = revisionLevel[2] + (revisionLevel[3] << 7);
-            this.serialNumber = revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28);
+            this.serialNumber.set (revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28));
             this.boardRevision = revisionLevel[9];
+
+            this.startColorPaletteSync ();
         }
         else
         {
@@ -869,7 +870,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.majorVersion = revisionLevel[0];
             this.minorVersion = revisionLevel[2] + revisionLevel[1] * 10;
             this.buildNumber = 0;
-            this.serialNumber = 0;
+            this.serialNumber.set (0);
             this.boardRevision = 0;
         }
     }
@@ -948,108 +949,51 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public int getSerialNumber ()
     {
-        return this.serialNumber;
+        return this.serialNumber.get ();
     }
 
 
     /**
-     * Request the full color palette.
+     * Get the sampler for the VU meters on the display. Slots 0-15 are the left and right meters of
+     * the 8 channels, slots 16 and 17 the ones of the master channel.
+     *
+     * @return The sampler
      */
-    public void updateColorPalette ()
+    public VuMeterSampler getVuSampler ()
     {
-        // Retrieve the first, all others are requested after the previous one was received
-        this.sendColorPaletteRequest (0);
+        return this.vuSampler;
     }
 
 
     /**
-     * Handle a color palette message.
-     *
-     * @param data The message data
+     * Synchronize the color palette. The synchronization starts as soon as the serial number of the
+     * device is known, which allows to skip it if the palette was already synchronized before.
      */
-    private void handleColorPaletteMessage (final int [] data)
+    public void updateColorPalette ()
     {
-        synchronized (this.colorPalette)
+        synchronized (this.paletteSync)
         {
-            final int index = data[7];
-
-            // Is an update necessary?
-            if (this.colorPalette[index].requiresUpdate (data))
-            {
-                this.colorPaletteHasUpdate = true;
-
-                if (this.colorPalette[index].hasMaxNumberOfWriteRetriesReached ())
-                {
-                    // Cancel the whole process
-                    this.host.error ("Failed writing color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
-                    return;
-                }
-
-                this.colorPalette[index].incWriteRetries ();
-                this.sendPush2SysEx (this.colorPalette[index].createUpdateMessage (index));
-            }
-            else
-            {
-                this.colorPalette[index].setOK ();
-
-                final int retries = this.colorPalette[index].getWriteRetries ();
-                if (retries > 1)
-                    this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
-            }
-
-            if (index < 127)
+            this.paletteSyncPending = true;
+            if (this.serialNumber.get () > 0)
             {
-                this.sendColorPaletteRequest (index + 1);
+                this.startColorPaletteSync ();
                 return;
             }
         }
 
-        // Re-apply the color palette, if necessary
-        if (this.colorPaletteHasUpdate)
-        {
-            this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
-
-            // Request all values again to confirm it was written
-            this.sendColorPaletteRequest (0);
-        }
+        // Start without serial number if there is no answer to the device inquiry
+        this.scheduleTask (this::startColorPaletteSync, PALETTE_SYNC_DELAY);
     }
 
 
-    /**
-     * Send a request to the Push 2 to send the values of an entry of the current color palette.
-     *
-     * @param paletteEntry The index of the entry 0-127
-     */
-    private void sendColorPaletteRequest (final int paletteEntry)
+    private void startColorPaletteSync ()
     {
-        synchronized (this.colorPalette)
+        synchronized (this.paletteSync)
         {
-            this.sendPush2SysEx (new int []
-            {
-                0x04,
-                paletteEntry
-            });
-            this.colorPalette[paletteEntry].incReadRetries ();
+            if (!this.paletteSyncPending)
+                return;
+            this.paletteSyncPending = false;
+            this.paletteSync.start (this.serialNumber.get ());
         }
-
-        // If there was no answer after 1s, retry...
-        this.scheduleTask ( () -> {
-
-            synchronized (this.colorPalette)
-            {
-                if (!this.colorPalette[paletteEntry].requiresRead ())
-                    return;
-
-                if (this.colorPalette[paletteEntry].hasMaxNumberOfReadRetriesReached ())
-                {
-                    this.host.error ("Failed reading color palette entry #" + paletteEntry + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
-                    return;
-                }
-
-                this.host.println ("Resending color palette entry #" + paletteEntry + " request.");
-                this.sendColorPaletteRequest (paletteEntry);
-            }
-
-        }, 1000);
     }
-}
\ No newline at end of file
+}
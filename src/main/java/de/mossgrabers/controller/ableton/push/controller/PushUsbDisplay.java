@@ -10,6 +10,7 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.Executors;
@@ -59,6 +60,7 @@ public class PushUsbDisplay
     private final Object                   sendLock         = new Object ();
     private final Object                   bufferUpdateLock = new Object ();
     private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private LatencyTracer                  latencyTracer;
 
 
     /**
@@ -158,10 +160,24 @@ public class PushUsbDisplay
 
             this.usbEndpoint.send (this.headerBlock, TIMEOUT);
             this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+
+            if (this.latencyTracer != null)
+                this.latencyTracer.traceOutput ();
         }
     }
 
 
+    /**
+     * Set the tracer which measures the latency from an input of the surface to the first output.
+     *
+     * @param latencyTracer The tracer
+     */
+    public void setLatencyTracer (final LatencyTracer latencyTracer)
+    {
+        this.latencyTracer = latencyTracer;
+    }
+
+
     /**
      * Stops all transfers to the device. Nulls the device.
      */
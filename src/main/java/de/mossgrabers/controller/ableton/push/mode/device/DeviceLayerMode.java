@@ -442,8 +442,8 @@ public class DeviceLayerMode extends BaseMode<ILayer>
             {
                 final IValueChanger valueChanger = this.model.getValueChanger ();
                 final boolean enableVUMeters = config.isEnableVUMeters ();
-                final int vuR = valueChanger.toDisplayValue (enableVUMeters ? layer.getVuRight () : 0);
-                final int vuL = valueChanger.toDisplayValue (enableVUMeters ? layer.getVuLeft () : 0);
+                final int vuR = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i + 1, layer.getVuRight ()) : 0);
+                final int vuL = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i, layer.getVuLeft ()) : 0);
                 display.addChannelElement (topMenu, isTopMenuOn, bottomMenu, ChannelType.LAYER, bottomMenuColor, isBottomMenuOn, valueChanger.toDisplayValue (layer.getVolume ()), valueChanger.toDisplayValue (layer.getModulatedVolume ()), this.isKnobTouched (0) ? layer.getVolumeStr (8) : "", valueChanger.toDisplayValue (layer.getPan ()), valueChanger.toDisplayValue (layer.getModulatedPan ()), this.isKnobTouched (1) ? layer.getPanStr (8) : "", vuL, vuR, layer.isMute (), layer.isSolo (), false, layer.isActivated (), 0, false);
             }
             else if (sendsIndex == i && l.isPresent ())
@@ -482,8 +482,8 @@ public class DeviceLayerMode extends BaseMode<ILayer>
             final String topMenu = pair.getKey ();
             final boolean isTopMenuOn = pair.getValue ().booleanValue ();
             final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
-            final int vuR = valueChanger.toDisplayValue (enableVUMeters ? layer.getVuRight () : 0);
-            final int vuL = valueChanger.toDisplayValue (enableVUMeters ? layer.getVuLeft () : 0);
+            final int vuR = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i + 1, layer.getVuRight ()) : 0);
+            final int vuL = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i, layer.getVuLeft ()) : 0);
             display.addChannelElement (selectedMenu, topMenu, isTopMenuOn, layer.doesExist () ? layer.getName () : "", ChannelType.LAYER, layer.getColor (), layer.isSelected (), valueChanger.toDisplayValue (layer.getVolume ()), valueChanger.toDisplayValue (layer.getModulatedVolume ()), isVolume && this.isKnobTouched (i) ? layer.getVolumeStr (8) : "", valueChanger.toDisplayValue (layer.getPan ()), valueChanger.toDisplayValue (layer.getModulatedPan ()), isPan && this.isKnobTouched (i) ? layer.getPanStr () : "", vuL, vuR, layer.isMute (), layer.isSolo (), false, layer.isActivated (), 0, false);
         }
     }
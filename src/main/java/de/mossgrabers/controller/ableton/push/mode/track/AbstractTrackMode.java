@@ -405,8 +405,8 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
             final boolean isTopMenuOn = pair.getValue ().booleanValue ();
             final int crossfadeMode = this.getCrossfadeModeAsNumber (t);
             final boolean enableVUMeters = config.isEnableVUMeters ();
-            final int vuR = valueChanger.toDisplayValue (enableVUMeters ? t.getVuRight () : 0);
-            final int vuL = valueChanger.toDisplayValue (enableVUMeters ? t.getVuLeft () : 0);
+            final int vuR = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i + 1, t.getVuRight ()) : 0);
+            final int vuL = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i, t.getVuLeft ()) : 0);
             display.addChannelElement (selectedMenu, topMenu, isTopMenuOn, t.doesExist () ? t.getName (12) : "", this.updateType (t), t.getColor (), t.isSelected (), valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched (i) ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched (i) ? t.getPanStr (8) : "", vuL, vuR, t.isMute (), t.isSolo (), t.isRecArm (), t.isActivated (), crossfadeMode, t.isSelected () && cursorTrack.isPinned ());
         }
     }
@@ -165,8 +165,8 @@ public class MasterMode extends BaseMode<ITrack>
 
         final IValueChanger valueChanger = this.model.getValueChanger ();
         final boolean enableVUMeters = this.surface.getConfiguration ().isEnableVUMeters ();
-        final int vuR = valueChanger.toDisplayValue (enableVUMeters ? master.getVuRight () : 0);
-        final int vuL = valueChanger.toDisplayValue (enableVUMeters ? master.getVuLeft () : 0);
+        final int vuR = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (17, master.getVuRight ()) : 0);
+        final int vuL = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (16, master.getVuLeft ()) : 0);
 
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
 
@@ -121,8 +121,8 @@ public class TrackMode extends AbstractTrackMode
             {
                 final int crossfadeMode = this.getCrossfadeModeAsNumber (t);
                 final boolean enableVUMeters = config.isEnableVUMeters ();
-                final int vuR = valueChanger.toDisplayValue (enableVUMeters ? t.getVuRight () : 0);
-                final int vuL = valueChanger.toDisplayValue (enableVUMeters ? t.getVuLeft () : 0);
+                final int vuR = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i + 1, t.getVuRight ()) : 0);
+                final int vuL = valueChanger.toDisplayValue (enableVUMeters ? this.surface.getVuSampler ().sample (2 * i, t.getVuLeft ()) : 0);
                 display.addChannelElement (topMenu, topMenuSelected, bottomMenu, this.updateType (t), bottomMenuColor, isBottomMenuOn, valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), this.isKnobTouched (0) ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), this.isKnobTouched (1) ? t.getPanStr (8) : "", vuL, vuR, t.isMute (), t.isSolo (), t.isRecArm (), t.isActivated (), crossfadeMode, cursorTrack.isPinned ());
             }
             else if (sendsIndex == i)
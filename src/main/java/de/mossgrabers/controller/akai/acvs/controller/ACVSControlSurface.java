@@ -202,7 +202,7 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
 
         this.addTextDisplay (new ACVSDisplay (this.host, this.getOutput ()));
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexByteCallback (this::handleSysEx);
     }
 
 
@@ -239,17 +239,18 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
     /**
      * Handle incoming system exclusive data.
      *
-     * @param dataStr The data formatted as a string
+     * @param data The data
+     * @param offset The offset of the payload, always 0
+     * @param length The length of the payload
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final byte [] data, final int offset, final int length)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
         final ACVSMidiOutput acvsMidiOutput = this.getOutput ();
 
         final Optional<ACVSMessage> messageOpt = acvsMidiOutput.getMessageContent (data);
         if (messageOpt.isEmpty ())
         {
-            this.host.error ("Unknown System Exclusive message: " + dataStr);
+            this.host.error ("Unknown System Exclusive message: " + StringUtils.toHexStr (data));
             return;
         }
 
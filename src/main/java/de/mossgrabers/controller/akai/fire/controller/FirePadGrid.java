@@ -107,7 +107,7 @@ public class FirePadGrid extends BlinkingPadGrid
 
         int length = this.padInfos.size ();
 
-        // Toggle blink colors every 600ms
+        // Toggle blink colors with the phases of the animation clock
         if (this.checkBlinking ())
         {
             length += this.blinkingLights.size ();
@@ -116,7 +116,7 @@ public class FirePadGrid extends BlinkingPadGrid
             {
                 final LightInfo info = value.getValue ();
 
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
+                final int colorIndex = this.getBlinkPhaseColor (info);
                 final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
                 sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
                 sb.append (StringUtils.toHexStr (c[0])).append (' ');
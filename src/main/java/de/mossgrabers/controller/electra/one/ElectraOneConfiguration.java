@@ -23,8 +23,11 @@ public class ElectraOneConfiguration extends AbstractConfiguration
 {
     /** Display log state. */
     public static final Integer LOG_TO_CONSOLE        = Integer.valueOf (50);
+    /** Send element updates as Lua. */
+    public static final Integer BATCH_ELEMENTS        = Integer.valueOf (51);
 
     private boolean             isLogToConsoleEnabled = false;
+    private boolean             isBatchElements       = false;
 
 
     /**
@@ -71,6 +74,14 @@ public class ElectraOneConfiguration extends AbstractConfiguration
         });
 
         this.isSettingActive.add (LOG_TO_CONSOLE);
+
+        final IEnumSetting batchElementsSetting = settingsUI.getEnumSetting ("Send element updates as one Lua script", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        batchElementsSetting.addValueObserver (value -> {
+            this.isBatchElements = "On".equals (value);
+            this.notifyObservers (BATCH_ELEMENTS);
+        });
+
+        this.isSettingActive.add (BATCH_ELEMENTS);
     }
 
 
@@ -83,4 +94,16 @@ public class ElectraOneConfiguration extends AbstractConfiguration
     {
         return this.isLogToConsoleEnabled;
     }
+
+
+    /**
+     * Should all element updates of a flush be sent together as one Lua script instead of one JSON
+     * message per element?
+     *
+     * @return True if enabled
+     */
+    public boolean isBatchElements ()
+    {
+        return this.isBatchElements;
+    }
 }
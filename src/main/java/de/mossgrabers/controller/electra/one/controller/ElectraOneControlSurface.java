@@ -15,13 +15,12 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 
 
 /**
@@ -32,35 +31,35 @@ import java.util.Arrays;
 @SuppressWarnings("javadoc")
 public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneConfiguration>
 {
-    public static final int       ELECTRA_ONE_VOLUME1         = 10;
-    public static final int       ELECTRA_ONE_MASTER_VOLUME   = 15;
+    public static final int          ELECTRA_ONE_VOLUME1         = 10;
+    public static final int          ELECTRA_ONE_MASTER_VOLUME   = 15;
 
-    public static final int       ELECTRA_ONE_PAN1            = 20;
-    public static final int       ELECTRA_ONE_PLAY_POSITION   = 25;
+    public static final int          ELECTRA_ONE_PAN1            = 20;
+    public static final int          ELECTRA_ONE_PLAY_POSITION   = 25;
 
-    public static final int       ELECTRA_ONE_ARM1            = 30;
-    public static final int       ELECTRA_ONE_NEXT_TRACK_PAGE = 35;
+    public static final int          ELECTRA_ONE_ARM1            = 30;
+    public static final int          ELECTRA_ONE_NEXT_TRACK_PAGE = 35;
 
-    public static final int       ELECTRA_ONE_MUTE1           = 40;
-    public static final int       ELECTRA_ONE_PREV_TRACK_PAGE = 45;
+    public static final int          ELECTRA_ONE_MUTE1           = 40;
+    public static final int          ELECTRA_ONE_PREV_TRACK_PAGE = 45;
 
-    public static final int       ELECTRA_ONE_SOLO1           = 50;
-    public static final int       ELECTRA_ONE_RECORD          = 55;
+    public static final int          ELECTRA_ONE_SOLO1           = 50;
+    public static final int          ELECTRA_ONE_RECORD          = 55;
 
-    public static final int       ELECTRA_ONE_SELECT1         = 60;
-    public static final int       ELECTRA_ONE_PLAY            = 65;
+    public static final int          ELECTRA_ONE_SELECT1         = 60;
+    public static final int          ELECTRA_ONE_PLAY            = 65;
 
-    public static final int       ELECTRA_ONE_SEND1           = 10;
-    public static final int       ELECTRA_ONE_SEND2           = 20;
-    public static final int       ELECTRA_ONE_SEND3           = 30;
-    public static final int       ELECTRA_ONE_SEND4           = 40;
-    public static final int       ELECTRA_ONE_SEND5           = 50;
-    public static final int       ELECTRA_ONE_SEND6           = 60;
-    public static final int       ELECTRA_ONE_CUE_VOLUME      = 15;
+    public static final int          ELECTRA_ONE_SEND1           = 10;
+    public static final int          ELECTRA_ONE_SEND2           = 20;
+    public static final int          ELECTRA_ONE_SEND3           = 30;
+    public static final int          ELECTRA_ONE_SEND4           = 40;
+    public static final int          ELECTRA_ONE_SEND5           = 50;
+    public static final int          ELECTRA_ONE_SEND6           = 60;
+    public static final int          ELECTRA_ONE_CUE_VOLUME      = 15;
 
     // Sysex
 
-    private static final byte []  SYSEX_HDR                   =
+    private static final byte []     SYSEX_HDR                   =
     {
         (byte) 0xF0,
         0x00,
@@ -68,21 +67,21 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         0x45
     };
 
-    private static final byte []  SYSEX_UPDATE_ELEMENT        =
+    private static final byte []     SYSEX_UPDATE_ELEMENT        =
     {
         0x14,
         0x07
     };
 
-    private static final byte []  SYSEX_EXECUTE_LUA           =
+    private static final byte []     SYSEX_EXECUTE_LUA           =
     {
         0x08,
         0x0D
     };
 
-    private static final int []   SYSEX_LOGGING               =
+    private static final byte []     SYSEX_LOGGING               =
     {
-        0xF0,
+        (byte) 0xF0,
         0x00,
         0x21,
         0x45,
@@ -90,15 +89,20 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         0x00
     };
 
-    private static final String   LOG_PAGE_CHANGE             = "displayPage: page shown: page=";
-    private static final Modes [] MODES                       =
+    private static final String      LOG_PAGE_CHANGE             = "displayPage: page shown: page=";
+    private static final int         MAX_LUA_LENGTH              = 1024;
+    private static final JsonFactory JSON_FACTORY                = new JsonFactory ();
+    private static final Modes []    MODES                       =
     {
         Modes.VOLUME,
         Modes.SEND
     };
 
-    private final IMidiInput      ctrlInput;
-    private final IMidiOutput     ctrlOutput;
+    private final IMidiInput         ctrlInput;
+    private final IMidiOutput        ctrlOutput;
+    private final StringWriter       jsonWriter                  = new StringWriter ();
+    private JsonGenerator            jsonGenerator;
+    private final StringBuilder      pendingLua                  = new StringBuilder ();
 
 
     /**
@@ -119,7 +123,8 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         this.ctrlInput = ctrlInput;
         this.ctrlOutput = ctrlOutput;
 
-        this.ctrlInput.setSysexCallback (this::handleSysEx);
+        this.ctrlInput.addSysexByteCallback (DeviceInquiry.RESPONSE_PREFIX, this::handleDeviceInquiry);
+        this.ctrlInput.addSysexByteCallback (SYSEX_LOGGING, this::handleLogMessage);
     }
 
 
@@ -143,7 +148,10 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         if (title.equals (cache[groupID]))
             return;
         cache[groupID] = title;
-        this.sendLua ("setGroupTitle(" + groupID + ",\"" + title + "\")");
+
+        final StringBuilder code = new StringBuilder ("setGroupTitle(").append (groupID).append (',');
+        appendLuaString (code, title);
+        this.executeLua (code.append (')'));
     }
 
 
@@ -152,38 +160,37 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      *
      * @param controlID The element starting from 1, increasing from left to right, top to bottom
      * @param cache The message is only send if the parameters are different from the previous call
-     * @param name The name to set
-     * @param color The color to set
-     * @param visibility The visibility to set
+     * @param name The name to set, not sent if null
+     * @param color The color to set, not sent if null
+     * @param visibility The visibility to set, not sent if null
      */
-    public void updateElement (final int controlID, final String [] cache, final String name, final ColorEx color, final Boolean visibility)
+    public void updateElement (final int controlID, final ElectraOneElement [] cache, final String name, final ColorEx color, final Boolean visibility)
     {
-        final ObjectMapper mapper = new ObjectMapper ();
+        // Compare the fields before creating the message
+        final ElectraOneElement element = cache[controlID];
+        if (element != null && element.matches (name, color, visibility))
+            return;
+        cache[controlID] = new ElectraOneElement (name, color, visibility);
 
-        final StringWriter writer = new StringWriter ();
-        try (final JsonGenerator generator = mapper.createGenerator (writer))
+        if (this.configuration.isBatchElements ())
         {
-            generator.writeStartObject ();
-            if (name != null)
-                generator.writeStringField ("name", name);
-            if (color != null)
-                generator.writeStringField ("color", StringUtils.formatColor (color));
-            if (visibility != null)
-                generator.writeBooleanField ("visible", visibility.booleanValue ());
-            generator.writeEndObject ();
+            this.executeLua (formatElementLua (controlID, name, color, visibility));
+            return;
+        }
+
+        final String json;
+        try
+        {
+            json = this.formatElementJSON (name, color, visibility);
         }
         catch (final IOException ex)
         {
-            this.host.error (name, ex);
+            // Create a new generator on the next call
+            this.jsonGenerator = null;
+            this.host.error ("Could not create JSON for element " + controlID + ".", ex);
             return;
         }
 
-        final String json = writer.toString ();
-
-        if (json.equals (cache[controlID]))
-            return;
-        cache[controlID] = json;
-
         final byte [] command = new byte [4];
         command[0] = SYSEX_UPDATE_ELEMENT[0];
         command[1] = SYSEX_UPDATE_ELEMENT[1];
@@ -193,10 +200,113 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void flushHardware ()
+    {
+        this.sendPendingLua ();
+
+        super.flushHardware ();
+    }
+
+
+    /**
+     * Format the fields of an element as a JSON object. The generator and its writer are reused
+     * for all elements.
+     *
+     * @param name The name to set, not added if null
+     * @param color The color to set, not added if null
+     * @param visibility The visibility to set, not added if null
+     * @return The JSON object
+     * @throws IOException Could not write the JSON
+     */
+    private String formatElementJSON (final String name, final ColorEx color, final Boolean visibility) throws IOException
+    {
+        if (this.jsonGenerator == null)
+        {
+            this.jsonGenerator = JSON_FACTORY.createGenerator (this.jsonWriter);
+            // Do not separate the objects since the writer is cleared for each of them
+            this.jsonGenerator.setRootValueSeparator (null);
+        }
+
+        this.jsonWriter.getBuffer ().setLength (0);
+
+        this.jsonGenerator.writeStartObject ();
+        if (name != null)
+            this.jsonGenerator.writeStringField ("name", name);
+        if (color != null)
+            this.jsonGenerator.writeStringField ("color", StringUtils.formatColor (color));
+        if (visibility != null)
+            this.jsonGenerator.writeBooleanField ("visible", visibility.booleanValue ());
+        this.jsonGenerator.writeEndObject ();
+        this.jsonGenerator.flush ();
+
+        return this.jsonWriter.toString ();
+    }
+
+
+    /**
+     * Format the fields of an element as Lua code which updates the control.
+     *
+     * @param controlID The element starting from 1, increasing from left to right, top to bottom
+     * @param name The name to set, not added if null
+     * @param color The color to set, not added if null
+     * @param visibility The visibility to set, not added if null
+     * @return The Lua code
+     */
+    private static StringBuilder formatElementLua (final int controlID, final String name, final ColorEx color, final Boolean visibility)
+    {
+        final StringBuilder code = new StringBuilder ("do local c=controls.get(").append (controlID).append (')');
+        if (name != null)
+        {
+            code.append (" c:setName(");
+            appendLuaString (code, name);
+            code.append (')');
+        }
+        if (color != null)
+            code.append (" c:setColor(0x").append (StringUtils.formatColor (color)).append (')');
+        if (visibility != null)
+            code.append (" c:setVisible(").append (visibility.booleanValue ()).append (')');
+        return code.append (" end");
+    }
+
+
+    /**
+     * Execute a Lua statement on the Electra.One. If batching is enabled the statement is collected
+     * and all collected statements are sent together at the end of the flush.
+     *
+     * @param statement The Lua statement
+     */
+    private void executeLua (final CharSequence statement)
+    {
+        if (!this.configuration.isBatchElements ())
+        {
+            this.sendLua (statement.toString ());
+            return;
+        }
+
+        // Keep the SysEx messages at a size the device can handle
+        if (this.pendingLua.length () + statement.length () >= MAX_LUA_LENGTH)
+            this.sendPendingLua ();
+        this.pendingLua.append (statement).append ('\n');
+    }
+
+
+    /**
+     * Send all collected Lua statements as one script.
+     */
+    private void sendPendingLua ()
+    {
+        if (this.pendingLua.isEmpty ())
+            return;
+        this.sendLua (this.pendingLua.toString ());
+        this.pendingLua.setLength (0);
+    }
+
+
     /**
      * Send LUA code for execution to the Electra.One.
      *
-     * @param elementCache The message is only send if the code is different from the previous call
      * @param code The code to send
      */
     private void sendLua (final String code)
@@ -205,6 +315,50 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
 
+    /**
+     * Append a text as a quoted Lua string. Quotes, backslashes and control characters are escaped.
+     * Other control characters than new line, carriage return and tab are written as a decimal
+     * escape with 3 digits, so that following digits of the text are not taken as part of it.
+     *
+     * @param code Where to append the string
+     * @param text The text
+     */
+    private static void appendLuaString (final StringBuilder code, final String text)
+    {
+        code.append ('"');
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            switch (c)
+            {
+                case '"', '\\':
+                    code.append ('\\').append (c);
+                    break;
+
+                case '\n':
+                    code.append ("\\n");
+                    break;
+
+                case '\r':
+                    code.append ("\\r");
+                    break;
+
+                case '\t':
+                    code.append ("\\t");
+                    break;
+
+                default:
+                    if (c < 0x20 || c == 0x7F)
+                        code.append (String.format ("\\%03d", Integer.valueOf (c)));
+                    else
+                        code.append (c);
+                    break;
+            }
+        }
+        code.append ('"');
+    }
+
+
     /**
      * Send a JSON or LUA string to the CTRL output.
      *
@@ -225,53 +379,55 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     private void sendSysex (final byte [] command, final byte [] content)
     {
-        try (final ByteArrayOutputStream out = new ByteArrayOutputStream ())
-        {
-            out.write (SYSEX_HDR);
-            out.write (command);
-            out.write (content);
-            out.write ((byte) 0xF7);
-            this.ctrlOutput.sendSysex (out.toByteArray ());
-        }
-        catch (final IOException ex)
-        {
-            this.host.error ("Could not send JSON command.", ex);
-        }
+        final byte [] data = new byte [SYSEX_HDR.length + command.length + content.length + 1];
+        System.arraycopy (SYSEX_HDR, 0, data, 0, SYSEX_HDR.length);
+        System.arraycopy (command, 0, data, SYSEX_HDR.length, command.length);
+        System.arraycopy (content, 0, data, SYSEX_HDR.length + command.length, content.length);
+        data[data.length - 1] = (byte) 0xF7;
+        this.ctrlOutput.sendSysex (data);
     }
 
 
     /**
-     * Handle incoming system exclusive data.
+     * Handle incoming universal non-real time system exclusive data.
      *
      * @param data The data
+     * @param offset The offset of the payload
+     * @param length The length of the payload
      */
-    private void handleSysEx (final String data)
+    private void handleDeviceInquiry (final byte [] data, final int offset, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
         {
             // TODO
-            return;
         }
+    }
 
-        if (Arrays.compareUnsigned (SYSEX_LOGGING, 0, SYSEX_LOGGING.length, byteData, 0, SYSEX_LOGGING.length) == 0)
-        {
-            final String message = new String (byteData, SYSEX_LOGGING.length, byteData.length - SYSEX_LOGGING.length - 1);
-            if (this.configuration.isLogToConsoleEnabled ())
-                this.host.println (message);
 
-            // Bad hack for missing page change event, replace when it becomes available
-            if (message.startsWith (LOG_PAGE_CHANGE))
+    /**
+     * Handle incoming logging messages.
+     *
+     * @param data The data
+     * @param offset The offset of the log text
+     * @param length The length of the log text
+     */
+    private void handleLogMessage (final byte [] data, final int offset, final int length)
+    {
+        final String message = new String (data, offset, length, StandardCharsets.US_ASCII);
+        if (this.configuration.isLogToConsoleEnabled ())
+            this.host.println (message);
+
+        // Bad hack for missing page change event, replace when it becomes available
+        if (message.startsWith (LOG_PAGE_CHANGE))
+        {
+            final String rest = message.substring (LOG_PAGE_CHANGE.length ());
+            final int pos = rest.indexOf (',');
+            if (pos > 0)
             {
-                final String rest = message.substring (LOG_PAGE_CHANGE.length ());
-                final int pos = rest.indexOf (',');
-                if (pos > 0)
-                {
-                    final int page = Integer.parseInt (rest.substring (0, pos));
-                    if (page < MODES.length)
-                        this.getModeManager ().setActive (MODES[page]);
-                }
+                final int page = Integer.parseInt (rest.substring (0, pos));
+                if (page < MODES.length)
+                    this.getModeManager ().setActive (MODES[page]);
             }
         }
     }
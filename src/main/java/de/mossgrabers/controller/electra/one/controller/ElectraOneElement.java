@@ -0,0 +1,36 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.electra.one.controller;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.Objects;
+
+
+/**
+ * The last name, color and visibility which were sent for an element of the Electra.One. Null
+ * fields were not sent.
+ *
+ * @param name The name
+ * @param color The color
+ * @param visibility The visibility
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public record ElectraOneElement (String name, ColorEx color, Boolean visibility)
+{
+    /**
+     * Check if the element has the given fields.
+     *
+     * @param name The name to compare
+     * @param color The color to compare
+     * @param visibility The visibility to compare
+     * @return True if all fields are equal
+     */
+    public boolean matches (final String name, final ColorEx color, final Boolean visibility)
+    {
+        return Objects.equals (this.name, name) && Objects.equals (this.color, color) && Objects.equals (this.visibility, visibility);
+    }
+}
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.electra.one.ElectraOneConfiguration;
 import de.mossgrabers.controller.electra.one.ElectraOnePlayPositionParameter;
 import de.mossgrabers.controller.electra.one.controller.ElectraOneColorManager;
 import de.mossgrabers.controller.electra.one.controller.ElectraOneControlSurface;
+import de.mossgrabers.controller.electra.one.controller.ElectraOneElement;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.color.ColorEx;
@@ -42,9 +43,9 @@ public class MixerMode extends DefaultTrackMode<ElectraOneControlSurface, Electr
         KNOB_IDS.addAll (ContinuousID.createSequentialList (ContinuousID.PAN_KNOB1, 6));
     }
 
-    private final int []    valueCache   = new int [128];
-    private final String [] elementCache = new String [37];
-    private final String [] groupCache   = new String [37];
+    private final int []               valueCache   = new int [128];
+    private final ElectraOneElement [] elementCache = new ElectraOneElement [37];
+    private final String []            groupCache   = new String [37];
 
 
     /**
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.gamepad;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.configuration.ISignalSetting;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
@@ -70,9 +71,21 @@ public class GamepadConfiguration extends AbstractConfiguration
 
     /** A different gamepad was selected. */
     public static final Integer                         SELECTED_GAMEPAD             = Integer.valueOf (50);
+    /** The polling or axis filter settings have changed. */
+    public static final Integer                         INPUT_POLLING                = Integer.valueOf (51);
 
     private static final String                         NOT_AVAILABLE                = "<Not available>";
     private static final String                         CATEGORY_GAMEPAD             = "Gamepad";
+    private static final String                         CATEGORY_INPUT               = "Gamepad - Input";
+
+    private static final String []                      AXIS_RESOLUTION_OPTIONS      =
+    {
+        "Unlimited",
+        "1024",
+        "512",
+        "256",
+        "128"
+    };
 
     private static final List<String>                   FUNCTIONS                    = new ArrayList<> ();
     private static final Map<ControllerButton, String>  BUTTON_NAMES                 = new EnumMap<> (ControllerButton.class);
@@ -167,6 +180,10 @@ public class GamepadConfiguration extends AbstractConfiguration
     private int                                  selectedGamepad = -1;
     private final Map<ControllerButton, Integer> buttonFunctions = new EnumMap<> (ControllerButton.class);
     private final Map<ControllerAxis, Integer>   axisFunctions   = new EnumMap<> (ControllerAxis.class);
+    private int                                  pollInterval    = 1;
+    private int                                  idleInterval    = 20;
+    private int                                  axisDeadzone    = 5;
+    private int                                  axisResolution  = 1024;
 
 
     /**
@@ -228,6 +245,28 @@ public class GamepadConfiguration extends AbstractConfiguration
             });
         }
 
+        final IIntegerSetting pollIntervalSetting = globalSettings.getRangeSetting ("Poll interval", CATEGORY_INPUT, 1, 20, 1, "ms", 1);
+        pollIntervalSetting.addValueObserver (value -> {
+            this.pollInterval = value.intValue ();
+            this.notifyObservers (INPUT_POLLING);
+        });
+        final IIntegerSetting idleIntervalSetting = globalSettings.getRangeSetting ("Poll interval when idle", CATEGORY_INPUT, 1, 100, 1, "ms", 20);
+        idleIntervalSetting.addValueObserver (value -> {
+            this.idleInterval = value.intValue ();
+            this.notifyObservers (INPUT_POLLING);
+        });
+        final IIntegerSetting axisDeadzoneSetting = globalSettings.getRangeSetting ("Axis deadzone", CATEGORY_INPUT, 0, 50, 1, "%", 5);
+        axisDeadzoneSetting.addValueObserver (value -> {
+            this.axisDeadzone = value.intValue ();
+            this.notifyObservers (INPUT_POLLING);
+        });
+        final IEnumSetting axisResolutionSetting = globalSettings.getEnumSetting ("Axis resolution", CATEGORY_INPUT, AXIS_RESOLUTION_OPTIONS, AXIS_RESOLUTION_OPTIONS[1]);
+        axisResolutionSetting.addValueObserver (value -> {
+            final int index = lookupIndex (AXIS_RESOLUTION_OPTIONS, value);
+            this.axisResolution = index == 0 ? 0 : Integer.parseInt (AXIS_RESOLUTION_OPTIONS[index]);
+            this.notifyObservers (INPUT_POLLING);
+        });
+
         // Do not trigger before all function enumeration settings are created
         gamepadSetting.addValueObserver (value -> {
 
@@ -297,6 +336,50 @@ public class GamepadConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Get the interval in which the gamepad is polled while it is used.
+     *
+     * @return The interval in milliseconds
+     */
+    public int getPollInterval ()
+    {
+        return this.pollInterval;
+    }
+
+
+    /**
+     * Get the maximum interval in which the gamepad is polled while it is not used.
+     *
+     * @return The interval in milliseconds
+     */
+    public int getIdleInterval ()
+    {
+        return this.idleInterval;
+    }
+
+
+    /**
+     * Get the deadzone of the axis, values inside are reported as 0.
+     *
+     * @return The deadzone in percent (0-50)
+     */
+    public int getAxisDeadzone ()
+    {
+        return this.axisDeadzone;
+    }
+
+
+    /**
+     * Get the number of steps to which axis values are quantized.
+     *
+     * @return The number of steps, 0 for no quantization
+     */
+    public int getAxisResolution ()
+    {
+        return this.axisResolution;
+    }
+
+
     private void fillGamepads ()
     {
         final int numGamepads = this.gamepadManager.getNumControllers ();
@@ -102,6 +102,13 @@ public class GamepadControllerSetup extends AbstractControllerSetup<GamepadContr
 
         });
 
+        this.configuration.addSettingObserver (GamepadConfiguration.INPUT_POLLING, () -> {
+
+            final GamepadConfiguration conf = this.configuration;
+            this.getSurface ().setInputPolling (conf.getPollInterval (), conf.getIdleInterval (), conf.getAxisDeadzone () / 100.0f, conf.getAxisResolution ());
+
+        });
+
         this.createNoteRepeatObservers (this.configuration, this.getSurface ());
     }
 
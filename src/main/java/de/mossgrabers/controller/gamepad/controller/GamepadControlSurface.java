@@ -69,4 +69,22 @@ public class GamepadControlSurface extends AbstractControlSurface<GamepadConfigu
     {
         this.gameControllerInputThread.selectController (selectedGamepad);
     }
+
+
+    /**
+     * Configure the polling of the gamepad.
+     *
+     * @param pollInterval The interval in milliseconds in which the gamepad is polled while it is
+     *            used
+     * @param idleInterval The maximum interval in milliseconds in which the gamepad is polled while
+     *            it is not used
+     * @param axisDeadzone The deadzone of the axis (0-0.5)
+     * @param axisResolution The number of steps to which axis values are quantized, 0 for no
+     *            quantization
+     */
+    public void setInputPolling (final int pollInterval, final int idleInterval, final float axisDeadzone, final int axisResolution)
+    {
+        this.gameControllerInputThread.setPolling (pollInterval, idleInterval);
+        this.gameControllerInputThread.setAxisFilter (axisDeadzone, axisResolution);
+    }
 }
@@ -13,29 +13,39 @@ import com.studiohartman.jamepad.ControllerIndex;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerUnpluggedException;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Thread to monitor the input coming from a Gamepad.
+ * Thread to monitor the input coming from a Gamepad. The gamepad is polled with a configurable
+ * interval, which is increased step by step up to an idle interval while nothing changes. Axis values
+ * are filtered by a deadzone and quantized to suppress jitter. All changes of one poll are handed
+ * over to the control thread as one batch.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class GamepadControllerInputThread implements Runnable
 {
-    private static final long                    INTERVAL           = 1;
+    private static final ControllerButton [] BUTTONS            = ControllerButton.values ();
+    private static final ControllerAxis []   AXES               = ControllerAxis.values ();
 
-    private final AtomicBoolean                  running            = new AtomicBoolean (false);
+    /** The number of polls without changes before the poll interval is increased. */
+    private static final int                 IDLE_POLLS         = 100;
 
-    private final IHost                          host;
-    private final ControllerManager              gamepadManager;
-    private final IGamepadCallback               gamepadCallback;
-    private final Map<ControllerButton, Boolean> buttonStates       = new EnumMap<> (ControllerButton.class);
-    private final Map<ControllerAxis, Float>     axisStates         = new EnumMap<> (ControllerAxis.class);
+    private final AtomicBoolean              running            = new AtomicBoolean (false);
 
-    private int                                  selectedController = -1;
+    private final IHost                      host;
+    private final ControllerManager          gamepadManager;
+    private final IGamepadCallback           gamepadCallback;
+    private final boolean []                 buttonStates       = new boolean [BUTTONS.length];
+    private final float []                   axisStates         = new float [AXES.length];
+
+    private int                              selectedController = -1;
+
+    private volatile int                     pollInterval       = 1;
+    private volatile int                     idleInterval       = 20;
+    private volatile float                   axisDeadzone       = 0;
+    private volatile int                     axisResolution     = 0;
 
 
     /**
@@ -71,6 +81,35 @@ public class GamepadControllerInputThread implements Runnable
     }
 
 
+    /**
+     * Set the poll intervals.
+     *
+     * @param pollInterval The interval in milliseconds in which the gamepad is polled while it is
+     *            used
+     * @param idleInterval The maximum interval in milliseconds in which the gamepad is polled while
+     *            it is not used
+     */
+    public void setPolling (final int pollInterval, final int idleInterval)
+    {
+        this.pollInterval = Math.max (1, pollInterval);
+        this.idleInterval = Math.max (this.pollInterval, idleInterval);
+    }
+
+
+    /**
+     * Set the filter for axis values.
+     *
+     * @param axisDeadzone The deadzone of the axis (0-0.5), values inside are reported as 0
+     * @param axisResolution The number of steps to which axis values are quantized, 0 for no
+     *            quantization
+     */
+    public void setAxisFilter (final float axisDeadzone, final int axisResolution)
+    {
+        this.axisDeadzone = Math.max (0, Math.min (0.5f, axisDeadzone));
+        this.axisResolution = Math.max (0, axisResolution);
+    }
+
+
     /**
      * Select the controller at the given index.
      *
@@ -98,6 +137,9 @@ public class GamepadControllerInputThread implements Runnable
     {
         this.running.set (true);
 
+        int interval = this.pollInterval;
+        int idlePolls = 0;
+
         try
         {
             while (this.running.get ())
@@ -105,7 +147,7 @@ public class GamepadControllerInputThread implements Runnable
                 // Hand over to other running threads
                 try
                 {
-                    Thread.sleep (INTERVAL);
+                    Thread.sleep (interval);
                 }
                 catch (final InterruptedException ex)
                 {
@@ -115,54 +157,147 @@ public class GamepadControllerInputThread implements Runnable
                 if (!this.running.get ())
                     break;
 
-                synchronized (this.gamepadManager)
+                if (this.poll ())
+                {
+                    idlePolls = 0;
+                    interval = this.pollInterval;
+                }
+                else if (++idlePolls >= IDLE_POLLS)
+                {
+                    // Back off while the gamepad is not used
+                    idlePolls = 0;
+                    interval = Math.min (interval * 2, this.idleInterval);
+                }
+            }
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Controller error.", ex);
+        }
+    }
+
+
+    /**
+     * Read the state of all buttons and axis of the selected gamepad.
+     *
+     * @return True if anything has changed
+     */
+    private boolean poll ()
+    {
+        synchronized (this.gamepadManager)
+        {
+            if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+                return false;
+
+            final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
+            if (!currController.isConnected ())
+            {
+                this.gamepadManager.update ();
+                if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
+                    currController.reconnectController ();
+                return false;
+            }
+
+            InputBatch batch = null;
+
+            try
+            {
+                for (int i = 0; i < BUTTONS.length; i++)
                 {
-                    if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+                    final boolean isPressed = currController.isButtonPressed (BUTTONS[i]);
+                    if (this.buttonStates[i] == isPressed)
                         continue;
 
-                    final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
-                    if (!currController.isConnected ())
-                    {
-                        this.gamepadManager.update ();
-                        if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
-                            currController.reconnectController ();
+                    this.buttonStates[i] = isPressed;
+                    if (batch == null)
+                        batch = new InputBatch ();
+                    batch.addButton (i, isPressed);
+                }
+
+                for (int i = 0; i < AXES.length; i++)
+                {
+                    final float position = this.filterAxis (currController.getAxisState (AXES[i]));
+                    if (this.axisStates[i] == position)
                         continue;
-                    }
-
-                    try
-                    {
-                        for (final ControllerButton button: ControllerButton.values ())
-                        {
-                            final boolean isPressed = currController.isButtonPressed (button);
-                            final Boolean state = this.buttonStates.getOrDefault (button, Boolean.FALSE);
-                            if (state.booleanValue () == isPressed)
-                                continue;
-
-                            this.buttonStates.put (button, Boolean.valueOf (isPressed));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
-                        }
-
-                        for (final ControllerAxis axis: ControllerAxis.values ())
-                        {
-                            final float position = currController.getAxisState (axis);
-                            final Float state = this.axisStates.getOrDefault (axis, Float.valueOf (0));
-                            if (state.floatValue () == position)
-                                continue;
-
-                            this.axisStates.put (axis, Float.valueOf (position));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
-                        }
-                    }
-                    catch (final ControllerUnpluggedException ex)
-                    {
-                        this.host.error ("Controller not connected.");
-                    }
+
+                    this.axisStates[i] = position;
+                    if (batch == null)
+                        batch = new InputBatch ();
+                    batch.addAxis (i, position);
                 }
             }
+            catch (final ControllerUnpluggedException ex)
+            {
+                this.host.error ("Controller not connected.");
+            }
+
+            if (batch == null)
+                return false;
+
+            final InputBatch changes = batch;
+            this.host.scheduleTask ( () -> changes.process (this.gamepadCallback), 0);
+            return true;
         }
-        catch (final RuntimeException ex)
+    }
+
+
+    /**
+     * Apply the deadzone and quantization to an axis value.
+     *
+     * @param value The raw value (-1..1)
+     * @return The filtered value (-1..1)
+     */
+    private float filterAxis (final float value)
+    {
+        final float deadzone = this.axisDeadzone;
+        final float magnitude = Math.abs (value);
+        if (magnitude <= deadzone)
+            return 0;
+
+        // Rescale to keep the full range outside of the deadzone
+        float result = Math.min (1, (magnitude - deadzone) / (1 - deadzone));
+        final int resolution = this.axisResolution;
+        if (resolution > 0)
+            result = Math.round (result * resolution) / (float) resolution;
+        return value < 0 ? -result : result;
+    }
+
+
+    /**
+     * All changes detected in one poll.
+     */
+    private static class InputBatch
+    {
+        private final int []     buttons    = new int [BUTTONS.length];
+        private final boolean [] pressed    = new boolean [BUTTONS.length];
+        private final int []     axes       = new int [AXES.length];
+        private final float []   positions  = new float [AXES.length];
+        private int              numButtons = 0;
+        private int              numAxes    = 0;
+
+
+        void addButton (final int index, final boolean isPressed)
         {
-            this.host.error ("Controller error.", ex);
+            this.buttons[this.numButtons] = index;
+            this.pressed[this.numButtons] = isPressed;
+            this.numButtons++;
+        }
+
+
+        void addAxis (final int index, final float position)
+        {
+            this.axes[this.numAxes] = index;
+            this.positions[this.numAxes] = position;
+            this.numAxes++;
+        }
+
+
+        void process (final IGamepadCallback callback)
+        {
+            for (int i = 0; i < this.numButtons; i++)
+                callback.process (BUTTONS[this.buttons[i]], this.pressed[i] ? ButtonEvent.DOWN : ButtonEvent.UP);
+            for (int i = 0; i < this.numAxes; i++)
+                callback.process (AXES[this.axes[i]], this.positions[i]);
         }
     }
 }
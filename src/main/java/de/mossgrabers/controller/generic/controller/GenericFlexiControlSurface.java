@@ -16,7 +16,6 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogsFactory;
@@ -43,6 +42,12 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         new FileFilter ("All files", "*")
     };
 
+    private static final byte []                          MMC_PREFIX      =
+    {
+        (byte) 0xF0,
+        0x7F
+    };
+
     private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
@@ -82,7 +87,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_SAVE, this::saveFile);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_LOAD, this::loadAndSelectFile);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexByteCallback (MMC_PREFIX, this::handleSysEx);
     }
 
 
@@ -308,17 +313,19 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     /**
      * Handle system exclusive for MMC commands.
      *
-     * @param dataStr The system exclusive data
+     * @param data The system exclusive data
+     * @param offset The offset of the payload following the MMC header
+     * @param length The length of the payload
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final byte [] data, final int offset, final int length)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        if (data.length != 6 || data[0] != 0xF0 || data[1] != 0x7F || data[3] != 0x06 || data[5] != 0xF7)
+        // Only MMC: F0 7F <device ID> 06 <command> F7
+        if (length != 3 || data[offset + 1] != 0x06)
             return;
 
         // This is not (fully) correct but at least supports 16 device IDs (and 7F for ignore)
-        final int channel = data[2] % 16;
-        final int number = data[4];
+        final int channel = data[offset] % 16;
+        final int number = data[offset + 2];
 
         this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE.get (CommandSlot.TYPE_MMC + 1), number, channel, false);
         final int slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_MMC, number, channel);
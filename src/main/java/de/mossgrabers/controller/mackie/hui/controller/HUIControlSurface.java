@@ -17,6 +17,7 @@ import de.mossgrabers.framework.controller.valuechanger.SignedBit2RelativeValueC
 import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterTransmitter;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
@@ -278,13 +279,15 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     // Note: Parameters do not matter, only used relative
     private static final TwosComplementValueChanger     ENCODER                  = new TwosComplementValueChanger (128, 1);
     private static final SignedBit2RelativeValueChanger DECODER                  = new SignedBit2RelativeValueChanger (128, 1);
+    /** Maximum number of meter messages per second, leaves room for the faders. */
+    private static final int                            VU_BUDGET                = 400;
 
     private final List<HUIControlSurface>               surfaces;
     private final int                                   extenderOffset;
 
     private final int []                                knobValues               = new int [8];
-    private final int []                                vuValuesL                = new int [8];
-    private final int []                                vuValuesR                = new int [8];
+    // The HUI meters do not decay, 8 left and 8 right meters
+    private final VuMeterTransmitter                    vuTransmitter            = new VuMeterTransmitter (16, 0, VU_BUDGET);
     private final int []                                faderValues              = new int [9];
 
     // The currently selected zone (area of a group of buttons)
@@ -314,8 +317,6 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
         this.extenderOffset = extenderOffset;
 
         Arrays.fill (this.knobValues, -1);
-        Arrays.fill (this.vuValuesL, -1);
-        Arrays.fill (this.vuValuesR, -1);
         Arrays.fill (this.faderValues, -1);
     }
 
@@ -511,18 +512,12 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
      */
     public void updateVuMeters (final int channel, final int vuLeft, final int vuRight, final double upperBound)
     {
-        if (this.vuValuesL[channel] != vuLeft)
-        {
-            this.vuValuesL[channel] = vuLeft;
-            final int scaledValue = (int) Math.floor (vuLeft * 12.0 / upperBound);
-            this.output.sendPolyphonicAftertouch (channel, scaledValue);
-        }
-        if (this.vuValuesR[channel] != vuRight)
-        {
-            this.vuValuesR[channel] = vuRight;
-            final int scaledValue = (int) Math.floor (vuRight * 12.0 / upperBound);
-            this.output.sendPolyphonicAftertouch (0x10 + channel, scaledValue);
-        }
+        final int scaledLeft = (int) Math.floor (vuLeft * 12.0 / upperBound);
+        if (this.vuTransmitter.update (channel, scaledLeft))
+            this.output.sendPolyphonicAftertouch (channel, scaledLeft);
+        final int scaledRight = (int) Math.floor (vuRight * 12.0 / upperBound);
+        if (this.vuTransmitter.update (8 + channel, scaledRight))
+            this.output.sendPolyphonicAftertouch (0x10 + channel, scaledRight);
     }
 
 
@@ -83,6 +83,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IProject;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterSampler;
+import de.mossgrabers.framework.daw.VuMeterTransmitter;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
@@ -146,13 +148,20 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         MODE_ACRONYMS.put (Modes.USER, "US");
     }
 
-    private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
+    private static final int            VU_INTERVAL      = 50;
+    /** The MCU lets the meters decay by 1 LED in 300ms. */
+    private static final int            VU_DECAY         = 300;
+    /** Maximum number of meter messages per second for each device, leaves room for the faders. */
+    private static final int            VU_BUDGET        = 400;
+    private static final Set<Modes>     VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
 
-    private final int []            masterVuValues   = new int [2];
-    private int                     masterFaderValue = -1;
-    private final int []            vuValues         = new int [36];
-    private final int []            faderValues      = new int [36];
-    private final int               numMCUDevices;
+    private int                         masterFaderValue = -1;
+    private final int []                faderValues      = new int [36];
+    private final VuMeterSampler        vuSampler        = new VuMeterSampler (VU_INTERVAL, 38);
+    private final VuMeterTransmitter [] vuTransmitters;
+    private final int                   numMCUDevices;
+    private int                         modelReads;
+    private int                         modelReadsPerFlush;
 
 
     /**
@@ -170,9 +179,12 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
         Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
+
+        // 8 channel meters and 2 master meters for each device
+        this.vuTransmitters = new VuMeterTransmitter [numMCUDevices];
+        for (int i = 0; i < numMCUDevices; i++)
+            this.vuTransmitters[i] = new VuMeterTransmitter (10, VU_DECAY, VU_BUDGET);
 
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new TwosComplementValueChanger (16241 + 1, 10);
@@ -186,25 +198,61 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     {
         super.flush ();
 
-        this.surfaces.forEach (surface -> {
-            final ModeManager modeManager = surface.getModeManager ();
-            final Modes mode = modeManager.getActiveID ();
-            this.updateMode (mode);
-
-            if (mode == null)
-                return;
+        // The modes of all devices are kept in sync, therefore the main unit is sufficient
+        final Modes mode = this.getSurface ().getModeManager ().getActiveID ();
+        if (mode == null)
+            return;
 
-            this.updateVUMeters ();
-            this.updateFaders (surface.isShiftPressed ());
-            this.updateSegmentDisplay ();
+        // Stages which update all devices at once are executed only once per flush
+        this.modelReads = 0;
+        this.updateMode (mode);
+        this.updateVUMeters ();
+        this.updateFaders (this.isShiftPressed ());
+        this.updateSegmentDisplay ();
+        this.modelReadsPerFlush = this.modelReads;
 
-            final IMode activeOrTempMode = modeManager.getActive ();
+        // Stages which are specific to a device
+        this.surfaces.forEach (surface -> {
+            final IMode activeOrTempMode = surface.getModeManager ().getActive ();
             if (activeOrTempMode instanceof final BaseMode<?> baseMode)
                 baseMode.updateKnobLEDs ();
         });
     }
 
 
+    /**
+     * Get the number of values which were read from the model to update the meters, faders and
+     * displays of all devices during the last flush.
+     *
+     * @return The number of model reads
+     */
+    public int getModelReadsPerFlush ()
+    {
+        return this.modelReadsPerFlush;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void printFlushReport ()
+    {
+        super.printFlushReport ();
+
+        this.host.println (this.host.getName () + ": " + this.getModelReadsPerFlush () + " model reads for the meters, faders and displays of " + this.numMCUDevices + " devices in the last flush");
+    }
+
+
+    private boolean isShiftPressed ()
+    {
+        for (final MCUControlSurface surface: this.surfaces)
+        {
+            if (surface.isShiftPressed ())
+                return true;
+        }
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void createModel ()
@@ -755,6 +803,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             return;
 
         final ITransport t = this.model.getTransport ();
+        this.modelReads += 2;
 
         String positionText = this.configuration.isDisplayTime () ? t.getPositionText () : t.getBeatText ();
         positionText = positionText.replace ('.', ':');
@@ -793,6 +842,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         {
             final MCUControlSurface surface = this.getSurface (index);
             final IMidiOutput output = surface.getMidiOutput ();
+            final VuMeterTransmitter transmitter = this.vuTransmitters[index];
             final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
             final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
             final ITrackBank trackBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : tb;
@@ -801,42 +851,46 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             {
                 final int channel = extenderOffset + i;
                 final ITrack track = trackBank.getItem (channel);
+                this.modelReads++;
 
-                final int vu = track.getVu ();
-                if (vu != this.vuValues[channel])
-                {
-                    this.vuValues[channel] = vu;
-                    this.sendVUValue (output, i, vu, false);
-                }
+                final int step = this.quantizeVU (this.vuSampler.sample (channel, track.getVu ()));
+                if (transmitter.update (i, step))
+                    sendVUValue (output, i, step, false);
             }
 
             // Stereo VU of master channel
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN && this.configuration.hasMasterVU ())
             {
                 final IMasterTrack masterTrack = this.model.getMasterTrack ();
+                this.modelReads += 2;
 
-                int vu = masterTrack.getVuLeft ();
-                if (vu != this.masterVuValues[0])
-                {
-                    this.masterVuValues[0] = vu;
-                    this.sendVUValue (output, 0, vu, true);
-                }
+                int step = this.quantizeVU (this.vuSampler.sample (36, masterTrack.getVuLeft ()));
+                if (transmitter.update (8, step))
+                    sendVUValue (output, 0, step, true);
 
-                vu = masterTrack.getVuRight ();
-                if (vu != this.masterVuValues[1])
-                {
-                    this.masterVuValues[1] = vu;
-                    this.sendVUValue (output, 1, vu, true);
-                }
+                step = this.quantizeVU (this.vuSampler.sample (37, masterTrack.getVuRight ()));
+                if (transmitter.update (9, step))
+                    sendVUValue (output, 1, step, true);
             }
         }
     }
 
 
-    private void sendVUValue (final IMidiOutput output, final int track, final int vu, final boolean isMaster)
+    /**
+     * Quantize a VU value to the 13 LEDs of the MCU meters.
+     *
+     * @param vu The VU value
+     * @return The number of LEDs to light (0-13)
+     */
+    private int quantizeVU (final int vu)
+    {
+        return (int) Math.round (this.valueChanger.toNormalizedValue (vu) * 13);
+    }
+
+
+    private static void sendVUValue (final IMidiOutput output, final int track, final int step, final boolean isMaster)
     {
-        final int scaledValue = (int) Math.round (this.valueChanger.toNormalizedValue (vu) * 13);
-        output.sendChannelAftertouch (isMaster ? 1 : 0, 0x10 * track + scaledValue, 0);
+        output.sendChannelAftertouch (isMaster ? 1 : 0, 0x10 * track + step, 0);
     }
 
 
@@ -860,6 +914,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                     continue;
 
                 final int value = Math.max (0, mode.getKnobValue (channel));
+                this.modelReads++;
                 final int position = surface.getExtenderOffset () + channel;
                 if (value != this.faderValues[position])
                 {
@@ -872,6 +927,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
             {
                 final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
+                this.modelReads++;
                 if (volume != this.masterFaderValue)
                 {
                     this.masterFaderValue = volume;
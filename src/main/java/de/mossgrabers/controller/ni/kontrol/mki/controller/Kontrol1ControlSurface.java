@@ -169,6 +169,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
         super (0, host, configuration, colorManager, null, input, null, null, 800, 300);
 
         this.usbDevice = usbDevice;
+        this.usbDevice.setLatencyTracer (this.latencyTracer);
 
         this.lightGuide = new Kontrol1LightGuide (colorManager, usbDevice);
         this.createLightGuide ();
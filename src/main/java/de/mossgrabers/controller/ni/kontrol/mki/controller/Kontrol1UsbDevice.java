@@ -9,6 +9,7 @@ import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -441,6 +442,8 @@ public class Kontrol1UsbDevice
     private final byte []                      line0                     = new byte [SIZE_DISPLAY];
 
     private boolean                            isFirstStateMsg           = true;
+    private LatencyTracer                      latencyTracer;
+    private byte []                            lastReport                = new byte [0];
 
     static
     {
@@ -697,7 +700,7 @@ public class Kontrol1UsbDevice
             if (!Arrays.equals (this.line0, l0))
             {
                 System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                this.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
             }
 
             for (int row = 1; row < 3; row++)
@@ -711,7 +714,7 @@ public class Kontrol1UsbDevice
                         displayBuffer.put (this.getCharacter (row - 1, j));
 
                     padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                    this.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
                 }
             }
         }
@@ -759,7 +762,7 @@ public class Kontrol1UsbDevice
             ledBuffer.clear ();
             ledBuffer.put (this.buttonStates);
             padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
+            this.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
         }
     }
 
@@ -805,7 +808,7 @@ public class Kontrol1UsbDevice
             keyLedBuffer.clear ();
             keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
             padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            this.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
         }
     }
 
@@ -830,6 +833,31 @@ public class Kontrol1UsbDevice
     }
 
 
+    /**
+     * Set the tracer which measures the latency from an input of the surface to the first output.
+     *
+     * @param latencyTracer The tracer
+     */
+    public void setLatencyTracer (final LatencyTracer latencyTracer)
+    {
+        this.latencyTracer = latencyTracer;
+    }
+
+
+    /**
+     * Send an output report to the device.
+     *
+     * @param reportID The report (= function/method) number
+     * @param memoryBlock The memory block with the data to send
+     */
+    private void sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
+    {
+        this.hidDevice.sendOutputReport (reportID, memoryBlock);
+        if (this.latencyTracer != null)
+            this.latencyTracer.traceOutput ();
+    }
+
+
     /**
      * Process the received HID message.
      *
@@ -841,6 +869,14 @@ public class Kontrol1UsbDevice
         if (reportID != REPORT_ID_INPUT_UI)
             return;
 
+        // Only a report which differs from the previous one is an input of the user
+        long token = LatencyTracer.NO_TOKEN;
+        if (this.latencyTracer != null && !Arrays.equals (data, this.lastReport))
+        {
+            this.lastReport = data.clone ();
+            token = this.latencyTracer.traceInput (LatencyTracer.Source.HID);
+        }
+
         boolean encoderChange = false;
 
         // Decode main knob
@@ -908,6 +944,13 @@ public class Kontrol1UsbDevice
             this.firstNote = data[36];
             this.host.scheduleTask ( () -> this.callback.octaveChanged (this.firstNote), 0);
         }
+
+        // The callbacks are executed in the order of scheduling, therefore this runs after them
+        if (token != LatencyTracer.NO_TOKEN)
+        {
+            final long dispatchedToken = token;
+            this.host.scheduleTask ( () -> this.latencyTracer.traceDispatched (dispatchedToken), 0);
+        }
     }
 
 
@@ -68,13 +68,13 @@ public class MaschinePadGrid extends BlinkingPadGrid
                 this.blinkingLights.remove (note);
         }
 
-        // Toggle blink colors every 600ms
+        // Toggle blink colors with the phases of the animation clock
         if (!this.checkBlinking ())
             return;
         for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
         {
             final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
+            final int colorIndex = this.getBlinkPhaseColor (info);
             final int note = value.getKey ().intValue ();
             this.output.sendNoteEx (channel, note, colorIndex);
         }
@@ -16,7 +16,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -152,7 +151,7 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
     {
         super (host, configuration, colorManager, output, input, new LaunchkeyPadGrid (colorManager, output), 1400, 600);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexByteCallback (DeviceInquiry.RESPONSE_PREFIX, this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -303,11 +302,9 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final byte [] data, final int offset, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
@@ -15,7 +15,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -99,7 +98,7 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
 
         this.pageAdjuster = pageAdjuster;
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexByteCallback (DeviceInquiry.RESPONSE_PREFIX, this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -195,11 +194,9 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final byte [] data, final int offset, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
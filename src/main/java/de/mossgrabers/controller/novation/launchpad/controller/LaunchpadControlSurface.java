@@ -19,7 +19,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 import java.util.Map.Entry;
@@ -97,9 +96,9 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         this.definition = definition;
 
         for (int i = 0; i < this.virtualFaders.length; i++)
-            this.virtualFaders[i] = new VirtualFaderImpl (host, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
+            this.virtualFaders[i] = new VirtualFaderImpl (this.animationClock, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexByteCallback (DeviceInquiry.RESPONSE_PREFIX, this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -291,11 +290,9 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final byte [] data, final int offset, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
     }
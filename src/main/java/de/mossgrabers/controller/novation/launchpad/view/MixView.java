@@ -56,7 +56,7 @@ public class MixView extends AbstractView<LaunchpadControlSurface, LaunchpadConf
     {
         super ("Mix", surface, model);
 
-        this.fader = new VirtualFaderImpl (model.getHost (), this);
+        this.fader = new VirtualFaderImpl (surface.getAnimationClock (), this);
     }
 
 
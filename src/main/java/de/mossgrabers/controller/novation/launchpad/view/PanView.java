@@ -36,7 +36,7 @@ public class PanView extends AbstractFaderView implements IVirtualFaderCallback
     {
         super ("Panorama", surface, model);
 
-        this.masterFader = new VirtualFaderImpl (model.getHost (), this);
+        this.masterFader = new VirtualFaderImpl (surface.getAnimationClock (), this);
     }
 
 
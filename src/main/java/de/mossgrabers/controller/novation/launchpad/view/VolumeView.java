@@ -36,7 +36,7 @@ public class VolumeView extends AbstractFaderView implements IVirtualFaderCallba
     {
         super ("Volume", surface, model);
 
-        this.masterFader = new VirtualFaderImpl (model.getHost (), this);
+        this.masterFader = new VirtualFaderImpl (surface.getAnimationClock (), this);
     }
 
 
@@ -21,6 +21,7 @@ import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 import de.mossgrabers.framework.view.ControlOnlyView;
 import de.mossgrabers.framework.view.Views;
 
@@ -38,6 +39,7 @@ public class ControlView extends ControlOnlyView<SLControlSurface, SLConfigurati
     private boolean                                             isTempoInc;
     private final TransportControl                              transportControl;
     private final NewCommand<SLControlSurface, SLConfiguration> newCommand;
+    private TimerWheel.Deadline                                 repeatDeadline;
 
 
     /**
@@ -276,10 +278,14 @@ public class ControlView extends ControlOnlyView<SLControlSurface, SLConfigurati
 
     private void doChangeTempo ()
     {
+        // Only one repeat at a time, even if the button is pressed again before the next repeat
+        if (this.repeatDeadline != null)
+            this.repeatDeadline.cancel ();
+
         if (!this.isTempoInc && !this.isTempoDec)
             return;
         this.model.getTransport ().changeTempo (this.isTempoInc, this.surface.isKnobSensitivitySlow ());
-        this.surface.scheduleTask (this::doChangeTempo, 200);
+        this.repeatDeadline = this.model.getHost ().getTimerWheel ().schedule (this::doChangeTempo, 200);
     }
 
 
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -27,6 +28,7 @@ public class TransportControl
     private boolean                                              isForwarding;
     private final PlayCommand<SLControlSurface, SLConfiguration> playCommand;
     private final StopCommand<SLControlSurface, SLConfiguration> stopCommand;
+    private TimerWheel.Deadline                                  repeatDeadline;
 
 
     /**
@@ -112,13 +114,17 @@ public class TransportControl
 
     private void doChangePosition ()
     {
+        // Only one repeat at a time, even if the button is pressed again before the next repeat
+        if (this.repeatDeadline != null)
+            this.repeatDeadline.cancel ();
+
         if (!this.isRewinding && !this.isForwarding)
         {
             this.turnOffTransport ();
             return;
         }
         this.model.getTransport ().changePosition (this.isForwarding, false);
-        this.surface.scheduleTask (this::doChangePosition, 100);
+        this.repeatDeadline = this.model.getHost ().getTimerWheel ().schedule (this::doChangePosition, 100);
     }
 
 
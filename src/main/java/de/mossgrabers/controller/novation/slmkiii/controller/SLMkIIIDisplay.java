@@ -10,6 +10,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * The displays of SL MkIII.
@@ -18,12 +20,29 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
-
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final byte [] MKIII_SYSEX_HEADER               =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0A,
+        0x01
+    };
+
+    private static final int     MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int     MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int     MKIII_SYSEX_LED_COMMAND          = 0x03;
+    private static final int     MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
+
+    /** The maximum length of a property message, more changes are sent in further messages. */
+    private static final int     MAX_MESSAGE_LENGTH               = 256;
+    /** The maximum length of one property: position, property, object, 9 characters and a zero. */
+    private static final int     MAX_PROPERTY_LENGTH              = 13;
+
+    private static final int     NUM_COLUMNS                      = 9;
+    private static final int     NUM_OBJECTS                      = 4;
 
     /** The empty layout. */
     public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
@@ -32,13 +51,20 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /** The layout with larger selection boxes. */
     public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int     PROPERTY_TEXT                    = 1;
+    private static final int     PROPERTY_COLOR                   = 2;
+    private static final int     PROPERTY_VALUE                   = 3;
+
+    // The property frame which should be displayed and the one which was sent to the device
+    private final String [] []   displayText                      = new String [NUM_COLUMNS] [NUM_OBJECTS];
+    private final int [] []      displayColor                     = new int [NUM_COLUMNS] [NUM_OBJECTS];
+    private final int [] []      displayValue                     = new int [NUM_COLUMNS] [NUM_OBJECTS];
+    private final String [] []   displayTextCache                 = new String [NUM_COLUMNS] [NUM_OBJECTS];
+    private final int [] []      displayColorCache                = new int [NUM_COLUMNS] [NUM_OBJECTS];
+    private final int [] []      displayValueCache                = new int [NUM_COLUMNS] [NUM_OBJECTS];
 
-    private final String []      ledCache                         = new String [8];
-    private final int [] []      displayColorCache                = new int [9] [4];
-    private final int [] []      displayValueCache                = new int [9] [4];
+    private final byte []        messageBuffer                    = new byte [MAX_MESSAGE_LENGTH];
+    private int                  messageLength                    = 0;
 
 
     /**
@@ -51,9 +77,31 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     {
         super (host, output, 4 /* No of rows */, 9 /* No of cells */, 9 * 9 /* No of characters */);
 
-        for (int i = 0; i < 8; i++)
-            this.ledCache[i] = "";
+        for (int i = 0; i < NUM_COLUMNS; i++)
+        {
+            Arrays.fill (this.displayText[i], "");
+            Arrays.fill (this.displayColor[i], -1);
+            Arrays.fill (this.displayValue[i], -1);
+        }
+        this.clearDisplayCache ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        super.flush ();
+        this.flushProperties ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
         this.clearDisplayCache ();
+        super.forceFlush ();
     }
 
 
@@ -77,8 +125,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
-        this.clearDisplayCache ();
+        this.output.sendSysex (createMessage (MKIII_SYSEX_LAYOUT_COMMAND, layout.intValue ()));
         this.forceFlush ();
     }
 
@@ -105,24 +152,20 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        this.output.sendSysex (createMessage (MKIII_SYSEX_LED_COMMAND, led, 0x01, rgb[0], rgb[1], rgb[2]));
     }
 
 
     /**
-     * Set a color property.
+     * Set a color property. The change is sent with the next flush.
      *
      * @param hPosition The horizontal position (0-8)
-     * @param vPosition The vertical position (0-5)
+     * @param vPosition The vertical position (0-3)
      * @param color The color index (0-127)
      */
     public void setPropertyColor (final int hPosition, final int vPosition, final int color)
     {
-        if (this.displayColorCache[hPosition][vPosition] == color)
-            return;
-        this.displayColorCache[hPosition][vPosition] = color;
-
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.displayColor[hPosition][vPosition] = color;
     }
 
 
@@ -136,43 +179,122 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     private void setPropertyText (final int hPosition, final int vPosition, final String text)
     {
-        String ascii = StringUtils.fixASCII (text);
-        if (ascii.length () > 9)
-            ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        final String ascii = StringUtils.fixASCII (text);
+        this.displayText[hPosition][vPosition] = ascii.length () > 9 ? ascii.substring (0, 9) : ascii;
     }
 
 
     /**
-     * Set a value property. Turns on/off the bottom box.
+     * Set a value property. Turns on/off the bottom box. The change is sent with the next flush.
      *
      * @param hPosition The horizontal position (0-8)
-     * @param vPosition The vertical position (0-5)
+     * @param vPosition The vertical position (0-3)
      * @param value The value
      */
     public void setPropertyValue (final int hPosition, final int vPosition, final int value)
     {
-        if (this.displayValueCache[hPosition][vPosition] == value)
-            return;
-        this.displayValueCache[hPosition][vPosition] = value;
+        this.displayValue[hPosition][vPosition] = value;
+    }
+
+
+    /**
+     * Send all properties which differ from the ones on the device. Several properties are combined
+     * into one message.
+     */
+    private void flushProperties ()
+    {
+        for (int column = 0; column < NUM_COLUMNS; column++)
+        {
+            for (int object = 0; object < NUM_OBJECTS; object++)
+            {
+                final String text = this.displayText[column][object];
+                if (!text.equals (this.displayTextCache[column][object]))
+                {
+                    this.displayTextCache[column][object] = text;
+                    this.addProperty (column, PROPERTY_TEXT, object);
+                    for (int i = 0; i < text.length (); i++)
+                        this.messageBuffer[this.messageLength++] = (byte) (text.charAt (i) & 0x7F);
+                    this.messageBuffer[this.messageLength++] = 0;
+                }
+
+                final int color = this.displayColor[column][object];
+                if (color >= 0 && color != this.displayColorCache[column][object])
+                {
+                    this.displayColorCache[column][object] = color;
+                    this.addProperty (column, PROPERTY_COLOR, object);
+                    this.messageBuffer[this.messageLength++] = (byte) color;
+                }
+
+                final int value = this.displayValue[column][object];
+                if (value >= 0 && value != this.displayValueCache[column][object])
+                {
+                    this.displayValueCache[column][object] = value;
+                    this.addProperty (column, PROPERTY_VALUE, object);
+                    this.messageBuffer[this.messageLength++] = (byte) value;
+                }
+            }
+        }
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.sendPropertyMessage ();
     }
 
 
     /**
-     * Set a display property.
+     * Add the start of a property to the message buffer. Sends the current message first, if there
+     * might not be enough space left.
      *
+     * @param column The horizontal position (0-8)
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
-     * @param hPosition The horizontal position (0-8)
-     * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @param object The vertical position (0-3)
+     */
+    private void addProperty (final int column, final int property, final int object)
+    {
+        if (this.messageLength + MAX_PROPERTY_LENGTH + 1 > MAX_MESSAGE_LENGTH)
+            this.sendPropertyMessage ();
+
+        if (this.messageLength == 0)
+        {
+            System.arraycopy (MKIII_SYSEX_HEADER, 0, this.messageBuffer, 0, MKIII_SYSEX_HEADER.length);
+            this.messageLength = MKIII_SYSEX_HEADER.length;
+            this.messageBuffer[this.messageLength++] = MKIII_SYSEX_PROPERTY_COMMAND;
+        }
+
+        this.messageBuffer[this.messageLength++] = (byte) column;
+        this.messageBuffer[this.messageLength++] = (byte) property;
+        this.messageBuffer[this.messageLength++] = (byte) object;
+    }
+
+
+    /**
+     * Send the collected properties, if any.
+     */
+    private void sendPropertyMessage ()
+    {
+        if (this.messageLength == 0)
+            return;
+        this.messageBuffer[this.messageLength++] = (byte) 0xF7;
+        this.output.sendSysex (Arrays.copyOf (this.messageBuffer, this.messageLength));
+        this.messageLength = 0;
+    }
+
+
+    /**
+     * Create a system exclusive message with the given command and data bytes.
+     *
+     * @param command The command
+     * @param data The data bytes of the command
+     * @return The message
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private static byte [] createMessage (final int command, final int... data)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        final byte [] message = new byte [MKIII_SYSEX_HEADER.length + data.length + 2];
+        System.arraycopy (MKIII_SYSEX_HEADER, 0, message, 0, MKIII_SYSEX_HEADER.length);
+        int pos = MKIII_SYSEX_HEADER.length;
+        message[pos++] = (byte) command;
+        for (final int d: data)
+            message[pos++] = (byte) d;
+        message[pos] = (byte) 0xF7;
+        return message;
     }
 
 
@@ -195,24 +317,28 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        final int [] content = new int [text1.length () + text2.length () + 2];
+        int pos = 0;
+        for (int i = 0; i < text1.length (); i++)
+            content[pos++] = text1.charAt (i) & 0x7F;
+        content[pos++] = 0;
+        for (int i = 0; i < text2.length (); i++)
+            content[pos++] = text2.charAt (i) & 0x7F;
+        content[pos] = 0;
+        this.output.sendSysex (createMessage (MKIII_SYSEX_NOTIFICATION_COMMAND, content));
     }
 
 
     /**
-     * Clear the cache of the display colors and values.
+     * Clear the cache of the sent display texts, colors and values.
      */
     private void clearDisplayCache ()
     {
-        for (int i = 0; i < 9; i++)
+        for (int i = 0; i < NUM_COLUMNS; i++)
         {
-            for (int j = 0; j < 4; j++)
-            {
-                this.displayColorCache[i][j] = -1;
-                this.displayValueCache[i][j] = -1;
-            }
+            Arrays.fill (this.displayTextCache[i], null);
+            Arrays.fill (this.displayColorCache[i], -1);
+            Arrays.fill (this.displayValueCache[i], -1);
         }
     }
 
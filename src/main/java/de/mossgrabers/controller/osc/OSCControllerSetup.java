@@ -36,6 +36,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -76,7 +77,11 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        // The OSC messages are the outputs of the commands, the surface has no hardware to flush
+        final LatencyTracer latencyTracer = this.getSurface ().getLatencyTracer ();
+        latencyTracer.traceFlushStart ();
         this.writer.flush (false);
+        latencyTracer.traceFlushEnd ();
     }
 
 
@@ -184,13 +189,14 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
         final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
         this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        this.writer.setLatencyTracer (surface.getLatencyTracer ());
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
 
         final List<IModule> modules = new ArrayList<> ();
         modules.add (new TransportModule (this.host, this.model, surface, this.writer));
-        modules.add (new GlobalModule (this.host, this.model, this.writer));
+        modules.add (new GlobalModule (this.host, this.model, surface, this.writer));
         modules.add (new LayoutModule (this.host, this.model, this.writer));
         modules.add (new MarkerModule (this.host, this.model, this.writer));
         modules.add (new ProjectModule (this.host, this.model, this.writer));
@@ -4,12 +4,15 @@
 
 package de.mossgrabers.controller.osc.module;
 
+import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.controller.FlushProfiler;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.util.LinkedList;
 
@@ -21,16 +24,24 @@ import java.util.LinkedList;
  */
 public class GlobalModule extends AbstractModule
 {
+    private final FlushProfiler flushProfiler;
+    private final LatencyTracer latencyTracer;
+
+
     /**
      * Constructor.
      *
      * @param host The host
      * @param model The model
+     * @param surface The surface
      * @param writer The writer
      */
-    public GlobalModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
+    public GlobalModule (final IHost host, final IModel model, final OSCControlSurface surface, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.flushProfiler = surface.getFlushProfiler ();
+        this.latencyTracer = surface.getLatencyTracer ();
     }
 
 
@@ -41,7 +52,8 @@ public class GlobalModule extends AbstractModule
         return new String []
         {
             "undo",
-            "redo"
+            "redo",
+            "profile"
         };
     }
 
@@ -60,8 +72,55 @@ public class GlobalModule extends AbstractModule
                 this.model.getApplication ().redo ();
                 break;
 
+            case "profile":
+                this.executeProfile (getSubCommand (path), value);
+                break;
+
             default:
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * Execute a command of the flush profiler or latency tracer. The measurements are sent back to
+     * the client and additionally printed to the console.
+     *
+     * @param subCommand The command: enable, reset, flush or latency
+     * @param value The value of the command
+     * @throws UnknownCommandException If the command is unknown
+     */
+    private void executeProfile (final String subCommand, final Object value) throws UnknownCommandException
+    {
+        switch (subCommand)
+        {
+            case "enable":
+                this.flushProfiler.reset ();
+                this.flushProfiler.setEnabled (isTrigger (value));
+                this.latencyTracer.reset ();
+                this.latencyTracer.setEnabled (isTrigger (value));
+                break;
+
+            case "reset":
+                this.flushProfiler.reset ();
+                this.latencyTracer.reset ();
+                break;
+
+            case "flush":
+                this.writer.sendOSC ("/profile/flush/coalesced", (int) this.flushProfiler.getNumCoalescedRequests (), true);
+                for (final FlushProfiler.Phase phase: FlushProfiler.Phase.values ())
+                    this.writer.sendOSC ("/profile/flush/" + phase.getKey (), this.flushProfiler.getSummary (phase), true);
+                this.host.println (this.flushProfiler.createReport ("OSC"));
+                break;
+
+            case "latency":
+                for (final LatencyTracer.Source source: LatencyTracer.Source.values ())
+                    this.writer.sendOSC ("/profile/latency/" + source.getKey (), this.latencyTracer.getSummary (source), true);
+                this.host.println (this.latencyTracer.createReport ("OSC"));
+                break;
+
+            default:
+                throw new UnknownCommandException (subCommand);
+        }
+    }
 }
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterSampler;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -34,7 +35,10 @@ import java.util.Optional;
  */
 public class TrackModule extends AbstractModule
 {
+    private static final int       VU_INTERVAL = 50;
+
     private final OSCConfiguration configuration;
+    private final VuMeterSampler   vuSampler;
 
 
     /**
@@ -50,6 +54,7 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+        this.vuSampler = new VuMeterSampler (VU_INTERVAL, configuration.getBankPageSize () + 2);
     }
 
 
@@ -99,11 +104,12 @@ public class TrackModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+        final int pageSize = trackBank.getPageSize ();
+        for (int i = 0; i < pageSize; i++)
+            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), i, dump);
+        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), pageSize, dump);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
+        this.flushTrack (this.writer, "/track/selected/", cursorTrack, pageSize + 1, dump);
         this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
         this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
     }
@@ -115,9 +121,10 @@ public class TrackModule extends AbstractModule
      * @param writer Where to send the messages to
      * @param trackAddress The start address for the track
      * @param track The track
+     * @param vuSlot The slot of the track in the VU meter sampler
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final int vuSlot, final boolean dump)
     {
         writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
         final ChannelType type = track.getType ();
@@ -172,7 +179,7 @@ public class TrackModule extends AbstractModule
         writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
         writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? this.vuSampler.sample (vuSlot, track.getVu ()) : 0, dump);
     }
 
 
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -61,6 +62,20 @@ public class OSCParser extends AbstractOpenSoundControlParser
     /** {@inheritDoc} */
     @Override
     public void handle (final IOpenSoundControlMessage message)
+    {
+        final LatencyTracer latencyTracer = this.surface.getLatencyTracer ();
+        final long token = latencyTracer.traceInput (LatencyTracer.Source.OSC);
+        this.dispatch (message);
+        latencyTracer.traceDispatched (token);
+    }
+
+
+    /**
+     * Execute the command of the message.
+     *
+     * @param message The message
+     */
+    private void dispatch (final IOpenSoundControlMessage message)
     {
         this.logMessage (message);
 
@@ -6,7 +6,9 @@ package de.mossgrabers.controller.utilities.midimonitor;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 
@@ -19,9 +21,72 @@ import de.mossgrabers.framework.daw.IHost;
 public class MidiMonitorConfiguration extends AbstractConfiguration
 {
     /** Setting for filtering system real-time. */
-    public static final Integer FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    public static final Integer      FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    /** Setting for filtering by the MIDI status. */
+    public static final Integer      FILTER_STATUS            = Integer.valueOf (51);
+    /** Setting for filtering by the MIDI channel. */
+    public static final Integer      FILTER_CHANNEL           = Integer.valueOf (52);
+    /** Setting for filtering by a note range. */
+    public static final Integer      FILTER_NOTE_RANGE        = Integer.valueOf (53);
+    /** Setting for capturing the MIDI events to a file. */
+    public static final Integer      CAPTURE                  = Integer.valueOf (54);
 
-    private boolean             isFilterSystemRealtimeOn = false;
+    /** Capture is off. */
+    public static final int          CAPTURE_OFF              = 0;
+    /** Capture to a Standard MIDI File. */
+    public static final int          CAPTURE_SMF              = 1;
+    /** Capture to a compact binary log. */
+    public static final int          CAPTURE_BINARY           = 2;
+
+    private static final String      CATEGORY_FILTER          = "Filter";
+    private static final String      CATEGORY_CAPTURE         = "Capture";
+
+    private static final String []   STATUS_OPTIONS           =
+    {
+        "All",
+        "Note On/Off",
+        "Polyphonic Key Pressure",
+        "CC",
+        "Program Change",
+        "Channel Pressure",
+        "Pitchbend",
+        "System"
+    };
+
+    private static final int []      STATUS_CODES             =
+    {
+        -1,
+        0x90,
+        0xA0,
+        0xB0,
+        0xC0,
+        0xD0,
+        0xE0,
+        0xF0
+    };
+
+    private static final String []   CHANNEL_OPTIONS          = new String [17];
+    private static final String []   CAPTURE_OPTIONS          =
+    {
+        "Off",
+        "Standard MIDI File",
+        "Binary Log"
+    };
+
+    static
+    {
+        CHANNEL_OPTIONS[0] = "All";
+        for (int i = 1; i < CHANNEL_OPTIONS.length; i++)
+            CHANNEL_OPTIONS[i] = Integer.toString (i);
+    }
+
+    private boolean                  isFilterSystemRealtimeOn = false;
+    private int                      filterStatus             = -1;
+    private int                      filterChannel            = -1;
+    private int                      filterLowestNote         = 0;
+    private int                      filterHighestNote        = 127;
+    private int                      captureFormat            = CAPTURE_OFF;
+    private String                   captureFolder            = System.getProperty ("user.home", "");
 
 
     /**
@@ -46,6 +111,45 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
             this.notifyObservers (FILTER_SYSTEM_REALTIME);
         });
         this.isSettingActive.add (FILTER_SYSTEM_REALTIME);
+
+        final IEnumSetting filterStatusSetting = globalSettings.getEnumSetting ("Status", CATEGORY_FILTER, STATUS_OPTIONS, STATUS_OPTIONS[0]);
+        filterStatusSetting.addValueObserver (value -> {
+            this.filterStatus = STATUS_CODES[lookupIndex (STATUS_OPTIONS, value)];
+            this.notifyObservers (FILTER_STATUS);
+        });
+        this.isSettingActive.add (FILTER_STATUS);
+
+        final IEnumSetting filterChannelSetting = globalSettings.getEnumSetting ("Channel", CATEGORY_FILTER, CHANNEL_OPTIONS, CHANNEL_OPTIONS[0]);
+        filterChannelSetting.addValueObserver (value -> {
+            this.filterChannel = lookupIndex (CHANNEL_OPTIONS, value) - 1;
+            this.notifyObservers (FILTER_CHANNEL);
+        });
+        this.isSettingActive.add (FILTER_CHANNEL);
+
+        final IIntegerSetting lowestNoteSetting = globalSettings.getRangeSetting ("Lowest note", CATEGORY_FILTER, 0, 127, 1, "", 0);
+        lowestNoteSetting.addValueObserver (value -> {
+            this.filterLowestNote = value.intValue ();
+            this.notifyObservers (FILTER_NOTE_RANGE);
+        });
+        final IIntegerSetting highestNoteSetting = globalSettings.getRangeSetting ("Highest note", CATEGORY_FILTER, 0, 127, 1, "", 127);
+        highestNoteSetting.addValueObserver (value -> {
+            this.filterHighestNote = value.intValue ();
+            this.notifyObservers (FILTER_NOTE_RANGE);
+        });
+        this.isSettingActive.add (FILTER_NOTE_RANGE);
+
+        final IStringSetting captureFolderSetting = globalSettings.getStringSetting ("Folder", CATEGORY_CAPTURE, -1, this.captureFolder);
+        // The folder is applied when the next capture is started
+        captureFolderSetting.addValueObserver (value -> this.captureFolder = value);
+        final IEnumSetting captureSetting = globalSettings.getEnumSetting ("Capture to file", CATEGORY_CAPTURE, CAPTURE_OPTIONS, CAPTURE_OPTIONS[0]);
+        captureSetting.addValueObserver (value -> {
+            final int format = lookupIndex (CAPTURE_OPTIONS, value);
+            if (format == this.captureFormat)
+                return;
+            this.captureFormat = format;
+            this.notifyObservers (CAPTURE);
+        });
+        this.isSettingActive.add (CAPTURE);
     }
 
 
@@ -58,4 +162,70 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
     {
         return this.isFilterSystemRealtimeOn;
     }
+
+
+    /**
+     * Get the status filter.
+     *
+     * @return The upper nibble of the MIDI status to let pass, -1 if all should pass
+     */
+    public int getFilterStatus ()
+    {
+        return this.filterStatus;
+    }
+
+
+    /**
+     * Get the channel filter.
+     *
+     * @return The MIDI channel (0-15) to let pass, -1 if all should pass
+     */
+    public int getFilterChannel ()
+    {
+        return this.filterChannel;
+    }
+
+
+    /**
+     * Get the lowest note of the note range filter.
+     *
+     * @return The lowest note to let pass
+     */
+    public int getFilterLowestNote ()
+    {
+        return this.filterLowestNote;
+    }
+
+
+    /**
+     * Get the highest note of the note range filter.
+     *
+     * @return The highest note to let pass
+     */
+    public int getFilterHighestNote ()
+    {
+        return this.filterHighestNote;
+    }
+
+
+    /**
+     * Get the format for capturing the MIDI events to a file.
+     *
+     * @return CAPTURE_OFF, CAPTURE_SMF or CAPTURE_BINARY
+     */
+    public int getCaptureFormat ()
+    {
+        return this.captureFormat;
+    }
+
+
+    /**
+     * Get the folder in which to store the capture files.
+     *
+     * @return The folder
+     */
+    public String getCaptureFolder ()
+    {
+        return this.captureFolder;
+    }
 }
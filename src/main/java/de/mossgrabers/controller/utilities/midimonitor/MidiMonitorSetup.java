@@ -7,7 +7,6 @@ package de.mossgrabers.controller.utilities.midimonitor;
 import de.mossgrabers.controller.utilities.midimonitor.controller.MidiMonitorControlSurface;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
-import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
@@ -19,7 +18,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class MidiMonitorSetup extends AbstractControllerSetup<IControlSurface<MidiMonitorConfiguration>, MidiMonitorConfiguration>
+public class MidiMonitorSetup extends AbstractControllerSetup<MidiMonitorControlSurface, MidiMonitorConfiguration>
 {
     /**
      * Constructor.
@@ -63,6 +62,16 @@ public class MidiMonitorSetup extends AbstractControllerSetup<IControlSurface<Mi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void createObservers ()
+    {
+        super.createObservers ();
+
+        this.configuration.addSettingObserver (MidiMonitorConfiguration.CAPTURE, () -> this.getSurface ().updateCapture ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Captures MIDI events into a compact binary log. The file starts with the 8 byte header
+ * 'DBMMIDI1'. Each event is stored as an 8 byte timestamp (nano-seconds since the start of the
+ * capture) followed by 4 bytes. For short messages these are 0, status, data 1 and data 2. For
+ * system exclusive messages the first byte is 0xF0, the next 3 bytes are the length of the message,
+ * which follows. All numbers are big-endian.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BinaryLogCapture implements IMidiCapture
+{
+    private static final byte []   HEADER = "DBMMIDI1".getBytes (StandardCharsets.US_ASCII);
+
+    private final DataOutputStream out;
+    private long                   startTime = -1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param file The file to write to
+     * @throws IOException Could not create the file
+     */
+    public BinaryLogCapture (final File file) throws IOException
+    {
+        this.out = new DataOutputStream (new BufferedOutputStream (new FileOutputStream (file)));
+        this.out.write (HEADER);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void write (final long timestamp, final int status, final int data1, final int data2) throws IOException
+    {
+        this.out.writeLong (this.getTime (timestamp));
+        this.out.writeInt ((status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeSysex (final long timestamp, final byte [] data) throws IOException
+    {
+        this.out.writeLong (this.getTime (timestamp));
+        this.out.writeInt (MidiEventBuffer.SYSEX_MARKER | data.length & 0xFFFFFF);
+        this.out.write (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.out.close ();
+    }
+
+
+    private long getTime (final long timestamp)
+    {
+        if (this.startTime < 0)
+            this.startTime = timestamp;
+        return timestamp - this.startTime;
+    }
+}
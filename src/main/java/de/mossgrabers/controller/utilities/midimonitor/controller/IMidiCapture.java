@@ -0,0 +1,38 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+
+/**
+ * Interface to a file which captures MIDI events for offline analysis.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IMidiCapture extends Closeable
+{
+    /**
+     * Write a short MIDI event.
+     *
+     * @param timestamp The time of the event in nano-seconds
+     * @param status The MIDI status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @throws IOException Could not write to the file
+     */
+    void write (long timestamp, int status, int data1, int data2) throws IOException;
+
+
+    /**
+     * Write a system exclusive message.
+     *
+     * @param timestamp The time of the event in nano-seconds
+     * @param data The bytes of the message including the start and end byte
+     * @throws IOException Could not write to the file
+     */
+    void writeSysex (long timestamp, byte [] data) throws IOException;
+}
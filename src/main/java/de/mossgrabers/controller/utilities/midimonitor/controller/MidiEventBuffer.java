@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A lock-free ring buffer which stores raw, time-stamped MIDI events. There must be only one thread
+ * which writes (the MIDI thread) and one thread which reads (the formatter). If the buffer is full,
+ * new events are dropped and counted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiEventBuffer
+{
+    /** Marks an event as a system exclusive message. */
+    public static final int SYSEX_MARKER = 0xF0000000;
+
+
+    /**
+     * Callback for reading events from the buffer.
+     */
+    public interface IMidiEventConsumer
+    {
+        /**
+         * Called for each short MIDI event.
+         *
+         * @param timestamp The time of the event in nano-seconds
+         * @param status The MIDI status byte
+         * @param data1 The first data byte
+         * @param data2 The second data byte
+         */
+        void handleEvent (long timestamp, int status, int data1, int data2);
+
+
+        /**
+         * Called for each system exclusive message.
+         *
+         * @param timestamp The time of the event in nano-seconds
+         * @param data The bytes of the message including the start and end byte
+         */
+        void handleSysex (long timestamp, byte [] data);
+    }
+
+
+    private final int           mask;
+    private final long []       timestamps;
+    private final int []        events;
+    private final byte [] []    sysex;
+    private final AtomicLong    writePosition = new AtomicLong ();
+    private final AtomicLong    readPosition  = new AtomicLong ();
+    private final AtomicInteger dropped       = new AtomicInteger ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of events the buffer can hold, is rounded up to the next power of
+     *            2
+     */
+    public MidiEventBuffer (final int capacity)
+    {
+        final int size = Integer.highestOneBit (Math.max (2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.timestamps = new long [size];
+        this.events = new int [size];
+        this.sysex = new byte [size] [];
+    }
+
+
+    /**
+     * Add a short MIDI event. Must only be called from the producer thread.
+     *
+     * @param timestamp The time of the event in nano-seconds
+     * @param status The MIDI status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return False if the buffer is full and the event was dropped
+     */
+    public boolean offer (final long timestamp, final int status, final int data1, final int data2)
+    {
+        final long position = this.writePosition.get ();
+        if (position - this.readPosition.get () > this.mask)
+        {
+            this.dropped.incrementAndGet ();
+            return false;
+        }
+
+        final int index = (int) (position & this.mask);
+        this.timestamps[index] = timestamp;
+        this.events[index] = (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF;
+        this.sysex[index] = null;
+        this.writePosition.lazySet (position + 1);
+        return true;
+    }
+
+
+    /**
+     * Add a system exclusive message. Must only be called from the producer thread. The array is
+     * stored as a reference and must not be modified afterwards.
+     *
+     * @param timestamp The time of the event in nano-seconds
+     * @param data The bytes of the message
+     * @return False if the buffer is full and the event was dropped
+     */
+    public boolean offerSysex (final long timestamp, final byte [] data)
+    {
+        final long position = this.writePosition.get ();
+        if (position - this.readPosition.get () > this.mask)
+        {
+            this.dropped.incrementAndGet ();
+            return false;
+        }
+
+        final int index = (int) (position & this.mask);
+        this.timestamps[index] = timestamp;
+        this.events[index] = SYSEX_MARKER | data.length & 0xFFFFFF;
+        this.sysex[index] = data;
+        this.writePosition.lazySet (position + 1);
+        return true;
+    }
+
+
+    /**
+     * Read all available events. Must only be called from the consumer thread.
+     *
+     * @param consumer The consumer to hand the events to
+     * @return The number of read events
+     */
+    public int drain (final IMidiEventConsumer consumer)
+    {
+        final long start = this.readPosition.get ();
+        final long end = this.writePosition.get ();
+        for (long position = start; position < end; position++)
+        {
+            final int index = (int) (position & this.mask);
+            final int event = this.events[index];
+            final byte [] data = this.sysex[index];
+            if (data == null)
+                consumer.handleEvent (this.timestamps[index], event >> 16 & 0xFF, event >> 8 & 0xFF, event & 0xFF);
+            else
+            {
+                this.sysex[index] = null;
+                consumer.handleSysex (this.timestamps[index], data);
+            }
+            this.readPosition.lazySet (position + 1);
+        }
+        return (int) (end - start);
+    }
+
+
+    /**
+     * Get and reset the number of events which were dropped since the buffer was full.
+     *
+     * @return The number of dropped events
+     */
+    public int getAndResetDropped ()
+    {
+        return this.dropped.getAndSet (0);
+    }
+}
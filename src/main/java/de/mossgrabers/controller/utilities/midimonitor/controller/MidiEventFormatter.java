@@ -0,0 +1,391 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Background thread which reads the captured MIDI events from the ring buffer, formats them for the
+ * console and optionally writes them to a capture file. All output of one pass is queued at once
+ * and printed to the console by the host thread, see {@link #printPendingOutput()}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiEventFormatter implements Runnable, MidiEventBuffer.IMidiEventConsumer
+{
+    private static final long                             IDLE_INTERVAL    = TimeUnit.MILLISECONDS.toNanos (10);
+    private static final long                             JOIN_TIMEOUT     = 2000;
+    private static final char []                          HEX_DIGITS       = "0123456789ABCDEF".toCharArray ();
+
+    private final IHost                                   host;
+    private final MidiEventBuffer                         buffer;
+    private final AtomicBoolean                           running          = new AtomicBoolean (false);
+    /** Null if the capture was not changed since the formatter thread picked it up. */
+    private final AtomicReference<Optional<IMidiCapture>> nextCapture      = new AtomicReference<> ();
+    private final Queue<Runnable>                         pendingOutput    = new ConcurrentLinkedQueue<> ();
+    private final StringBuilder                           sb               = new StringBuilder (4096);
+
+    private Thread                                        thread;
+    private IMidiCapture                                  capture;
+    private boolean                                       printHeader      = true;
+    private boolean                                       printSysexHeader = true;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param buffer The buffer to read from
+     */
+    public MidiEventFormatter (final IHost host, final MidiEventBuffer buffer)
+    {
+        this.host = host;
+        this.buffer = buffer;
+    }
+
+
+    /**
+     * Start the formatter thread.
+     */
+    public void start ()
+    {
+        if (this.running.getAndSet (true))
+            return;
+        this.thread = new Thread (this, "MIDI Monitor Formatter");
+        this.thread.setDaemon (true);
+        this.thread.start ();
+    }
+
+
+    /**
+     * Check if the formatter thread is running.
+     *
+     * @return True if running
+     */
+    public boolean isRunning ()
+    {
+        return this.running.get ();
+    }
+
+
+    /**
+     * Stop the formatter thread and wait until it has formatted the remaining events and closed the
+     * capture file. Must be called from the host thread.
+     */
+    public void stop ()
+    {
+        if (!this.running.getAndSet (false))
+            return;
+
+        LockSupport.unpark (this.thread);
+        try
+        {
+            this.thread.join (JOIN_TIMEOUT);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+
+        this.printPendingOutput ();
+    }
+
+
+    /**
+     * Print the formatted events and the errors of the formatter thread. Must be called from the
+     * host thread.
+     */
+    public void printPendingOutput ()
+    {
+        Runnable output;
+        while ((output = this.pendingOutput.poll ()) != null)
+            output.run ();
+    }
+
+
+    /**
+     * Set the capture file to write all events to. The previous capture file is closed by the
+     * formatter thread.
+     *
+     * @param capture The new capture, null to stop capturing
+     */
+    public void setCapture (final IMidiCapture capture)
+    {
+        // A capture which was not yet picked up by the formatter thread is closed here
+        final Optional<IMidiCapture> previous = this.nextCapture.getAndSet (Optional.ofNullable (capture));
+        if (previous == null || previous.isEmpty ())
+            return;
+        try
+        {
+            previous.get ().close ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close capture file.", ex);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void run ()
+    {
+        while (this.running.get ())
+        {
+            this.updateCapture ();
+
+            if (this.buffer.drain (this) == 0)
+                LockSupport.parkNanos (IDLE_INTERVAL);
+
+            this.queueOutput ();
+        }
+
+        // Write the events which arrived until the stop into the capture file before closing it
+        this.updateCapture ();
+        this.buffer.drain (this);
+        this.queueOutput ();
+        this.closeCapture ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleEvent (final long timestamp, final int status, final int data1, final int data2)
+    {
+        if (this.capture != null)
+        {
+            try
+            {
+                this.capture.write (timestamp, status, data1, data2);
+            }
+            catch (final IOException ex)
+            {
+                this.queueError ("Could not write to capture file.", ex);
+                this.closeCapture ();
+            }
+        }
+
+        final int channel = status & 0xF;
+        switch (status & 0xF0)
+        {
+            case MidiConstants.CMD_NOTE_OFF:
+                this.log (status, data1, data2, channel).append ("Note Off ").append (Scales.formatNoteAndOctave (data1, -2));
+                break;
+
+            case MidiConstants.CMD_NOTE_ON:
+                this.log (status, data1, data2, channel).append ("Note On  ").append (Scales.formatNoteAndOctave (data1, -2));
+                break;
+
+            case MidiConstants.CMD_POLY_AFTERTOUCH:
+                this.log (status, data1, data2, channel).append ("Polyphonic Key Pressure ").append (Scales.formatNoteAndOctave (data1, -2));
+                break;
+
+            case MidiConstants.CMD_CC:
+                this.log (status, data1, data2, channel).append ("CC ").append (MidiConstants.getCCNames ()[data1]);
+                break;
+
+            case MidiConstants.CMD_PROGRAM_CHANGE:
+                this.log (status, data1, data2, channel).append ("Program Change");
+                break;
+
+            case MidiConstants.CMD_CHANNEL_AFTERTOUCH:
+                this.log (status, data1, data2, channel).append ("Channel Pressure (Aftertouch)");
+                break;
+
+            case MidiConstants.CMD_PITCHBEND:
+                this.log (status, data1, data2, channel).append ("Pitchbend");
+                break;
+
+            case MidiConstants.CMD_SYSTEM:
+                this.log (status, data1, data2, channel).append (MidiConstants.getSysexNames ()[channel]);
+                break;
+
+            default:
+                this.sb.append ("Unhandled MIDI status: ").append (status);
+                break;
+        }
+        this.sb.append ('\n');
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleSysex (final long timestamp, final byte [] data)
+    {
+        if (this.capture != null)
+        {
+            try
+            {
+                this.capture.writeSysex (timestamp, data);
+            }
+            catch (final IOException ex)
+            {
+                this.queueError ("Could not write to capture file.", ex);
+                this.closeCapture ();
+            }
+        }
+
+        if (data.length == 0)
+            return;
+
+        if (this.printSysexHeader)
+        {
+            this.printHeader = true;
+            this.printSysexHeader = false;
+            this.sb.append ("\n| SYSEX\n|-----------------------------------------------------------------------\n");
+        }
+
+        this.sb.append ("| ");
+        for (int i = 0; i < data.length; i++)
+        {
+            appendHex (this.sb, data[i] & 0xFF);
+
+            if (i != 0 && (i + 1) % 16 == 0)
+            {
+                this.sb.append ('\n');
+                if (i + 1 < data.length)
+                    this.sb.append ("| ");
+            }
+            else
+                this.sb.append (' ');
+        }
+
+        if (data.length % 16 != 0)
+        {
+            if (data.length == 6 && (data[0] & 0xFF) == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && (data[5] & 0xFF) == 0xF7)
+                this.sb.append (" - MMC ").append (MidiConstants.getMMCNames ()[data[4]]);
+            this.sb.append ('\n');
+        }
+    }
+
+
+    private StringBuilder log (final int status, final int data1, final int data2, final int channel)
+    {
+        if (this.printHeader)
+        {
+            this.printSysexHeader = true;
+            this.printHeader = false;
+            this.sb.append ("\n| STATUS | DATA 1 | DATA 2 | CHAN | EVENT\n|--------|--------|--------|------|-------------------------------------\n");
+        }
+
+        this.sb.append ("| ");
+        appendHex (this.sb, status);
+        this.sb.append (' ');
+        appendDecimal (this.sb, status, 3);
+        this.sb.append (" | ");
+        appendHex (this.sb, data1);
+        this.sb.append (' ');
+        appendDecimal (this.sb, data1, 3);
+        this.sb.append (" | ");
+        appendHex (this.sb, data2);
+        this.sb.append (' ');
+        appendDecimal (this.sb, data2, 3);
+        this.sb.append (" | ");
+        appendDecimal (this.sb, channel + 1, 4);
+        return this.sb.append (" | ");
+    }
+
+
+    /**
+     * Queue the formatted events and the number of dropped events for printing by the host thread.
+     */
+    private void queueOutput ()
+    {
+        final int dropped = this.buffer.getAndResetDropped ();
+        if (dropped > 0)
+            this.sb.append ("| ").append (dropped).append (" events dropped, buffer overflow!\n");
+
+        if (this.sb.length () == 0)
+            return;
+
+        // Remove the last line break, println adds one
+        this.sb.setLength (this.sb.length () - 1);
+        final String text = this.sb.toString ();
+        this.pendingOutput.add ( () -> this.host.println (text));
+        this.sb.setLength (0);
+    }
+
+
+    /**
+     * Queue an error for printing by the host thread.
+     *
+     * @param message The error message
+     * @param ex The exception
+     */
+    private void queueError (final String message, final Exception ex)
+    {
+        this.pendingOutput.add ( () -> this.host.error (message, ex));
+    }
+
+
+    /**
+     * Switch to the capture which was set last. The single swap ensures that each set capture is
+     * either picked up here or closed by the next call to setCapture.
+     */
+    private void updateCapture ()
+    {
+        final Optional<IMidiCapture> next = this.nextCapture.getAndSet (null);
+        if (next == null)
+            return;
+        this.closeCapture ();
+        this.capture = next.orElse (null);
+    }
+
+
+    private void closeCapture ()
+    {
+        if (this.capture == null)
+            return;
+        try
+        {
+            this.capture.close ();
+        }
+        catch (final IOException ex)
+        {
+            this.queueError ("Could not close capture file.", ex);
+        }
+        this.capture = null;
+    }
+
+
+    /**
+     * Append a byte as a 2 digit hex number.
+     *
+     * @param sb Where to append the number
+     * @param value The value (0-255)
+     */
+    private static void appendHex (final StringBuilder sb, final int value)
+    {
+        sb.append (HEX_DIGITS[value >> 4 & 0xF]).append (HEX_DIGITS[value & 0xF]);
+    }
+
+
+    /**
+     * Append a positive number right aligned with the given width.
+     *
+     * @param sb Where to append the number
+     * @param value The value
+     * @param width The width to pad to
+     */
+    private static void appendDecimal (final StringBuilder sb, final int value, final int width)
+    {
+        final int digits = value >= 100 ? 3 : value >= 10 ? 2 : 1;
+        for (int i = digits; i < width; i++)
+            sb.append (' ');
+        sb.append (value);
+    }
+}
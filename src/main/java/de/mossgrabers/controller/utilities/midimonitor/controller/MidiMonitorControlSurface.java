@@ -9,37 +9,28 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
-import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 
 
 /**
- * The Midi Monitor control surface.
+ * The Midi Monitor control surface. The received MIDI events are filtered and then stored with a
+ * time-stamp in a ring buffer. Formatting and writing the events to the console or a capture file
+ * happens on a background thread.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonitorConfiguration>
 {
-    private static final String [] SPACES           =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         ",
-        "          ",
-        "           ",
-        "            ",
-        "             "
-    };
-
-    private boolean                printHeader      = true;
-    private boolean                printSysexHeader = true;
+    private static final int         BUFFER_SIZE = 8192;
+    /** The interval in milliseconds in which the formatted events are printed. */
+    private static final int         PRINT_DELAY = 20;
+
+    private final MidiEventBuffer    buffer      = new MidiEventBuffer (BUFFER_SIZE);
+    private final MidiEventFormatter formatter;
 
 
     /**
@@ -53,124 +44,122 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
     {
         super (host, configuration, null, null, input, null, 10, 10);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.formatter = new MidiEventFormatter (host, this.buffer);
+        this.formatter.start ();
+        this.host.scheduleTask (this::printEvents, PRINT_DELAY);
+
+        this.input.setSysexByteCallback (this::handleSysEx);
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void handleMidi (final int status, final int data1, final int data2)
+    /**
+     * Print the events formatted by the background thread, the console must only be accessed from
+     * the host thread.
+     */
+    private void printEvents ()
     {
-        final int code = status & 0xF0;
-        final int channel = status & 0xF;
+        if (!this.formatter.isRunning ())
+            return;
+        this.formatter.printPendingOutput ();
+        this.host.scheduleTask (this::printEvents, PRINT_DELAY);
+    }
+
+
+    /**
+     * Start or stop capturing the MIDI events to a file, depending on the configuration settings.
+     */
+    public void updateCapture ()
+    {
+        final int format = this.configuration.getCaptureFormat ();
+        if (format == MidiMonitorConfiguration.CAPTURE_OFF)
+        {
+            this.formatter.setCapture (null);
+            return;
+        }
 
-        switch (code)
+        final boolean isSMF = format == MidiMonitorConfiguration.CAPTURE_SMF;
+        final String filename = "MidiMonitor-" + new SimpleDateFormat ("yyyyMMdd-HHmmss").format (new Date ()) + (isSMF ? ".mid" : ".bin");
+        final File file = new File (this.configuration.getCaptureFolder (), filename);
+        try
+        {
+            this.formatter.setCapture (isSMF ? new StandardMidiFileCapture (file) : new BinaryLogCapture (file));
+            this.host.println ("Capturing to " + file.getAbsolutePath ());
+        }
+        catch (final IOException ex)
         {
-            case MidiConstants.CMD_NOTE_OFF:
-                this.log (status, data1, data2, channel, "Note Off " + Scales.formatNoteAndOctave (data1, -2));
-                break;
-
-            case MidiConstants.CMD_NOTE_ON:
-                this.log (status, data1, data2, channel, "Note On  " + Scales.formatNoteAndOctave (data1, -2));
-                break;
-
-            case MidiConstants.CMD_POLY_AFTERTOUCH:
-                this.log (status, data1, data2, channel, "Polyphonic Key Pressure " + Scales.formatNoteAndOctave (data1, -2));
-                break;
-
-            case MidiConstants.CMD_CC:
-                this.log (status, data1, data2, channel, "CC " + MidiConstants.getCCNames ()[data1]);
-                break;
-
-            case MidiConstants.CMD_PROGRAM_CHANGE:
-                this.log (status, data1, data2, channel, "Program Change");
-                break;
-
-            case MidiConstants.CMD_CHANNEL_AFTERTOUCH:
-                this.log (status, data1, data2, channel, "Channel Pressure (Aftertouch)");
-                break;
-
-            case MidiConstants.CMD_PITCHBEND:
-                this.log (status, data1, data2, channel, "Pitchbend");
-                break;
-
-            case MidiConstants.CMD_SYSTEM:
-                if (!this.configuration.isFilterSystemRealtimeEnabled ())
-                    this.log (status, data1, data2, channel, MidiConstants.getSysexNames ()[channel]);
-                break;
-
-            default:
-                this.host.println ("Unhandled MIDI status: " + status);
-                break;
+            this.host.error ("Could not create capture file: " + file.getAbsolutePath (), ex);
+            this.formatter.setCapture (null);
         }
     }
 
 
-    private void handleSysEx (final String dataStr)
+    /** {@inheritDoc} */
+    @Override
+    protected void handleMidi (final int status, final int data1, final int data2)
     {
-        if (this.printSysexHeader)
+        final long timestamp = System.nanoTime ();
+
+        final int code = status & 0xF0;
+        if (code == MidiConstants.CMD_SYSTEM)
         {
-            this.printHeader = true;
-            this.printSysexHeader = false;
-            this.host.println ("");
-            this.host.println ("| SYSEX");
-            this.host.println ("|-----------------------------------------------------------------------");
+            if (this.configuration.isFilterSystemRealtimeEnabled () || !this.isStatusAccepted (code))
+                return;
         }
-
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        StringBuilder sb = new StringBuilder ("| ");
-        for (int i = 0; i < data.length; i++)
+        else
         {
-            sb.append (String.format ("%02X", Integer.valueOf (data[i])));
+            if (!this.isStatusAccepted (code))
+                return;
+
+            final int filterChannel = this.configuration.getFilterChannel ();
+            if (filterChannel >= 0 && filterChannel != (status & 0xF))
+                return;
 
-            if (i != 0 && (i + 1) % 16 == 0)
+            if (code == MidiConstants.CMD_NOTE_OFF || code == MidiConstants.CMD_NOTE_ON || code == MidiConstants.CMD_POLY_AFTERTOUCH)
             {
-                this.host.println (sb.toString ());
-                sb = new StringBuilder ("| ");
+                if (data1 < this.configuration.getFilterLowestNote () || data1 > this.configuration.getFilterHighestNote ())
+                    return;
             }
-            else
-                sb.append (' ');
         }
 
-        if (sb.length () > 2)
-        {
-            if (data.length == 6 && data[0] == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == 0xF7)
-                sb.append (" - MMC ").append (MidiConstants.getMMCNames ()[data[4]]);
-            this.host.println (sb.toString ());
-        }
+        this.buffer.offer (timestamp, status, data1, data2);
     }
 
 
-    private void log (final int status, final int data1, final int data2, final int channel, final String text)
+    private void handleSysEx (final byte [] data, final int offset, final int length)
     {
-        if (this.printHeader)
-        {
-            this.printSysexHeader = true;
-            this.printHeader = false;
-            this.host.println ("");
-            this.host.println ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
-            this.host.println ("|--------|--------|--------|------|-------------------------------------");
-        }
-        this.host.println ("| " + padNumber (status, 2, true) + " " + padNumber (status, 3, false) + " | " + padNumber (data1, 2, true) + " " + padNumber (data1, 3, false) + " | " + padNumber (data2, 2, true) + " " + padNumber (data2, 3, false) + " | " + padNumber (channel + 1, 4, false) + " | " + text);
+        final long timestamp = System.nanoTime ();
+
+        if (!this.isStatusAccepted (MidiConstants.CMD_SYSTEM))
+            return;
+
+        // The data array is shared with other callbacks, therefore it must be copied
+        this.buffer.offerSysex (timestamp, data.clone ());
     }
 
 
     /**
-     * Format the given number as text and pad it so the string has the given length.
+     * Check if the status code passes the status filter. Note on and off are handled as one.
      *
-     * @param number The number to format (as a hex number)
-     * @param length The maximum length
-     * @param asHex If true format as hex otherwise as decimal
-     * @return The padded text
+     * @param code The upper nibble of the MIDI status
+     * @return True if it passes
      */
-    private static String padNumber (final int number, final int length, final boolean asHex)
+    private boolean isStatusAccepted (final int code)
+    {
+        final int filterStatus = this.configuration.getFilterStatus ();
+        if (filterStatus < 0)
+            return true;
+        if (filterStatus == MidiConstants.CMD_NOTE_ON)
+            return code == MidiConstants.CMD_NOTE_ON || code == MidiConstants.CMD_NOTE_OFF;
+        return filterStatus == code;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void internalShutdown ()
     {
-        final String text = asHex ? String.format ("%02X", Integer.valueOf (number)) : Integer.toString (number);
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return SPACES[diff] + text;
-        return text;
+        this.formatter.stop ();
+
+        super.internalShutdown ();
     }
-}
\ No newline at end of file
+}
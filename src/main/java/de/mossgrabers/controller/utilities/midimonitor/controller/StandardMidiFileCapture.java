@@ -0,0 +1,189 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+
+
+/**
+ * Captures MIDI events into a Standard MIDI File (format 0). The resolution is set to 1000 ticks
+ * per quarter note at 60 BPM, therefore 1 tick is exactly 1 millisecond. System real-time and
+ * common messages are stored as escaped (0xF7) events.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StandardMidiFileCapture implements IMidiCapture
+{
+    private static final int    TICKS_PER_QUARTER = 1000;
+    private static final int    HEADER_LENGTH     = 22;
+
+    private static final byte [] HEADER            =
+    {
+        // MThd, length 6, format 0, 1 track, division
+        'M',
+        'T',
+        'h',
+        'd',
+        0,
+        0,
+        0,
+        6,
+        0,
+        0,
+        0,
+        1,
+        (byte) (TICKS_PER_QUARTER >> 8),
+        (byte) (TICKS_PER_QUARTER & 0xFF),
+        // MTrk, the length is patched on close
+        'M',
+        'T',
+        'r',
+        'k',
+        0,
+        0,
+        0,
+        0,
+        // Tempo 1.000.000 micro-seconds per quarter
+        0,
+        (byte) 0xFF,
+        0x51,
+        3,
+        0x0F,
+        0x42,
+        0x40
+    };
+
+    private static final byte [] END_OF_TRACK      =
+    {
+        0,
+        (byte) 0xFF,
+        0x2F,
+        0
+    };
+
+    private final File          file;
+    private final OutputStream  out;
+    private long                trackLength       = HEADER.length - HEADER_LENGTH;
+    private long                startTime         = -1;
+    private long                lastTick          = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param file The file to write to
+     * @throws IOException Could not create the file
+     */
+    public StandardMidiFileCapture (final File file) throws IOException
+    {
+        this.file = file;
+        this.out = new BufferedOutputStream (new FileOutputStream (file));
+        this.out.write (HEADER);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void write (final long timestamp, final int status, final int data1, final int data2) throws IOException
+    {
+        this.writeDeltaTime (timestamp);
+
+        final int code = status & 0xF0;
+        if (code == 0xF0)
+        {
+            // Real-time and common messages can only be stored as escaped data
+            final int length = status == 0xF2 ? 3 : status == 0xF1 || status == 0xF3 ? 2 : 1;
+            this.writeByte (0xF7);
+            this.writeByte (length);
+            this.writeByte (status);
+            if (length > 1)
+                this.writeByte (data1);
+            if (length > 2)
+                this.writeByte (data2);
+            return;
+        }
+
+        this.writeByte (status);
+        this.writeByte (data1);
+        if (code != 0xC0 && code != 0xD0)
+            this.writeByte (data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeSysex (final long timestamp, final byte [] data) throws IOException
+    {
+        if (data.length == 0)
+            return;
+
+        this.writeDeltaTime (timestamp);
+
+        // The start byte is the event type, the length counts the rest including the end byte
+        this.writeByte (0xF0);
+        this.writeVariableLength (data.length - 1);
+        this.out.write (data, 1, data.length - 1);
+        this.trackLength += data.length - 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.out.write (END_OF_TRACK);
+        this.trackLength += END_OF_TRACK.length;
+        this.out.close ();
+
+        try (final RandomAccessFile raf = new RandomAccessFile (this.file, "rw"))
+        {
+            raf.seek (HEADER_LENGTH - 4);
+            raf.writeInt ((int) this.trackLength);
+        }
+    }
+
+
+    private void writeDeltaTime (final long timestamp) throws IOException
+    {
+        if (this.startTime < 0)
+            this.startTime = timestamp;
+        final long tick = (timestamp - this.startTime) / 1000000L;
+        this.writeVariableLength (Math.max (0, tick - this.lastTick));
+        this.lastTick = Math.max (tick, this.lastTick);
+    }
+
+
+    private void writeVariableLength (final long value) throws IOException
+    {
+        long buffer = value & 0x7F;
+        long v = value >> 7;
+        while (v > 0)
+        {
+            buffer <<= 8;
+            buffer |= v & 0x7F | 0x80;
+            v >>= 7;
+        }
+
+        while (true)
+        {
+            this.writeByte ((int) (buffer & 0xFF));
+            if ((buffer & 0x80) == 0)
+                break;
+            buffer >>= 8;
+        }
+    }
+
+
+    private void writeByte (final int value) throws IOException
+    {
+        this.out.write (value);
+        this.trackLength++;
+    }
+}
@@ -10,8 +10,7 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.featuregroup.IView;
-
-import java.util.List;
+import de.mossgrabers.framework.utils.KeyManager;
 
 
 /**
@@ -82,9 +81,9 @@ public class AftertouchViewCommand<S extends IControlSurface<C>, C extends Confi
         final Configuration config = this.surface.getConfiguration ();
         if (config.getConvertAftertouch () == -2)
         {
-            final List<Integer> keys = this.view.getKeyManager ().getPressedKeys ();
-            for (final Integer key: keys)
-                this.onPolyAftertouch (key.intValue (), value);
+            final KeyManager keyManager = this.view.getKeyManager ();
+            for (int key = keyManager.getNextPressedKey (0); key >= 0; key = keyManager.getNextPressedKey (key + 1))
+                this.onPolyAftertouch (key, value);
         }
         else
             this.onPolyAftertouch (-1, value);
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -21,7 +22,8 @@ import de.mossgrabers.framework.utils.ButtonEvent;
  */
 public abstract class AbstractDoubleTriggerCommand<S extends IControlSurface<C>, C extends Configuration> extends AbstractTriggerCommand<S, C>
 {
-    private boolean restartFlag = false;
+    private boolean             restartFlag = false;
+    private TimerWheel.Deadline restartDeadline;
 
 
     /**
@@ -85,6 +87,8 @@ public abstract class AbstractDoubleTriggerCommand<S extends IControlSurface<C>,
     protected void doubleClickTest ()
     {
         this.restartFlag = true;
-        this.surface.scheduleTask ( () -> this.restartFlag = false, 250);
+        if (this.restartDeadline != null)
+            this.restartDeadline.cancel ();
+        this.restartDeadline = this.model.getHost ().getTimerWheel ().schedule ( () -> this.restartFlag = false, 250);
     }
 }
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -21,8 +22,9 @@ import de.mossgrabers.framework.utils.ButtonEvent;
  */
 public class ChangeTempoCommand<S extends IControlSurface<C>, C extends Configuration> extends AbstractTriggerCommand<S, C>
 {
-    private final boolean isPlus;
-    private boolean       isTempoChange;
+    private final boolean       isPlus;
+    private boolean             isTempoChange;
+    private TimerWheel.Deadline repeatDeadline;
 
 
     /**
@@ -53,9 +55,13 @@ public class ChangeTempoCommand<S extends IControlSurface<C>, C extends Configur
 
     private void doChangeTempo ()
     {
+        // Only one repeat at a time, even if the button is pressed again before the next repeat
+        if (this.repeatDeadline != null)
+            this.repeatDeadline.cancel ();
+
         if (!this.isTempoChange)
             return;
         this.model.getTransport ().changeTempo (this.isPlus, this.surface.isKnobSensitivitySlow ());
-        this.surface.scheduleTask (this::doChangeTempo, 200);
+        this.repeatDeadline = this.model.getHost ().getTimerWheel ().schedule (this::doChangeTempo, 200);
     }
 }
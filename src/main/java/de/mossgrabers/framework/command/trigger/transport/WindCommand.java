@@ -9,6 +9,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -21,10 +22,11 @@ import de.mossgrabers.framework.utils.ButtonEvent;
  */
 public class WindCommand<S extends IControlSurface<C>, C extends Configuration> extends AbstractTriggerCommand<S, C>
 {
-    protected final boolean isFastForwarding;
+    protected final boolean     isFastForwarding;
 
-    private boolean         isRewinding;
-    private boolean         isForwarding;
+    private boolean             isRewinding;
+    private boolean             isForwarding;
+    private TimerWheel.Deadline repeatDeadline;
 
 
     /**
@@ -85,11 +87,15 @@ public class WindCommand<S extends IControlSurface<C>, C extends Configuration>
 
     private void doChangePosition (final boolean slow)
     {
+        // Only one repeat at a time, even if the button is pressed again before the next repeat
+        if (this.repeatDeadline != null)
+            this.repeatDeadline.cancel ();
+
         if (!this.isRewinding && !this.isForwarding)
             return;
 
         this.model.getTransport ().changePosition (this.isForwarding, slow);
-        this.surface.scheduleTask ( () -> this.doChangePosition (slow), 100);
+        this.repeatDeadline = this.model.getHost ().getTimerWheel ().schedule ( () -> this.doChangePosition (slow), 100);
     }
 
 
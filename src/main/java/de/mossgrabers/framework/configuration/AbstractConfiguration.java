@@ -4,10 +4,13 @@
 
 package de.mossgrabers.framework.configuration;
 
+import de.mossgrabers.framework.controller.FlushGovernor;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeter;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
@@ -126,6 +129,20 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      FOOTSWITCH_4                      = Integer.valueOf (41);
     /** Preferred note view. */
     public static final Integer      PREFERRED_NOTE_VIEW               = Integer.valueOf (42);
+    /** The attack, release and peak hold times of the VU meters. */
+    public static final Integer      VU_METER_BALLISTICS               = Integer.valueOf (43);
+    /** Count reads of clip slot and scene values and subscribe them on first read. */
+    public static final Integer      SUBSCRIPTION_PROFILER             = Integer.valueOf (44);
+    /** Measure the flush phases of the surfaces. */
+    public static final Integer      FLUSH_PROFILER                    = Integer.valueOf (45);
+    /** Measure the latency from the surface inputs to the first output. */
+    public static final Integer      LATENCY_TRACER                    = Integer.valueOf (46);
+    /** The frame rate of the surface flushes. */
+    public static final Integer      FLUSH_RATE                        = Integer.valueOf (47);
+    /** Reduce the flush rate when the surfaces are idle. */
+    public static final Integer      FLUSH_LOW_POWER                   = Integer.valueOf (48);
+    /** A debug report was requested. */
+    public static final Integer      DEBUG_REPORT                      = Integer.valueOf (49);
 
     // Implementation IDs start at 50
 
@@ -216,6 +233,36 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** The reports which can be printed from the debug settings. */
+    public enum DebugReport
+    {
+        /** The reads and subscriptions of the clip slot and scene values. */
+        SUBSCRIPTIONS,
+        /** The durations of the flush phases. */
+        FLUSH,
+        /** The latencies from inputs to outputs. */
+        LATENCY
+    }
+
+
+    private static final String [] FLUSH_RATE_OPTIONS =
+    {
+        "Unlimited",
+        "120 Hz",
+        "60 Hz",
+        "30 Hz",
+        "15 Hz"
+    };
+    private static final int []     FLUSH_RATES        =
+    {
+        0,
+        120,
+        60,
+        30,
+        15
+    };
+
+
     private static final String [] AFTERTOUCH_CONVERSION_VALUES = new String [131];
     static
     {
@@ -370,6 +417,9 @@ public abstract class AbstractConfiguration implements Configuration
     private boolean                                   scaleInKey                  = true;
     private String                                    scaleLayout                 = "4th ^";
     private boolean                                   enableVUMeters              = false;
+    private int                                       vuMeterAttack               = VuMeter.DEFAULT_ATTACK;
+    private int                                       vuMeterRelease              = VuMeter.DEFAULT_RELEASE;
+    private int                                       vuMeterPeakHold             = VuMeter.DEFAULT_PEAK_HOLD;
     private BehaviorOnStop                            behaviorOnStop              = BehaviorOnStop.MOVE_PLAY_CURSOR;
     protected boolean                                 flipSession                 = false;
     protected boolean                                 selectClipOnLaunch          = true;
@@ -421,6 +471,14 @@ public abstract class AbstractConfiguration implements Configuration
     private RecordFunction                            shiftedRecordButtonFunction = RecordFunction.NEW_CLIP;
     private Views                                     preferredNoteView           = Views.PLAY;
 
+    private boolean                                   countObservedReads          = false;
+    private boolean                                   subscribeOnFirstRead        = false;
+    private boolean                                   measureFlushPhases          = false;
+    private boolean                                   measureLatency              = false;
+    private int                                       flushRate                   = FlushGovernor.DEFAULT_FRAME_RATE;
+    private boolean                                   reduceFlushRateWhenIdle     = false;
+    private DebugReport                               debugReport                 = DebugReport.SUBSCRIPTIONS;
+
 
     /**
      * Constructor.
@@ -442,6 +500,8 @@ public abstract class AbstractConfiguration implements Configuration
         for (int i = 0; i < this.footswitch.length; i++)
             this.footswitch[i] = FOOTSWITCH_2_NEW_BUTTON;
 
+        this.dontNotifyAll.add (DEBUG_REPORT);
+
         Views.init ();
     }
 
@@ -560,6 +620,30 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getVuMeterAttack ()
+    {
+        return this.vuMeterAttack;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuMeterRelease ()
+    {
+        return this.vuMeterRelease;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuMeterPeakHold ()
+    {
+        return this.vuMeterPeakHold;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setFlipSession (final boolean enabled)
@@ -755,6 +839,73 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCountObservedReads ()
+    {
+        return this.countObservedReads;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribeOnFirstRead ()
+    {
+        return this.subscribeOnFirstRead;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMeasureFlushPhases ()
+    {
+        return this.measureFlushPhases;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMeasureLatency ()
+    {
+        return this.measureLatency;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFlushRate ()
+    {
+        return this.flushRate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isReduceFlushRateWhenIdle ()
+    {
+        return this.reduceFlushRateWhenIdle;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public DebugReport getDebugReport ()
+    {
+        return this.debugReport;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void initFrameworkSettings (final ISettingsUI globalSettings)
+    {
+        this.activateFlushRateSettings (globalSettings);
+        this.activateSubscriptionProfilerSettings (globalSettings);
+        this.activateFlushProfilerSettings (globalSettings);
+        this.activateLatencyTracerSettings (globalSettings);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getFootswitch (final int index)
@@ -1008,6 +1159,144 @@ public abstract class AbstractConfiguration implements Configuration
         });
 
         this.isSettingActive.add (ENABLE_VU_METERS);
+
+        this.activateVuMeterBallisticsSettings (settingsUI, category);
+    }
+
+
+    /**
+     * Activate the VU meter ballistics settings.
+     *
+     * @param settingsUI The settings
+     * @param category The name for the category
+     */
+    protected void activateVuMeterBallisticsSettings (final ISettingsUI settingsUI, final String category)
+    {
+        final IIntegerSetting attackSetting = settingsUI.getRangeSetting ("VU Meter Attack", category, 0, 500, 10, "ms", VuMeter.DEFAULT_ATTACK);
+        attackSetting.addValueObserver (value -> {
+            this.vuMeterAttack = value.intValue ();
+            this.notifyObservers (VU_METER_BALLISTICS);
+        });
+
+        final IIntegerSetting releaseSetting = settingsUI.getRangeSetting ("VU Meter Release", category, 0, 2000, 10, "ms", VuMeter.DEFAULT_RELEASE);
+        releaseSetting.addValueObserver (value -> {
+            this.vuMeterRelease = value.intValue ();
+            this.notifyObservers (VU_METER_BALLISTICS);
+        });
+
+        final IIntegerSetting peakHoldSetting = settingsUI.getRangeSetting ("VU Meter Peak Hold", category, 0, 5000, 100, "ms", VuMeter.DEFAULT_PEAK_HOLD);
+        peakHoldSetting.addValueObserver (value -> {
+            this.vuMeterPeakHold = value.intValue ();
+            this.notifyObservers (VU_METER_BALLISTICS);
+        });
+
+        this.isSettingActive.add (VU_METER_BALLISTICS);
+    }
+
+
+    /**
+     * Activate the flush rate settings. The settings are per extension and therefore apply to all
+     * surfaces of the extension.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFlushRateSettings (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting flushRateSetting = settingsUI.getEnumSetting ("Flush rate", CATEGORY_HARDWARE_SETUP, FLUSH_RATE_OPTIONS, FLUSH_RATE_OPTIONS[0]);
+        flushRateSetting.addValueObserver (value -> {
+            this.flushRate = FLUSH_RATES[lookupIndex (FLUSH_RATE_OPTIONS, value)];
+            this.notifyObservers (FLUSH_RATE);
+        });
+
+        final IEnumSetting lowPowerSetting = settingsUI.getEnumSetting ("Reduce flush rate when idle", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        lowPowerSetting.addValueObserver (value -> {
+            this.reduceFlushRateWhenIdle = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (FLUSH_LOW_POWER);
+        });
+
+        this.isSettingActive.add (FLUSH_RATE);
+        this.isSettingActive.add (FLUSH_LOW_POWER);
+    }
+
+
+    /**
+     * Activate the debug settings of the subscription profiler.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateSubscriptionProfilerSettings (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting countReadsSetting = settingsUI.getEnumSetting ("Count reads of clip slot and scene values", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        countReadsSetting.addValueObserver (value -> {
+            this.countObservedReads = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (SUBSCRIPTION_PROFILER);
+        });
+
+        final IEnumSetting subscribeSetting = settingsUI.getEnumSetting ("Subscribe clip slot and scene values on first read", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        subscribeSetting.addValueObserver (value -> {
+            this.subscribeOnFirstRead = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (SUBSCRIPTION_PROFILER);
+        });
+
+        this.activateDebugReportSetting (settingsUI, "Subscription report", DebugReport.SUBSCRIPTIONS);
+
+        this.isSettingActive.add (SUBSCRIPTION_PROFILER);
+    }
+
+
+    /**
+     * Activate the debug settings of the flush profilers.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFlushProfilerSettings (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting measureFlushSetting = settingsUI.getEnumSetting ("Measure flush phases", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        measureFlushSetting.addValueObserver (value -> {
+            this.measureFlushPhases = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (FLUSH_PROFILER);
+        });
+
+        this.activateDebugReportSetting (settingsUI, "Flush report", DebugReport.FLUSH);
+
+        this.isSettingActive.add (FLUSH_PROFILER);
+    }
+
+
+    /**
+     * Activate the debug settings of the latency tracers.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateLatencyTracerSettings (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting measureLatencySetting = settingsUI.getEnumSetting ("Measure input to output latency", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        measureLatencySetting.addValueObserver (value -> {
+            this.measureLatency = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (LATENCY_TRACER);
+        });
+
+        this.activateDebugReportSetting (settingsUI, "Latency report", DebugReport.LATENCY);
+
+        this.isSettingActive.add (LATENCY_TRACER);
+    }
+
+
+    /**
+     * Activate a signal setting which requests to print a debug report.
+     *
+     * @param settingsUI The settings
+     * @param label The label of the setting
+     * @param report The report to print
+     */
+    private void activateDebugReportSetting (final ISettingsUI settingsUI, final String label, final DebugReport report)
+    {
+        settingsUI.getSignalSetting (label, CATEGORY_DEBUG, "Print").addSignalObserver (value -> {
+            this.debugReport = report;
+            this.notifyObservers (DEBUG_REPORT);
+        });
+
+        this.isSettingActive.add (DEBUG_REPORT);
     }
 
 
@@ -1565,6 +1854,9 @@ public abstract class AbstractConfiguration implements Configuration
      */
     protected void notifyObservers (final Integer settingID)
     {
+        // Views might display any setting on their grid
+        this.host.getChangeEpochs ().bump (ChangeEpochs.Domain.SETTINGS);
+
         final Set<ISettingObserver> set = this.observers.get (settingID);
         if (set != null)
             set.forEach (ISettingObserver::hasChanged);
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.configuration;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration.BehaviorOnStop;
+import de.mossgrabers.framework.configuration.AbstractConfiguration.DebugReport;
 import de.mossgrabers.framework.configuration.AbstractConfiguration.RecordFunction;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
@@ -132,6 +133,30 @@ public interface Configuration
     boolean isEnableVUMeters ();
 
 
+    /**
+     * Get the attack time of the VU meters.
+     *
+     * @return The time in milliseconds
+     */
+    int getVuMeterAttack ();
+
+
+    /**
+     * Get the release time of the VU meters.
+     *
+     * @return The time in milliseconds
+     */
+    int getVuMeterRelease ();
+
+
+    /**
+     * Get the time for which the peak of the VU meters is held.
+     *
+     * @return The time in milliseconds
+     */
+    int getVuMeterPeakHold ();
+
+
     /**
      * Get the behavior when stop is pressed.
      *
@@ -268,6 +293,63 @@ public interface Configuration
     int getActionForRecArmedPad ();
 
 
+    /**
+     * Should the reads of the observed clip slot and scene values be counted?
+     *
+     * @return True if enabled
+     */
+    boolean isCountObservedReads ();
+
+
+    /**
+     * Should the observed clip slot and scene values only be subscribed when they are read for the
+     * first time?
+     *
+     * @return True if enabled
+     */
+    boolean isSubscribeOnFirstRead ();
+
+
+    /**
+     * Should the durations of the flush phases be measured?
+     *
+     * @return True if enabled
+     */
+    boolean isMeasureFlushPhases ();
+
+
+    /**
+     * Should the latency from the surface inputs to the first output be measured?
+     *
+     * @return True if enabled
+     */
+    boolean isMeasureLatency ();
+
+
+    /**
+     * Get the frame rate of the surface flushes.
+     *
+     * @return The frame rate in Hertz, 0 for unlimited
+     */
+    int getFlushRate ();
+
+
+    /**
+     * Should the flush rate be reduced when the surfaces are idle?
+     *
+     * @return True if enabled
+     */
+    boolean isReduceFlushRateWhenIdle ();
+
+
+    /**
+     * Get the debug report which was requested last.
+     *
+     * @return The report
+     */
+    DebugReport getDebugReport ();
+
+
     /**
      * Overwrite this function to add the settings which are supported by your extension.
      *
@@ -277,6 +359,15 @@ public interface Configuration
     void init (ISettingsUI globalSettings, ISettingsUI documentSettings);
 
 
+    /**
+     * Adds the settings of the framework which are supported by all extensions, the flush rate and
+     * the debug settings of the profilers.
+     *
+     * @param globalSettings The global user interface settings
+     */
+    void initFrameworkSettings (ISettingsUI globalSettings);
+
+
     /**
      * Set the VU meters enabled state.
      *
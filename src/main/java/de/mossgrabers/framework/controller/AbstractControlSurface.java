@@ -5,12 +5,14 @@
 package de.mossgrabers.framework.controller;
 
 import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.animation.AnimationClock;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.display.DummyDisplay;
 import de.mossgrabers.framework.controller.display.IDisplay;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.BindType;
@@ -24,7 +26,9 @@ import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.controller.valuechanger.ISensitivityCallback;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.SubscriptionProfiler;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
@@ -33,13 +37,17 @@ import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
@@ -62,6 +70,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected static final int                            NUM_NOTES                      = 128;
     protected static final int                            NUM_INFOS                      = 256;
 
+    /** Redraw the grid on this interval even if nothing changed to catch untracked state. */
+    private static final long                             GRID_REFRESH_INTERVAL          = TimeUnit.MILLISECONDS.toNanos (500);
+
     protected final IHost                                 host;
     protected final IHwSurfaceFactory                     surfaceFactory;
     protected final C                                     configuration;
@@ -90,8 +101,17 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private final DummyDisplay                            dummyDisplay;
     private IHwPianoKeyboard                              pianoKeyboard;
 
-    private final Object                                  updateCounterLock              = new Object ();
-    private int                                           updateCounter                  = 0;
+    protected final AnimationClock                        animationClock;
+    protected final FlushProfiler                         flushProfiler                  = new FlushProfiler ();
+    protected final LatencyTracer                         latencyTracer                  = new LatencyTracer ();
+    protected final FlushGovernor                         flushGovernor;
+
+    private long                                          numInputs;
+    private IView                                         gridView;
+    private Modes                                         gridMode;
+    private long                                          gridInputs;
+    private long                                          gridEpoch;
+    private long                                          gridTime;
 
     private boolean                                       knobSensitivityIsSlow          = false;
     private final List<ISensitivityCallback>              knobSensitivityObservers       = new ArrayList<> ();
@@ -162,7 +182,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         this.dummyDisplay = new DummyDisplay (host);
 
+        this.flushGovernor = new FlushGovernor (host, this::flushHandler, this.latencyTracer, FlushGovernor.DEFAULT_FRAME_RATE);
+        this.animationClock = new AnimationClock (host, this::flush);
+        if (this.padGrid instanceof final BlinkingPadGrid blinkingPadGrid)
+            blinkingPadGrid.setAnimationClock (this.animationClock);
+
         this.output = output;
+        if (this.output != null)
+            this.output.setLatencyTracer (this.latencyTracer);
         this.input = input;
         if (this.input != null)
             this.input.setMidiCallback (this::handleMidi);
@@ -331,6 +358,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         final IBitmap bitmap = display.getImage ();
         display.setHardwareDisplay (this.surfaceFactory.createGraphicsDisplay (this.surfaceID, OutputID.DISPLAY1, bitmap));
+        display.setFlushProfiler (this.flushProfiler);
+        display.setLatencyTracer (this.latencyTracer);
         this.graphicsDisplays.add (display);
     }
 
@@ -369,6 +398,38 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public AnimationClock getAnimationClock ()
+    {
+        return this.animationClock;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public FlushProfiler getFlushProfiler ()
+    {
+        return this.flushProfiler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public LatencyTracer getLatencyTracer ()
+    {
+        return this.latencyTracer;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public FlushGovernor getFlushGovernor ()
+    {
+        return this.flushGovernor;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ILightGuide getLightGuide ()
@@ -550,6 +611,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwButton createButton (final ButtonID buttonID, final String label)
     {
         final IHwButton button = this.surfaceFactory.createButton (this.surfaceID, buttonID, label);
+        button.setLatencyTracer (this.latencyTracer);
+        button.setInputObserver (this::countInput);
         this.buttons.put (buttonID, button);
         return button;
     }
@@ -582,6 +645,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwFader createFader (final ContinuousID faderID, final String label, final boolean isVertical)
     {
         final IHwFader fader = this.surfaceFactory.createFader (this.surfaceID, faderID, label, isVertical);
+        fader.setLatencyTracer (this.latencyTracer);
+        fader.setInputObserver (this::countInput);
         this.continuous.put (faderID, fader);
         return fader;
     }
@@ -592,6 +657,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwAbsoluteKnob createAbsoluteKnob (final ContinuousID knobID, final String label)
     {
         final IHwAbsoluteKnob knob = this.surfaceFactory.createAbsoluteKnob (this.surfaceID, knobID, label);
+        knob.setLatencyTracer (this.latencyTracer);
+        knob.setInputObserver (this::countInput);
         this.continuous.put (knobID, knob);
         return knob;
     }
@@ -602,6 +669,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwRelativeKnob createRelativeKnob (final ContinuousID knobID, final String label)
     {
         final IHwRelativeKnob knob = this.surfaceFactory.createRelativeKnob (this.surfaceID, knobID, label);
+        knob.setLatencyTracer (this.latencyTracer);
+        knob.setInputObserver (this::countInput);
         this.continuous.put (knobID, knob);
         return knob;
     }
@@ -612,6 +681,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwRelativeKnob createRelativeKnob (final ContinuousID knobID, final String label, final RelativeEncoding encoding)
     {
         final IHwRelativeKnob knob = this.surfaceFactory.createRelativeKnob (this.surfaceID, knobID, label, encoding);
+        knob.setLatencyTracer (this.latencyTracer);
+        knob.setInputObserver (this::countInput);
         this.continuous.put (knobID, knob);
         return knob;
     }
@@ -669,11 +740,11 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void flush ()
     {
-        synchronized (this.updateCounterLock)
-        {
-            this.updateCounter++;
-            this.scheduleTask (this::flushHandler, 1);
-        }
+        this.flushProfiler.countRequest ();
+        if (this.flushGovernor.isActive ())
+            this.flushGovernor.requestFlush ();
+        else
+            this.flushHandler ();
     }
 
 
@@ -700,18 +771,31 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Executes a flush, immediately or as a frame of the flush governor if it is active.
+     */
     protected void flushHandler ()
     {
-        synchronized (this.updateCounterLock)
-        {
-            if (this.updateCounter == 0)
-                return;
-        }
+        // Attribute the reads of the model to this surface
+        final SubscriptionProfiler profiler = this.host.getSubscriptionProfiler ();
+        profiler.setActiveSurface (this.surfaceID);
+
+        this.flushProfiler.countFlush ();
+        final long start = this.flushProfiler.start ();
+        this.latencyTracer.traceFlushStart ();
 
         try
         {
+            this.animationClock.tick ();
+
+            long phaseStart = this.flushProfiler.start ();
             this.updateViewControls ();
+            this.flushProfiler.stop (FlushProfiler.Phase.VIEW_CONTROLS, phaseStart);
+
+            phaseStart = this.flushProfiler.start ();
             this.updateGrid ();
+            this.flushProfiler.stop (FlushProfiler.Phase.GRID, phaseStart);
+
             this.flushHardware ();
         }
         catch (final RuntimeException ex)
@@ -719,16 +803,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             this.host.error ("Crash during flush.", ex);
         }
 
-        synchronized (this.updateCounterLock)
-        {
-            if (this.updateCounter > 1)
-            {
-                this.updateCounter = 1;
-                this.scheduleTask (this::flushHandler, 1);
-            }
-            else
-                this.updateCounter = 0;
-        }
+        this.latencyTracer.traceFlushEnd ();
+        this.flushProfiler.stop (FlushProfiler.Phase.TOTAL, start);
+        profiler.setActiveSurface (-1);
     }
 
 
@@ -773,6 +850,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
      */
     protected void handleMidi (final int status, final int data1, final int data2)
     {
+        this.countInput ();
+        final long token = this.latencyTracer.traceInput (LatencyTracer.Source.MIDI);
+
         final int code = status & 0xF0;
         final int channel = status & 0xF;
 
@@ -810,6 +890,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 this.host.error ("Unhandled MIDI status: " + status);
                 break;
         }
+
+        this.latencyTracer.traceDispatched (token);
     }
 
 
@@ -1022,23 +1104,74 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
 
     /**
-     * Redraws the grid for the active view.
+     * Redraws the grid for the active view. Drawing is skipped if the view declares the domains of
+     * the model on which its grid depends, none of them changed, the active mode is the same and
+     * there was no input on the surface since the last drawing.
      */
     protected void updateGrid ()
     {
         final IView view = this.viewManager.getActive ();
-        if (view != null)
+        if (view != null && !this.isGridUpToDate (view))
             view.drawGrid ();
     }
 
 
+    /**
+     * Count an input of the surface. Inputs might change states which are displayed on the grid but
+     * are not tracked by the change epochs, e.g. pressed pads and buttons.
+     */
+    private void countInput ()
+    {
+        this.numInputs++;
+    }
+
+
+    /**
+     * Check if the grid of the view still shows the current state. If not, the state is stored for
+     * the comparison with the next flush, since the grid is drawn afterwards.
+     *
+     * @param view The active view
+     * @return True if drawing the grid can be skipped
+     */
+    private boolean isGridUpToDate (final IView view)
+    {
+        final Set<ChangeEpochs.Domain> dependencies = view.getGridDependencies ();
+        if (dependencies == null)
+        {
+            this.gridView = null;
+            return false;
+        }
+
+        // Some views display the active mode on the grid, e.g. the mode row of the session
+        final Modes mode = this.modeManager.getActiveID ();
+        final long inputs = this.numInputs;
+        final long epoch = this.host.getChangeEpochs ().getEpoch (dependencies);
+        final long now = System.nanoTime ();
+        if (view == this.gridView && mode == this.gridMode && inputs == this.gridInputs && epoch == this.gridEpoch && now - this.gridTime < GRID_REFRESH_INTERVAL)
+            return true;
+
+        this.gridView = view;
+        this.gridMode = mode;
+        this.gridInputs = inputs;
+        this.gridEpoch = epoch;
+        this.gridTime = now;
+        return false;
+    }
+
+
     /**
      * Flush all changes to the hardware.
      */
     protected void flushHardware ()
     {
+        long start = this.flushProfiler.start ();
         this.textDisplays.forEach (ITextDisplay::flush);
+        this.flushProfiler.stop (FlushProfiler.Phase.TEXT_DISPLAYS, start);
+
+        start = this.flushProfiler.start ();
         this.surfaceFactory.flush ();
+        this.flushProfiler.stop (FlushProfiler.Phase.SURFACE_FACTORY, start);
+
         this.continuous.values ().forEach (IHwContinuousControl::update);
     }
 }
\ No newline at end of file
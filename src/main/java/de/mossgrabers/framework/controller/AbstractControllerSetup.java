@@ -21,8 +21,14 @@ import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.SubscriptionProfiler;
 import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.IBank;
+import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
@@ -35,12 +41,15 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
 import de.mossgrabers.framework.utils.IntConsumerSupplier;
+import de.mossgrabers.framework.utils.LatencyTracer;
 import de.mossgrabers.framework.utils.TestCallback;
 import de.mossgrabers.framework.utils.TestFramework;
 import de.mossgrabers.framework.view.Views;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 
@@ -55,18 +64,20 @@ import java.util.function.IntSupplier;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup<S, C>
 {
-    protected final List<S>       surfaces    = new ArrayList<> ();
-    protected final IHost         host;
-    protected final ISettingsUI   globalSettings;
-    protected final ISettingsUI   documentSettings;
-    protected final ISetupFactory factory;
+    private static final int       UNRESOLVED              = Integer.MIN_VALUE;
 
-    protected Scales              scales;
-    protected IModel              model;
-    protected C                   configuration;
-    protected ColorManager        colorManager;
-    protected IValueChanger       valueChanger;
-    protected Modes               currentMode = null;
+    protected final List<S>        surfaces                = new ArrayList<> ();
+    protected final IHost          host;
+    protected final ISettingsUI    globalSettings;
+    protected final ISettingsUI    documentSettings;
+    protected final ISetupFactory  factory;
+
+    protected Scales               scales;
+    protected IModel               model;
+    protected C                    configuration;
+    protected ColorManager         colorManager;
+    protected IValueChanger        valueChanger;
+    protected Modes                currentMode    = null;
 
 
     /**
@@ -132,20 +143,44 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
-        this.initConfiguration ();
-        this.createScales ();
-        this.createModel ();
-        this.createSurface ();
-        this.createModes ();
-        this.createObservers ();
-        this.createViews ();
-        this.registerTriggerCommands ();
-        this.registerContinuousCommands ();
-        this.layoutControls ();
+        final long start = System.nanoTime ();
+        final StringBuilder report = new StringBuilder ("Initialization: ");
+
+        measure (report, "Configuration", this::initConfiguration);
+        measure (report, "Scales", this::createScales);
+        measure (report, "Model", this::createModel);
+        measure (report, "Surface", this::createSurface);
+        measure (report, "Modes", this::createModes);
+        measure (report, "Observers", this::createObservers);
+        measure (report, "Views", this::createViews);
+        measure (report, "Trigger Commands", this::registerTriggerCommands);
+        measure (report, "Continuous Commands", this::registerContinuousCommands);
+        measure (report, "Layout", this::layoutControls);
+        if (this.scales != null)
+            this.scales.setChangeEpochs (this.host.getChangeEpochs ());
+        this.registerFrameworkSettingObservers ();
         if (this.model != null)
             this.model.ensureClip ();
 
         this.configuration.notifyAllObservers ();
+
+        report.append ("Total ").append (TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - start)).append (" ms");
+        this.host.println (report.toString ());
+    }
+
+
+    /**
+     * Execute an initialization phase and add its duration to the report.
+     *
+     * @param report Where to add the duration
+     * @param phase The name of the phase
+     * @param runnable Executes the phase
+     */
+    private static void measure (final StringBuilder report, final String phase, final Runnable runnable)
+    {
+        final long start = System.nanoTime ();
+        runnable.run ();
+        report.append (phase).append (' ').append (TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - start)).append (" ms, ");
     }
 
 
@@ -156,6 +191,18 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+
+        final SubscriptionProfiler profiler = this.host.getSubscriptionProfiler ();
+        if (profiler.isEnabled ())
+            this.host.println (profiler.createReport ());
+        if (!this.surfaces.isEmpty ())
+        {
+            final S surface = this.surfaces.get (0);
+            if (surface.getFlushProfiler ().isEnabled ())
+                this.printFlushReport ();
+            if (surface.getLatencyTracer ().isEnabled ())
+                this.printLatencyReport ();
+        }
         this.host.println ("Exited.");
     }
 
@@ -300,6 +347,117 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected void initConfiguration ()
     {
         this.configuration.init (this.globalSettings, this.documentSettings);
+        this.configuration.initFrameworkSettings (this.globalSettings);
+    }
+
+
+    /**
+     * Apply the flush rate and debug settings to the subscription profiler and to the flush
+     * governors, flush profilers and latency tracers of all surfaces. Must be called after the
+     * surfaces are created.
+     */
+    private void registerFrameworkSettingObservers ()
+    {
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.FLUSH_RATE))
+        {
+            this.configuration.addSettingObserver (AbstractConfiguration.FLUSH_RATE, () -> {
+                final int flushRate = this.configuration.getFlushRate ();
+                for (final S surface: this.surfaces)
+                    surface.getFlushGovernor ().setFrameRate (flushRate);
+            });
+        }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.FLUSH_LOW_POWER))
+        {
+            this.configuration.addSettingObserver (AbstractConfiguration.FLUSH_LOW_POWER, () -> {
+                final boolean isEnabled = this.configuration.isReduceFlushRateWhenIdle ();
+                for (final S surface: this.surfaces)
+                    surface.getFlushGovernor ().setLowPowerEnabled (isEnabled);
+            });
+        }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.SUBSCRIPTION_PROFILER))
+        {
+            this.configuration.addSettingObserver (AbstractConfiguration.SUBSCRIPTION_PROFILER, () -> {
+                final SubscriptionProfiler profiler = this.host.getSubscriptionProfiler ();
+                profiler.setEnabled (this.configuration.isCountObservedReads ());
+                profiler.setSubscribeOnFirstRead (this.configuration.isSubscribeOnFirstRead ());
+            });
+        }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.FLUSH_PROFILER))
+        {
+            this.configuration.addSettingObserver (AbstractConfiguration.FLUSH_PROFILER, () -> {
+                final boolean isEnabled = this.configuration.isMeasureFlushPhases ();
+                for (final S surface: this.surfaces)
+                {
+                    final FlushProfiler flushProfiler = surface.getFlushProfiler ();
+                    flushProfiler.reset ();
+                    flushProfiler.setEnabled (isEnabled);
+                }
+            });
+        }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.LATENCY_TRACER))
+        {
+            this.configuration.addSettingObserver (AbstractConfiguration.LATENCY_TRACER, () -> {
+                final boolean isEnabled = this.configuration.isMeasureLatency ();
+                for (final S surface: this.surfaces)
+                {
+                    final LatencyTracer latencyTracer = surface.getLatencyTracer ();
+                    latencyTracer.reset ();
+                    latencyTracer.setEnabled (isEnabled);
+                }
+                this.host.getTimerWheel ().resetJitterStatistics ();
+            });
+        }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.DEBUG_REPORT))
+            this.configuration.addSettingObserver (AbstractConfiguration.DEBUG_REPORT, this::printDebugReport);
+    }
+
+
+    /**
+     * Print the debug report which was requested in the settings.
+     */
+    private void printDebugReport ()
+    {
+        switch (this.configuration.getDebugReport ())
+        {
+            case SUBSCRIPTIONS:
+                this.host.println (this.host.getSubscriptionProfiler ().createReport ());
+                break;
+
+            case FLUSH:
+                this.printFlushReport ();
+                break;
+
+            case LATENCY:
+                this.printLatencyReport ();
+                break;
+        }
+    }
+
+
+    /**
+     * Print the measurements of the flush profilers of all surfaces.
+     */
+    protected void printFlushReport ()
+    {
+        for (final S surface: this.surfaces)
+            this.host.println (surface.getFlushProfiler ().createReport (this.host.getName () + " " + surface.getSurfaceID ()));
+    }
+
+
+    /**
+     * Print the measurements of the latency tracers of all surfaces and the delays of the gesture
+     * timers.
+     */
+    private void printLatencyReport ()
+    {
+        for (final S surface: this.surfaces)
+            this.host.println (surface.getLatencyTracer ().createReport (this.host.getName () + " " + surface.getSurfaceID ()));
+        this.host.println ("Timer wheel: " + this.host.getTimerWheel ().getJitterStatistics ());
     }
 
 
@@ -354,6 +512,9 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
             this.surfaces.forEach (surface -> surface.addKnobSensitivityObserver (this::updateRelativeKnobSensitivity));
         }
+
+        if (this.model != null && this.configuration.canSettingBeObserved (AbstractConfiguration.VU_METER_BALLISTICS))
+            this.configuration.addSettingObserver (AbstractConfiguration.VU_METER_BALLISTICS, this::updateVuMeterBallistics);
     }
 
 
@@ -854,13 +1015,25 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
      */
     protected void addLight (final S surface, final OutputID outputID, final ButtonID buttonID, final IHwButton button, final int midiChannel, final int midiControl, final IntSupplier supplier, final String... colorIds)
     {
-        surface.createLight (outputID, () -> {
-            final int state = supplier.getAsInt ();
-            // Color is the state if there are no colors provided!
-            if (colorIds == null || colorIds.length == 0)
-                return state;
-            return this.colorManager.getColorIndex (state < 0 ? ColorManager.BUTTON_STATE_OFF : colorIds[state]);
-        }, color -> surface.setTrigger (midiChannel, midiControl, color), state -> this.colorManager.getColor (state, buttonID), button);
+        // Color is the state if there are no colors provided!
+        final IntSupplier colorSupplier;
+        if (colorIds == null || colorIds.length == 0)
+            colorSupplier = supplier;
+        else
+        {
+            // The color indices are looked up once on first use, since not all IDs might be
+            // registered
+            final int [] colorIndices = new int [colorIds.length + 1];
+            Arrays.fill (colorIndices, UNRESOLVED);
+            colorSupplier = () -> {
+                final int state = supplier.getAsInt ();
+                final int index = state < 0 ? colorIds.length : state;
+                if (colorIndices[index] == UNRESOLVED)
+                    colorIndices[index] = this.colorManager.getColorIndex (state < 0 ? ColorManager.BUTTON_STATE_OFF : colorIds[state]);
+                return colorIndices[index];
+            };
+        }
+        surface.createLight (outputID, colorSupplier, color -> surface.setTrigger (midiChannel, midiControl, color), state -> this.colorManager.getColor (state, buttonID), button);
     }
 
 
@@ -1360,6 +1533,33 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Apply the VU meter ballistics from the configuration settings to all channels of the model.
+     */
+    protected void updateVuMeterBallistics ()
+    {
+        this.applyVuMeterBallistics (this.model.getTrackBank ());
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+            this.applyVuMeterBallistics (effectTrackBank);
+        this.model.getMasterTrack ().setVuBallistics (this.configuration.getVuMeterAttack (), this.configuration.getVuMeterRelease (), this.configuration.getVuMeterPeakHold ());
+        this.model.getCursorTrack ().setVuBallistics (this.configuration.getVuMeterAttack (), this.configuration.getVuMeterRelease (), this.configuration.getVuMeterPeakHold ());
+
+        final ICursorDevice cursorDevice = this.model.getCursorDevice ();
+        this.applyVuMeterBallistics (cursorDevice.getLayerBank ());
+        final IDrumPadBank drumPadBank = cursorDevice.getDrumPadBank ();
+        if (drumPadBank != null)
+            this.applyVuMeterBallistics (drumPadBank);
+    }
+
+
+    private void applyVuMeterBallistics (final IBank<? extends IChannel> bank)
+    {
+        for (int i = 0; i < bank.getPageSize (); i++)
+            bank.getItem (i).setVuBallistics (this.configuration.getVuMeterAttack (), this.configuration.getVuMeterRelease (), this.configuration.getVuMeterPeakHold ());
+    }
+
+
     /**
      * Get the button color index from the active mode. Returns 0 if there is no active mode.
      *
@@ -0,0 +1,206 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.LatencyTracer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Coalesces the flush requests of a control surface into frames. A request only marks the surface
+ * as dirty and schedules the next frame if none is scheduled yet. The frames follow a configurable
+ * rate, which is lowered if the flushes take longer than half of the frame time. In the low power
+ * mode the rate is further reduced if there were no inputs and no outputs for a while, the next
+ * input immediately returns to the normal rate.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushGovernor
+{
+    /** The default frame rate in Hertz, unlimited. */
+    public static final int     DEFAULT_FRAME_RATE = 0;
+
+    /** The time without inputs and outputs after which the surface is considered idle. */
+    private static final long   IDLE_TIME          = TimeUnit.SECONDS.toNanos (2);
+    /** The frame time in low power mode. */
+    private static final long   LOW_POWER_INTERVAL = TimeUnit.MILLISECONDS.toNanos (100);
+
+    private final IHost         host;
+    private final Runnable      flushTask;
+    private final LatencyTracer latencyTracer;
+    private final AtomicBoolean isDirty            = new AtomicBoolean ();
+    private final AtomicBoolean isScheduled        = new AtomicBoolean ();
+    private final AtomicLong    frameGeneration    = new AtomicLong ();
+    private volatile long       frameInterval;
+    private volatile boolean    isLowPowerEnabled;
+    private volatile long       lastFrameStart;
+    private volatile long       lastActivity       = System.nanoTime ();
+    private volatile long       lastNumInputs;
+    private volatile boolean    isLowPowerFrame;
+    private volatile long       averageCost;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the frames
+     * @param flushTask Executes the flush of the surface
+     * @param latencyTracer The tracer of the surface, used to detect inputs and outputs
+     * @param frameRate The initial frame rate in Hertz, 0 for unlimited
+     */
+    public FlushGovernor (final IHost host, final Runnable flushTask, final LatencyTracer latencyTracer, final int frameRate)
+    {
+        this.host = host;
+        this.flushTask = flushTask;
+        this.latencyTracer = latencyTracer;
+
+        this.setFrameRate (frameRate);
+    }
+
+
+    /**
+     * Set the frame rate.
+     *
+     * @param frameRate The frame rate in Hertz, 0 for unlimited
+     */
+    public void setFrameRate (final int frameRate)
+    {
+        this.frameInterval = frameRate <= 0 ? 0 : TimeUnit.SECONDS.toNanos (1) / frameRate;
+    }
+
+
+    /**
+     * Enable or disable the low power mode.
+     *
+     * @param isLowPowerEnabled True to reduce the frame rate if the surface is idle
+     */
+    public void setLowPowerEnabled (final boolean isLowPowerEnabled)
+    {
+        this.isLowPowerEnabled = isLowPowerEnabled;
+    }
+
+
+    /**
+     * Check if the governor needs to schedule the flushes. This is the case if a frame rate is set
+     * or the low power mode is enabled. Otherwise the flushes can be executed immediately.
+     *
+     * @return True if active
+     */
+    public boolean isActive ()
+    {
+        return this.frameInterval > 0 || this.isLowPowerEnabled;
+    }
+
+
+    /**
+     * Request a flush. Can be called from any thread.
+     *
+     * @return True if a new frame was scheduled, false if the request was coalesced into the
+     *         already scheduled frame
+     */
+    public boolean requestFlush ()
+    {
+        this.isDirty.set (true);
+        if (!this.isScheduled.compareAndSet (false, true))
+        {
+            // An input ends the low power mode immediately, do not wait for the slow frame
+            if (this.isLowPowerFrame && this.latencyTracer.getNumInputs () != this.lastNumInputs)
+            {
+                this.isLowPowerFrame = false;
+                this.scheduleFrame (1);
+            }
+            return false;
+        }
+
+        final boolean isIdle = this.isIdle ();
+        this.isLowPowerFrame = isIdle;
+        this.scheduleFrame (this.getDelay (isIdle));
+        return true;
+    }
+
+
+    /**
+     * Check if the low power mode is currently active.
+     *
+     * @return True if the low power mode is enabled and the surface is idle
+     */
+    public boolean isIdle ()
+    {
+        return this.isLowPowerEnabled && System.nanoTime () - this.lastActivity > IDLE_TIME && this.latencyTracer.getNumInputs () == this.lastNumInputs;
+    }
+
+
+    /**
+     * Calculate the delay until the next frame is due. Even if the frame is already due there is a
+     * minimum delay of 1ms to coalesce all requests of the current update of the DAW.
+     *
+     * @param isIdle True if the surface is idle and the low power mode is enabled
+     * @return The delay in milliseconds
+     */
+    private long getDelay (final boolean isIdle)
+    {
+        final long interval;
+        if (isIdle)
+            interval = LOW_POWER_INTERVAL;
+        else
+        {
+            final long frameInterval = this.frameInterval;
+            interval = frameInterval == 0 ? 0 : Math.max (frameInterval, 2 * this.averageCost);
+        }
+        final long remaining = this.lastFrameStart + interval - System.nanoTime ();
+        return Math.max (1, TimeUnit.NANOSECONDS.toMillis (remaining));
+    }
+
+
+    /**
+     * Schedule the next frame. A new frame replaces the one which is already scheduled, which is
+     * then skipped when it is due.
+     *
+     * @param delay The delay in milliseconds
+     */
+    private void scheduleFrame (final long delay)
+    {
+        final long generation = this.frameGeneration.incrementAndGet ();
+        this.host.scheduleTask ( () -> this.executeFrame (generation), delay);
+    }
+
+
+    /**
+     * Execute a frame on the control thread.
+     *
+     * @param generation The generation of the frame
+     */
+    private void executeFrame (final long generation)
+    {
+        // A slow frame which was replaced by a fast one
+        if (generation != this.frameGeneration.get ())
+            return;
+
+        // Requests from here on schedule the next frame
+        this.isScheduled.set (false);
+        if (!this.isDirty.getAndSet (false))
+            return;
+
+        final long start = System.nanoTime ();
+        this.lastFrameStart = start;
+        final long numOutputs = this.latencyTracer.getNumOutputs ();
+
+        this.flushTask.run ();
+
+        final long end = System.nanoTime ();
+        this.averageCost += (end - start - this.averageCost) / 8;
+
+        final long numInputs = this.latencyTracer.getNumInputs ();
+        if (numInputs != this.lastNumInputs || numOutputs != this.latencyTracer.getNumOutputs ())
+        {
+            this.lastNumInputs = numInputs;
+            this.lastActivity = end;
+        }
+    }
+}
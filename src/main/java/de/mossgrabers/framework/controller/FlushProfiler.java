@@ -0,0 +1,224 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.utils.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+
+/**
+ * Measures the duration of the phases of the flush of a control surface. Each phase has its own
+ * latency histogram. Additionally, the number of flush requests is counted, which shows how many
+ * requests were coalesced into one flush. Measuring is off by default and costs only a flag check
+ * in that case.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushProfiler
+{
+    /**
+     * The measured phases of a flush.
+     */
+    public enum Phase
+    {
+        /** The complete flush. */
+        TOTAL("total"),
+        /** Update of the controls by the active views and modes. */
+        VIEW_CONTROLS("viewControls"),
+        /** Drawing of the pad grid by the active view. */
+        GRID("grid"),
+        /** Sending the changes of the text displays. */
+        TEXT_DISPLAYS("textDisplays"),
+        /** Sending the changes of lights and displays by the surface factory. */
+        SURFACE_FACTORY("surfaceFactory"),
+        /** Rendering a graphics display. */
+        GRAPHICS_RENDER("graphicsRender"),
+        /** Sending the image of a graphics display. */
+        GRAPHICS_SEND("graphicsSend");
+
+
+        private final String key;
+
+
+        private Phase (final String key)
+        {
+            this.key = key;
+        }
+
+
+        /**
+         * Get the key of the phase, e.g. for OSC addresses.
+         *
+         * @return The key
+         */
+        public String getKey ()
+        {
+            return this.key;
+        }
+    }
+
+
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<> (Phase.class);
+    private volatile boolean                   isEnabled;
+    private long                               numRequests;
+    private long                               numFlushes;
+
+
+    /**
+     * Constructor.
+     */
+    public FlushProfiler ()
+    {
+        for (final Phase phase: Phase.values ())
+            this.histograms.put (phase, new LatencyHistogram ());
+    }
+
+
+    /**
+     * Enable or disable measuring.
+     *
+     * @param isEnabled True to measure
+     */
+    public void setEnabled (final boolean isEnabled)
+    {
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Is measuring enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Start measuring a phase.
+     *
+     * @return The start time to hand to {@link #stop(Phase, long)}, 0 if measuring is disabled
+     */
+    public long start ()
+    {
+        return this.isEnabled ? System.nanoTime () : 0;
+    }
+
+
+    /**
+     * Stop measuring a phase and record its duration.
+     *
+     * @param phase The phase
+     * @param start The value returned from {@link #start()}
+     */
+    public void stop (final Phase phase, final long start)
+    {
+        if (start == 0 || !this.isEnabled)
+            return;
+
+        final long duration = System.nanoTime () - start;
+        synchronized (this.histograms)
+        {
+            this.histograms.get (phase).record (duration);
+        }
+    }
+
+
+    /**
+     * Count a request for a flush.
+     */
+    public void countRequest ()
+    {
+        if (!this.isEnabled)
+            return;
+        synchronized (this.histograms)
+        {
+            this.numRequests++;
+        }
+    }
+
+
+    /**
+     * Count an executed flush.
+     */
+    public void countFlush ()
+    {
+        if (!this.isEnabled)
+            return;
+        synchronized (this.histograms)
+        {
+            this.numFlushes++;
+        }
+    }
+
+
+    /**
+     * Get the number of requests, which were merged into other flushes.
+     *
+     * @return The number of coalesced requests
+     */
+    public long getNumCoalescedRequests ()
+    {
+        synchronized (this.histograms)
+        {
+            return Math.max (0, this.numRequests - this.numFlushes);
+        }
+    }
+
+
+    /**
+     * Get a summary of the measured durations of a phase.
+     *
+     * @param phase The phase
+     * @return The summary
+     */
+    public String getSummary (final Phase phase)
+    {
+        synchronized (this.histograms)
+        {
+            return this.histograms.get (phase).toString ();
+        }
+    }
+
+
+    /**
+     * Remove all measurements.
+     */
+    public void reset ()
+    {
+        synchronized (this.histograms)
+        {
+            this.histograms.values ().forEach (LatencyHistogram::reset);
+            this.numRequests = 0;
+            this.numFlushes = 0;
+        }
+    }
+
+
+    /**
+     * Create a report of all phases.
+     *
+     * @param name The name of the surface
+     * @return The report
+     */
+    public String createReport (final String name)
+    {
+        synchronized (this.histograms)
+        {
+            final StringBuilder report = new StringBuilder ("Flush of ").append (name).append (": ").append (this.numRequests).append (" requests, ").append (this.numFlushes).append (" flushes, ").append (this.getNumCoalescedRequests ()).append (" coalesced");
+            for (final Phase phase: Phase.values ())
+            {
+                final LatencyHistogram histogram = this.histograms.get (phase);
+                if (histogram.getCount () > 0)
+                    report.append ("\n  ").append (phase.getKey ()).append (": ").append (histogram);
+            }
+            return report.toString ();
+        }
+    }
+}
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.controller;
 
 import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.animation.AnimationClock;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.IDisplay;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
@@ -25,6 +26,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 import java.util.Collection;
 import java.util.List;
@@ -151,6 +153,39 @@ public interface IControlSurface<C extends Configuration>
     ILightGuide getLightGuide ();
 
 
+    /**
+     * Get the animation clock which steps all animations of the surface, e.g. virtual faders, and
+     * provides the phases for blinking lights.
+     *
+     * @return The animation clock
+     */
+    AnimationClock getAnimationClock ();
+
+
+    /**
+     * Get the profiler which measures the phases of the flush of the surface.
+     *
+     * @return The profiler
+     */
+    FlushProfiler getFlushProfiler ();
+
+
+    /**
+     * Get the tracer which measures the latency from an input of the surface to the first output.
+     *
+     * @return The tracer
+     */
+    LatencyTracer getLatencyTracer ();
+
+
+    /**
+     * Get the governor which coalesces the flush requests of the surface into frames.
+     *
+     * @return The governor
+     */
+    FlushGovernor getFlushGovernor ();
+
+
     /**
      * Get the MIDI output.
      *
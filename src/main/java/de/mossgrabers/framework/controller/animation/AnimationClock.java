@@ -0,0 +1,169 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.animation;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The animation clock of a control surface. All running animations are stepped together once per
+ * frame and the phases for software simulated blinking are derived from the same frame time. The
+ * clock is ticked from the flush of the control surface. While animations are running a single
+ * timer requests a flush for each frame.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class AnimationClock
+{
+    /** The minimum time between two frames in milliseconds. */
+    public static final int        FRAME_TIME      = 20;
+    /** The time in milliseconds a slowly blinking light is on or off. */
+    public static final int        BLINK_SLOW_TIME = 600;
+    /** The time in milliseconds a fast blinking light is on or off. */
+    public static final int        BLINK_FAST_TIME = 300;
+
+    private final IHost            host;
+    private final Runnable         frameRequest;
+    private final List<IAnimation> animations      = new ArrayList<> ();
+    private final List<IAnimation> running         = new ArrayList<> ();
+    private long                   frameTime       = System.currentTimeMillis ();
+    private boolean                isFrameScheduled;
+    private boolean                isSlowBlinkOn;
+    private boolean                isFastBlinkOn;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the frame timer
+     * @param frameRequest Called when the next frame is due while animations are running, should
+     *            trigger a flush which ticks the clock
+     */
+    public AnimationClock (final IHost host, final Runnable frameRequest)
+    {
+        this.host = host;
+        this.frameRequest = frameRequest;
+    }
+
+
+    /**
+     * Start an animation. If the animation is already running it is restarted.
+     *
+     * @param animation The animation to start
+     */
+    public void start (final IAnimation animation)
+    {
+        synchronized (this.animations)
+        {
+            this.animations.remove (animation);
+            this.animations.add (animation);
+        }
+        this.scheduleFrame ();
+    }
+
+
+    /**
+     * Cancel an animation. It is not stepped anymore.
+     *
+     * @param animation The animation to cancel
+     */
+    public void cancel (final IAnimation animation)
+    {
+        synchronized (this.animations)
+        {
+            this.animations.remove (animation);
+        }
+    }
+
+
+    /**
+     * Check if an animation is running.
+     *
+     * @param animation The animation to check
+     * @return True if it was started and has not finished or been cancelled
+     */
+    public boolean isRunning (final IAnimation animation)
+    {
+        synchronized (this.animations)
+        {
+            return this.animations.contains (animation);
+        }
+    }
+
+
+    /**
+     * Get the blink phase of the current frame.
+     *
+     * @param fast True for the phase of fast blinking lights
+     * @return True if blinking lights should show their blink color
+     */
+    public boolean isBlinkOn (final boolean fast)
+    {
+        return fast ? this.isFastBlinkOn : this.isSlowBlinkOn;
+    }
+
+
+    /**
+     * Start a new frame if the frame time has passed: updates the blink phases and steps all
+     * running animations in one pass. Finished animations are removed.
+     */
+    public void tick ()
+    {
+        final long now = System.currentTimeMillis ();
+        if (now - this.frameTime < FRAME_TIME)
+        {
+            // Too early, e.g. an additional flush, step in the next frame
+            this.scheduleFrame ();
+            return;
+        }
+        this.frameTime = now;
+
+        this.isSlowBlinkOn = now / BLINK_SLOW_TIME % 2 == 1;
+        this.isFastBlinkOn = now / BLINK_FAST_TIME % 2 == 1;
+
+        // Step a copy since animations might be started or cancelled while stepping
+        synchronized (this.animations)
+        {
+            if (this.animations.isEmpty ())
+                return;
+            this.running.addAll (this.animations);
+        }
+
+        for (final IAnimation animation: this.running)
+        {
+            if (animation.step (now))
+                this.cancel (animation);
+        }
+        this.running.clear ();
+
+        this.scheduleFrame ();
+    }
+
+
+    /**
+     * Request the next frame if animations are running. There is only one pending request at a
+     * time independent of the number of animations.
+     */
+    private void scheduleFrame ()
+    {
+        synchronized (this.animations)
+        {
+            if (this.isFrameScheduled || this.animations.isEmpty ())
+                return;
+            this.isFrameScheduled = true;
+        }
+
+        this.host.scheduleTask ( () -> {
+            synchronized (this.animations)
+            {
+                this.isFrameScheduled = false;
+            }
+            this.frameRequest.run ();
+        }, FRAME_TIME);
+    }
+}
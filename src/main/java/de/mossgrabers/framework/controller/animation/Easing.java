@@ -0,0 +1,46 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.animation;
+
+/**
+ * Easing curves which map the progress of an animation to the progress of its value.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum Easing
+{
+    /** Constant speed. */
+    LINEAR,
+    /** Starts slow and gets faster. */
+    EASE_IN,
+    /** Starts fast and slows down towards the end. */
+    EASE_OUT,
+    /** Starts and ends slow. */
+    EASE_IN_OUT;
+
+
+    /**
+     * Apply the curve.
+     *
+     * @param progress The progress of the animation in the range of [0..1]
+     * @return The progress of the value in the range of [0..1]
+     */
+    public double apply (final double progress)
+    {
+        final double t = Math.max (0, Math.min (1, progress));
+        switch (this)
+        {
+            case EASE_IN:
+                return t * t;
+            case EASE_OUT:
+                return t * (2 - t);
+            case EASE_IN_OUT:
+                return t * t * (3 - 2 * t);
+            case LINEAR:
+            default:
+                return t;
+        }
+    }
+}
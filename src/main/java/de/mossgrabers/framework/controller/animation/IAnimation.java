@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.animation;
+
+/**
+ * An animation which is stepped by the animation clock of a control surface.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IAnimation
+{
+    /**
+     * Advance the animation to the given time.
+     *
+     * @param time The time of the current frame in milliseconds
+     * @return True if the animation has finished and should be removed from the clock
+     */
+    boolean step (long time);
+}
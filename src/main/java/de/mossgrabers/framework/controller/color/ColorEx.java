@@ -446,8 +446,10 @@ public class ColorEx
      */
     public int encode ()
     {
-        final int [] c = this.toIntRGB255 ();
-        return c[0] + (c[1] << 8) + (c[2] << 16);
+        final int red = (int) Math.round (this.redValue * 255.0);
+        final int green = (int) Math.round (this.greenValue * 255.0);
+        final int blue = (int) Math.round (this.blueValue * 255.0);
+        return red + (green << 8) + (blue << 16);
     }
 
 
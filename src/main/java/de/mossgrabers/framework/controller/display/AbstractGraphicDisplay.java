@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.display;
 
+import de.mossgrabers.framework.controller.FlushProfiler;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
 import de.mossgrabers.framework.daw.IHost;
@@ -32,6 +33,7 @@ import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.utils.LatencyTracer;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
@@ -87,6 +89,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final IBitmap                  image;
 
     private IHwGraphicsDisplay             hardwareDisplay;
+    private FlushProfiler                  flushProfiler                   = new FlushProfiler ();
 
 
     /**
@@ -171,7 +174,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             if (!this.info.equals (newInfo))
             {
                 this.info = newInfo;
+                final long start = this.flushProfiler.start ();
                 this.renderImage ();
+                this.flushProfiler.stop (FlushProfiler.Phase.GRAPHICS_RENDER, start);
             }
         }
         finally
@@ -179,7 +184,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             this.columns.clear ();
         }
 
+        final long start = this.flushProfiler.start ();
         this.send (this.image);
+        this.flushProfiler.stop (FlushProfiler.Phase.GRAPHICS_SEND, start);
     }
 
 
@@ -400,6 +407,22 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setFlushProfiler (final FlushProfiler flushProfiler)
+    {
+        this.flushProfiler = flushProfiler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLatencyTracer (final LatencyTracer latencyTracer)
+    {
+        // Intentionally empty, displays which are sent via MIDI are traced by the MIDI output
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IHwGraphicsDisplay getHardwareDisplay ()
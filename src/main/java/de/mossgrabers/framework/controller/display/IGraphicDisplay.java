@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.display;
 
+import de.mossgrabers.framework.controller.FlushProfiler;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -14,6 +15,7 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.framework.utils.LatencyTracer;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.List;
@@ -328,6 +330,22 @@ public interface IGraphicDisplay extends IDisplay
     void setHardwareDisplay (IHwGraphicsDisplay display);
 
 
+    /**
+     * Set the profiler which measures rendering and sending of the display.
+     *
+     * @param flushProfiler The profiler
+     */
+    void setFlushProfiler (FlushProfiler flushProfiler);
+
+
+    /**
+     * Set the tracer which measures the latency from an input of the surface to the first output.
+     *
+     * @param latencyTracer The tracer
+     */
+    void setLatencyTracer (LatencyTracer latencyTracer);
+
+
     /**
      * Get the hardware display.
      *
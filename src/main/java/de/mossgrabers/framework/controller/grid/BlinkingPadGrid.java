@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.animation.AnimationClock;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
@@ -13,18 +14,18 @@ import java.util.TreeMap;
 
 
 /**
- * Implementation of a grid of pads with software simulated blinking pads.
+ * Implementation of a grid of pads with software simulated blinking pads. The blink phases are
+ * taken from the animation clock of the control surface.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
-
     protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
     protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
     protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    protected boolean                       isFastBlink;
+    private AnimationClock                  animationClock;
 
 
     /**
@@ -54,6 +55,17 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     }
 
 
+    /**
+     * Set the clock which provides the blink phases. Set by the control surface.
+     *
+     * @param animationClock The animation clock
+     */
+    public void setAnimationClock (final AnimationClock animationClock)
+    {
+        this.animationClock = animationClock;
+    }
+
+
     /**
      * Flush the changed pad LEDs using system exclusive.
      */
@@ -97,15 +109,35 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     }
 
 
+    /**
+     * Update the blink phases from the animation clock.
+     *
+     * @return True if one of the phases has changed and the blinking lights need to be sent again
+     */
     protected boolean checkBlinking ()
     {
-        final long now = System.currentTimeMillis ();
-        if (now - this.updateTime > BLINK_SPEED)
-        {
-            this.updateTime = now;
-            this.isBlink = !this.isBlink;
-            return true;
-        }
-        return false;
+        if (this.animationClock == null)
+            return false;
+
+        final boolean blink = this.animationClock.isBlinkOn (false);
+        final boolean fastBlink = this.animationClock.isBlinkOn (true);
+        if (blink == this.isBlink && fastBlink == this.isFastBlink)
+            return false;
+        this.isBlink = blink;
+        this.isFastBlink = fastBlink;
+        return true;
+    }
+
+
+    /**
+     * Get the color to display for a blinking light in the current blink phase.
+     *
+     * @param info The light
+     * @return The blink or the normal color
+     */
+    protected int getBlinkPhaseColor (final LightInfo info)
+    {
+        final boolean isOn = info.isFast () ? this.isFastBlink : this.isBlink;
+        return isOn ? info.getBlinkColor () : info.getColor ();
     }
 }
@@ -4,11 +4,14 @@
 
 package de.mossgrabers.framework.controller.grid;
 
-import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.controller.animation.AnimationClock;
+import de.mossgrabers.framework.controller.animation.Easing;
+import de.mossgrabers.framework.controller.animation.IAnimation;
 
 
 /**
- * Default implementation of a virtual fader.
+ * Default implementation of a virtual fader. Moving the fader to a pad is animated by the
+ * animation clock of the control surface.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -39,17 +42,19 @@ public class VirtualFaderImpl implements IVirtualFader
     };
     // @formatter:on
 
-    private final IHost                 host;
+    private final AnimationClock        animationClock;
     private final IVirtualFaderCallback callback;
     private final IPadGrid              padGrid;
     private final int                   index;
+    private final IAnimation            moveAnimation          = this::moveFaderToDestination;
 
     private int                         color;
     private boolean                     isPanorama;
     private final int []                colorStates            = new int [8];
 
-    private int                         moveDelay;
-    private int                         moveTimerDelay;
+    private int                         moveStart;
+    private long                        moveStartTime;
+    private long                        moveDuration;
     private int                         moveDestination;
     private int                         moveTargetValue;
     private boolean                     moveDirectionIsUpwards = true;
@@ -60,26 +65,26 @@ public class VirtualFaderImpl implements IVirtualFader
      * Constructor. Does not update a slider on the grid. Use getColorState method to draw the fader
      * yourself.
      *
-     * @param host The host
+     * @param animationClock The clock which animates the fader movements
      * @param callback Callback for getting and setting fader values
      */
-    public VirtualFaderImpl (final IHost host, final IVirtualFaderCallback callback)
+    public VirtualFaderImpl (final AnimationClock animationClock, final IVirtualFaderCallback callback)
     {
-        this (host, callback, null, -1);
+        this (animationClock, callback, null, -1);
     }
 
 
     /**
      * Constructor.
      *
-     * @param host The host
+     * @param animationClock The clock which animates the fader movements
      * @param callback Callback for getting and setting fader values
      * @param padGrid The pad grid on which the virtual fader is drawn
      * @param index the index of the fader
      */
-    public VirtualFaderImpl (final IHost host, final IVirtualFaderCallback callback, final IPadGrid padGrid, final int index)
+    public VirtualFaderImpl (final AnimationClock animationClock, final IVirtualFaderCallback callback, final IPadGrid padGrid, final int index)
     {
-        this.host = host;
+        this.animationClock = animationClock;
         this.padGrid = padGrid;
         this.index = index;
         this.callback = callback;
@@ -124,16 +129,6 @@ public class VirtualFaderImpl implements IVirtualFader
     @Override
     public void moveTo (final int row, final int velocity)
     {
-        // About 3 seconds on softest velocity
-        this.moveDelay = SPEED_SCALE[velocity];
-        this.moveTimerDelay = SPEED_SCALE[SPEED_SCALE.length - 1 - velocity];
-
-        // Compensate for parameter type detection delay
-        this.moveTimerDelay -= 1;
-
-        // Reset parameter type detection flag
-        this.isKnobType = false;
-
         // Calculate the bounds of the destination pad
         final int min = row * PAD_VALUE_AMOUNT;
         final int max = Math.min (127, (row + 1) * PAD_VALUE_AMOUNT - 1);
@@ -170,41 +165,61 @@ public class VirtualFaderImpl implements IVirtualFader
 
         this.moveDestination = newDestination;
 
-        this.moveFaderToDestination ();
-    }
+        // A running movement is replaced by the new one
+        this.animationClock.cancel (this.moveAnimation);
 
-
-    protected void moveFaderToDestination ()
-    {
         final int current = this.callback.getValue ();
-
         if (current == this.moveDestination)
             return;
 
+        // About 3 seconds for the full range on softest velocity
+        final int distance = Math.abs (this.moveDestination - current);
+        this.moveDuration = Math.max (1, distance * SPEED_SCALE[SPEED_SCALE.length - 1 - velocity] / SPEED_SCALE[velocity]);
+        this.moveStart = current;
+        this.moveStartTime = -1;
+        this.moveTargetValue = -1;
         this.moveDirectionIsUpwards = current < this.moveDestination;
-        this.moveTargetValue = this.moveDirectionIsUpwards ? Math.min (current + this.moveDelay, this.moveDestination) : Math.max (current - this.moveDelay, this.moveDestination);
 
-        this.callback.setValue (this.moveTargetValue);
+        // Reset parameter type detection flag
+        this.isKnobType = false;
 
-        // Delay to allow the parameter value to update properly
-        this.host.scheduleTask (this::moveFaderToDestinationCallback, 1);
+        this.animationClock.start (this.moveAnimation);
     }
 
 
-    protected void moveFaderToDestinationCallback ()
+    /**
+     * Step the fader movement to the value of the current frame.
+     *
+     * @param time The time of the frame
+     * @return True if the destination is reached
+     */
+    protected boolean moveFaderToDestination (final long time)
     {
-        final int updatedValue = this.callback.getValue ();
-
-        // Compare updated parameter value to target update value, if it is different the parameter
-        // is either a boolean or selection list type and the destination value should be force set
-        if (!this.isKnobType && updatedValue != this.moveTargetValue)
+        // Compare the parameter value with the value set in the previous frame, if it is different
+        // the parameter is either a boolean or selection list type and the destination value should
+        // be force set
+        if (!this.isKnobType && this.moveTargetValue >= 0 && this.moveTargetValue != this.moveStart)
         {
-            this.callback.setValue (this.moveDestination);
-            return;
+            if (this.callback.getValue () != this.moveTargetValue)
+            {
+                this.callback.setValue (this.moveDestination);
+                return true;
+            }
+            this.isKnobType = true;
         }
 
-        this.isKnobType = true;
-        this.host.scheduleTask (this::moveFaderToDestination, this.moveTimerDelay);
+        // The movement starts with the first frame after the pad was pressed
+        if (this.moveStartTime < 0)
+            this.moveStartTime = time - AnimationClock.FRAME_TIME;
+
+        final double progress = (double) (time - this.moveStartTime) / this.moveDuration;
+        final int value = this.moveStart + (int) Math.round ((this.moveDestination - this.moveStart) * Easing.EASE_OUT.apply (progress));
+        if (value != this.moveTargetValue)
+        {
+            this.moveTargetValue = value;
+            this.callback.setValue (value);
+        }
+        return value == this.moveDestination;
     }
 
 
@@ -7,7 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.TimeoutOptimizer;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,14 +22,13 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 {
     private static final int               BUTTON_STATE_INTERVAL = 300;
 
-    private final TimeoutOptimizer         optimizer;
-
     protected TriggerCommand               command;
     protected IHwLight                     light;
 
     private ButtonEvent                    state;
     private boolean                        isConsumed;
     private int                            pressedVelocity       = 0;
+    private TimerWheel.Deadline            longPressDeadline;
 
     private final List<ButtonEventHandler> downEventHandlers     = new ArrayList<> ();
     private final List<ButtonEventHandler> upEventHandlers       = new ArrayList<> ();
@@ -44,8 +43,6 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     protected AbstractHwButton (final IHost host, final String label)
     {
         super (host, label);
-
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
     }
 
 
@@ -75,15 +72,22 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         if (value == 0)
             return;
 
+        final long token = this.traceInput ();
+
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+        // A long press of a previous press must not end in this press
+        if (this.longPressDeadline != null)
+            this.longPressDeadline.cancel ();
+        this.longPressDeadline = this.host.getTimerWheel ().schedule (this::checkButtonState, BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
 
         this.downEventHandlers.forEach (handler -> handler.handle (ButtonEvent.DOWN));
+
+        this.traceDispatched (token);
     }
 
 
@@ -96,6 +100,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
             return;
 
         this.state = ButtonEvent.UP;
+        if (this.longPressDeadline != null)
+            this.longPressDeadline.cancel ();
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
 
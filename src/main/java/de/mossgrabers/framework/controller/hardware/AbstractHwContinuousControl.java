@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
@@ -31,6 +32,7 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     protected IntSupplier       supplier;
     protected IntConsumer       consumer;
     protected int               outputValue           = -1;
+    private TimerWheel.Deadline longTouchDeadline;
 
 
     /**
@@ -100,7 +102,10 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
         if (this.touchCommand == null)
             return;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        if (this.longTouchDeadline != null)
+            this.longTouchDeadline.cancel ();
+        if (isDown)
+            this.longTouchDeadline = this.host.getTimerWheel ().schedule (this::checkButtonState, BUTTON_STATE_INTERVAL);
 
         this.state = isDown ? ButtonEvent.DOWN : ButtonEvent.UP;
         this.touchCommand.execute (this.state, isDown ? 127 : 0);
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.controller.hardware;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 
 /**
@@ -15,6 +16,10 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
  */
 public abstract class AbstractHwInputControl extends AbstractHwControl implements IHwInputControl
 {
+    private LatencyTracer latencyTracer;
+    private Runnable      inputObserver;
+
+
     /**
      * Constructor.
      *
@@ -33,4 +38,46 @@ public abstract class AbstractHwInputControl extends AbstractHwControl implement
     {
         this.bind (input, type, 0, value);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLatencyTracer (final LatencyTracer latencyTracer)
+    {
+        this.latencyTracer = latencyTracer;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setInputObserver (final Runnable inputObserver)
+    {
+        this.inputObserver = inputObserver;
+    }
+
+
+    /**
+     * Notify the input observer about an input of the control and tag it for measuring the latency
+     * to the first output.
+     *
+     * @return The token to hand to {@link #traceDispatched(long)} after the command was executed
+     */
+    protected long traceInput ()
+    {
+        if (this.inputObserver != null)
+            this.inputObserver.run ();
+        return this.latencyTracer == null ? LatencyTracer.NO_TOKEN : this.latencyTracer.traceInput (LatencyTracer.Source.MIDI);
+    }
+
+
+    /**
+     * Mark the command of an input as executed.
+     *
+     * @param token The token returned by {@link #traceInput()}
+     */
+    protected void traceDispatched (final long token)
+    {
+        if (this.latencyTracer != null)
+            this.latencyTracer.traceDispatched (token);
+    }
 }
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.controller.hardware;
 
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.LatencyTracer;
 
 
 /**
@@ -41,4 +42,20 @@ public interface IHwInputControl extends IHwControl
      * @return True if bound
      */
     boolean isBound ();
+
+
+    /**
+     * Set the tracer which measures the latency from an input of the control to the first output.
+     *
+     * @param latencyTracer The tracer
+     */
+    void setLatencyTracer (LatencyTracer latencyTracer);
+
+
+    /**
+     * Set an observer which is notified about each input of the control.
+     *
+     * @param inputObserver The observer
+     */
+    void setInputObserver (Runnable inputObserver);
 }
@@ -233,6 +233,7 @@ public abstract class AbstractModel implements IModel
         this.currentTrackBank.selectItemAtPosition (this.lastSelection);
         this.lastSelection = selPosition;
 
+        this.host.getChangeEpochs ().bump (ChangeEpochs.Domain.CHANNELS);
         this.trackBankObservers.forEach (observer -> observer.update (this.currentTrackBank));
     }
 
@@ -0,0 +1,132 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.utils.LRUCache;
+
+
+/**
+ * Caches the names of browser results in pages. This allows to display result pages which were
+ * already seen (or pre-fetched) while the DAW still updates its result bank.
+ *
+ * The pages are stored separately for each filter combination, e.g. the content type and the
+ * selected item of each filter column. Switching back to a filter combination shows its already
+ * seen pages again. If the cache is full, the filter combination and within it the pages which
+ * were not used for the longest time are removed. If the number of results of a filter combination
+ * changes (e.g. a search was entered) only its pages are removed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserResultCache
+{
+    private static final int                   MAX_RESULT_LISTS = 16;
+    private static final int                   MAX_PAGES        = 32;
+
+    private final int                          pageSize;
+    private final LRUCache<String, ResultList> resultLists      = new LRUCache<> (MAX_RESULT_LISTS);
+    private ResultList                         current;
+
+
+    /**
+     * Constructor.
+     *
+     * @param pageSize The number of results on a page
+     */
+    public BrowserResultCache (final int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+
+    /**
+     * Select the result list of a filter combination. The following calls refer to this list.
+     *
+     * @param filterKey A text which identifies the filter combination
+     * @param itemCount The number of results which is currently reported, only used if the filter
+     *            combination is not cached yet. It might still be the one of the previous
+     *            combination, which at worst removes the first pages of the new one again.
+     */
+    public void select (final String filterKey, final int itemCount)
+    {
+        ResultList resultList = this.resultLists.get (filterKey);
+        if (resultList == null)
+        {
+            resultList = new ResultList ();
+            resultList.itemCount = itemCount;
+            this.resultLists.put (filterKey, resultList);
+        }
+        this.current = resultList;
+    }
+
+
+    /**
+     * Set the number of results of the selected result list. If it differs from the previous number
+     * the cached pages of the list are removed.
+     *
+     * @param itemCount The number of results
+     */
+    public void setItemCount (final int itemCount)
+    {
+        if (this.current == null || this.current.itemCount == itemCount)
+            return;
+        this.current.pages.clear ();
+        this.current.itemCount = itemCount;
+    }
+
+
+    /**
+     * Store the name of a result of the selected result list.
+     *
+     * @param position The absolute position of the result in the result list
+     * @param name The name of the result
+     */
+    public void put (final int position, final String name)
+    {
+        if (position < 0 || this.current == null)
+            return;
+
+        final Integer pageIndex = Integer.valueOf (position / this.pageSize);
+        String [] page = this.current.pages.get (pageIndex);
+        if (page == null)
+        {
+            page = new String [this.pageSize];
+            this.current.pages.put (pageIndex, page);
+        }
+        page[position % this.pageSize] = name;
+    }
+
+
+    /**
+     * Get the name of a result of the selected result list.
+     *
+     * @param position The absolute position of the result in the result list
+     * @return The name or null if it is not cached
+     */
+    public String get (final int position)
+    {
+        if (position < 0 || this.current == null)
+            return null;
+        final String [] page = this.current.pages.get (Integer.valueOf (position / this.pageSize));
+        return page == null ? null : page[position % this.pageSize];
+    }
+
+
+    /**
+     * Remove all cached results of all filter combinations.
+     */
+    public void clear ()
+    {
+        this.resultLists.clear ();
+        this.current = null;
+    }
+
+
+    /** The cached pages of the results of one filter combination. */
+    private static class ResultList
+    {
+        private final LRUCache<Integer, String []> pages = new LRUCache<> (MAX_PAGES);
+        private int                                itemCount;
+    }
+}
@@ -0,0 +1,82 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Counts the changes of the model, separately for different domains. The observers of the DAW
+ * increase the epoch of a domain whenever one of its values changes. Since the epochs only grow, a
+ * view can detect if anything it depends on has changed by comparing the sum of the epochs with the
+ * sum at its last drawing.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ChangeEpochs
+{
+    /** The domains of the model which are tracked separately. */
+    public enum Domain
+    {
+        /** The states, names and colors of the clip launcher slots. */
+        SLOTS,
+        /** The notes, the playing step and the loop of the cursor clip. */
+        STEPS,
+        /** The states and colors of tracks, layers and drum pads and the current track bank. */
+        CHANNELS,
+        /** The notes which are currently playing on the tracks. */
+        NOTES,
+        /** The scroll positions and the number of items of the banks. */
+        BANKS,
+        /** The play and record states of the transport. */
+        TRANSPORT,
+        /** The scale settings, including the octaves and the drum offset. */
+        SCALES,
+        /** The values of the configuration settings. */
+        SETTINGS
+    }
+
+
+    private final AtomicLongArray epochs = new AtomicLongArray (Domain.values ().length);
+
+
+    /**
+     * Signal a change in the given domain.
+     *
+     * @param domain The domain
+     */
+    public void bump (final Domain domain)
+    {
+        this.epochs.incrementAndGet (domain.ordinal ());
+    }
+
+
+    /**
+     * Get the current epoch of a domain.
+     *
+     * @param domain The domain
+     * @return The number of changes since the start
+     */
+    public long getEpoch (final Domain domain)
+    {
+        return this.epochs.get (domain.ordinal ());
+    }
+
+
+    /**
+     * Get the sum of the epochs of several domains. Changes if any of the domains changed.
+     *
+     * @param domains The domains
+     * @return The sum of their epochs
+     */
+    public long getEpoch (final Set<Domain> domains)
+    {
+        long sum = 0;
+        for (final Domain domain: domains)
+            sum += this.epochs.get (domain.ordinal ());
+        return sum;
+    }
+}
@@ -15,6 +15,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.List;
 
@@ -58,6 +59,31 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Get the timer wheel for the deadlines of gestures like long-press, double-tap and
+     * auto-repeat. Its tasks are executed like the tasks scheduled with scheduleTask.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
+    /**
+     * Get the profiler which counts the reads of the observed values of the DAW.
+     *
+     * @return The subscription profiler
+     */
+    SubscriptionProfiler getSubscriptionProfiler ();
+
+
+    /**
+     * Get the counters of the changes of the model.
+     *
+     * @return The change epochs
+     */
+    ChangeEpochs getChangeEpochs ();
+
+
     /**
      * Print the error to the console.
      *
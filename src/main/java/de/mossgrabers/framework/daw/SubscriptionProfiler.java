@@ -0,0 +1,212 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+
+/**
+ * Counts the reads of the values which are observed in the DAW, separately for each control
+ * surface. The report shows which subscriptions are never read and therefore only cause traffic
+ * between the DAW and the extension. Optionally, values are kept unsubscribed until they are read
+ * for the first time. Only values which are registered here are covered, currently the ones of the
+ * clip slots and scenes. All other observed values, e.g. of tracks, devices, parameters, transport
+ * and browser, are neither counted nor reported.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SubscriptionProfiler
+{
+    /**
+     * A subscription to an observed value of the DAW.
+     */
+    public interface ISubscription
+    {
+        /**
+         * Subscribe or unsubscribe the value depending on its state and the subscribe on first read
+         * setting of the profiler.
+         */
+        void updateSubscription ();
+    }
+
+
+    /**
+     * The read counters of all subscriptions of the same kind, e.g. the playing state of all
+     * slots.
+     */
+    public final class Entry
+    {
+        private final String name;
+        private int          numSubscriptions;
+        // Index 0 counts the reads outside of the flush of a surface
+        private long []      reads = new long [2];
+
+
+        private Entry (final String name)
+        {
+            this.name = name;
+        }
+
+
+        /**
+         * Count a read of the value. Attributed to the surface which is currently flushed.
+         */
+        public void countRead ()
+        {
+            if (!SubscriptionProfiler.this.isEnabled)
+                return;
+
+            final int index = SubscriptionProfiler.this.activeSurface + 1;
+            if (index >= this.reads.length)
+                this.reads = Arrays.copyOf (this.reads, index + 1);
+            this.reads[index]++;
+        }
+
+
+        private long getTotalReads ()
+        {
+            long total = 0;
+            for (final long count: this.reads)
+                total += count;
+            return total;
+        }
+    }
+
+
+    private final Map<String, Entry>  entries       = new TreeMap<> ();
+    private final List<ISubscription> subscriptions = new ArrayList<> ();
+    private boolean                   isEnabled;
+    private boolean                   isSubscribeOnFirstRead;
+    private int                       activeSurface = -1;
+
+
+    /**
+     * Register a subscription.
+     *
+     * @param name The name of the kind of the value, e.g. "Slot.isPlaying"
+     * @param subscription The subscription
+     * @return The entry for counting the reads
+     */
+    public Entry register (final String name, final ISubscription subscription)
+    {
+        this.subscriptions.add (subscription);
+        final Entry entry = this.entries.computeIfAbsent (name, Entry::new);
+        entry.numSubscriptions++;
+        return entry;
+    }
+
+
+    /**
+     * Enable or disable counting of reads.
+     *
+     * @param isEnabled True to count
+     */
+    public void setEnabled (final boolean isEnabled)
+    {
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Is counting of reads enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Keep values unsubscribed until they are read for the first time. Updates all registered
+     * subscriptions.
+     *
+     * @param isSubscribeOnFirstRead True to subscribe on first read
+     */
+    public void setSubscribeOnFirstRead (final boolean isSubscribeOnFirstRead)
+    {
+        if (this.isSubscribeOnFirstRead == isSubscribeOnFirstRead)
+            return;
+        this.isSubscribeOnFirstRead = isSubscribeOnFirstRead;
+        this.subscriptions.forEach (ISubscription::updateSubscription);
+    }
+
+
+    /**
+     * Are values kept unsubscribed until they are read for the first time?
+     *
+     * @return True if enabled
+     */
+    public boolean isSubscribeOnFirstRead ()
+    {
+        return this.isSubscribeOnFirstRead;
+    }
+
+
+    /**
+     * Set the surface to which the following reads are attributed.
+     *
+     * @param surfaceID The ID of the surface which is flushed, -1 if none
+     */
+    public void setActiveSurface (final int surfaceID)
+    {
+        this.activeSurface = surfaceID;
+    }
+
+
+    /**
+     * Reset all read counters.
+     */
+    public void reset ()
+    {
+        for (final Entry entry: this.entries.values ())
+            Arrays.fill (entry.reads, 0);
+    }
+
+
+    /**
+     * Create a report of the reads of all kinds of registered subscriptions. Unused subscriptions
+     * are listed first.
+     *
+     * @return The report
+     */
+    public String createReport ()
+    {
+        final StringBuilder unused = new StringBuilder ();
+        final StringBuilder used = new StringBuilder ();
+        final Set<String> classes = new TreeSet<> ();
+        int numUnused = 0;
+        int numUnusedSubscriptions = 0;
+
+        for (final Entry entry: this.entries.values ())
+        {
+            final int dot = entry.name.indexOf ('.');
+            classes.add (dot < 0 ? entry.name : entry.name.substring (0, dot));
+
+            if (entry.getTotalReads () == 0)
+            {
+                numUnused++;
+                numUnusedSubscriptions += entry.numSubscriptions;
+                unused.append ("\n  Unused ").append (entry.name).append (": ").append (entry.numSubscriptions).append (" subscriptions");
+                continue;
+            }
+
+            used.append ("\n  ").append (entry.name).append (": ").append (entry.numSubscriptions).append (" subscriptions, reads");
+            for (int i = 1; i < entry.reads.length; i++)
+                used.append (" surface ").append (i - 1).append (' ').append (entry.reads[i]);
+            used.append (" other ").append (entry.reads[0]);
+        }
+
+        final StringBuilder report = new StringBuilder ("Subscriptions of ").append (classes.isEmpty () ? "no" : String.join (", ", classes)).append (" values (other observed values are not instrumented): ");
+        return report.append (this.entries.size ()).append (" kinds, ").append (numUnused).append (" unused with ").append (numUnusedSubscriptions).append (" subscriptions").append (unused).append (used).toString ();
+    }
+}
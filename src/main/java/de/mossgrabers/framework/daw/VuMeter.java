@@ -0,0 +1,176 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A stereo VU meter with attack, release and peak hold ballistics. The raw values are set by the
+ * DAW, the displayed levels follow them with the configured attack and release times. The peak is
+ * held for the peak hold time and afterwards falls with the release time. All calculations are
+ * based on timestamps, therefore the result does not depend on how often the meter is read.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeter
+{
+    /** The default attack time in milliseconds. */
+    public static final int DEFAULT_ATTACK    = 0;
+    /** The default release time in milliseconds, follows immediately like the DAW meters. */
+    public static final int DEFAULT_RELEASE   = 0;
+    /** The default peak hold time in milliseconds. */
+    public static final int DEFAULT_PEAK_HOLD = 1500;
+
+    private final double [] raw               = new double [2];
+    private final double [] level             = new double [2];
+    private final double [] peak              = new double [2];
+    private final long []   peakTime          = new long [2];
+    private long            lastTime          = System.nanoTime ();
+
+    private double          attack;
+    private double          release;
+    private long            peakHold;
+
+
+    /**
+     * Constructor. Uses the default ballistics.
+     */
+    public VuMeter ()
+    {
+        this.setBallistics (DEFAULT_ATTACK, DEFAULT_RELEASE, DEFAULT_PEAK_HOLD);
+    }
+
+
+    /**
+     * Configure the ballistics of the meter.
+     *
+     * @param attackMillis The time constant for rising levels in milliseconds, 0 follows
+     *            immediately
+     * @param releaseMillis The time constant for falling levels in milliseconds, 0 follows
+     *            immediately
+     * @param peakHoldMillis The time in milliseconds for which a peak is held before it falls
+     */
+    public void setBallistics (final int attackMillis, final int releaseMillis, final int peakHoldMillis)
+    {
+        this.update (System.nanoTime ());
+
+        this.attack = TimeUnit.MILLISECONDS.toNanos (Math.max (0, attackMillis));
+        this.release = TimeUnit.MILLISECONDS.toNanos (Math.max (0, releaseMillis));
+        this.peakHold = TimeUnit.MILLISECONDS.toNanos (Math.max (0, peakHoldMillis));
+    }
+
+
+    /**
+     * Set a new raw value of the meter.
+     *
+     * @param channel The channel, 0 for left, 1 for right
+     * @param value The value in the range of [0..1[
+     */
+    public void setValue (final int channel, final double value)
+    {
+        this.update (System.nanoTime ());
+        this.raw[channel] = value;
+
+        // Apply an immediate attack directly
+        if (this.attack == 0 && value > this.level[channel])
+            this.setLevel (channel, value, this.lastTime);
+    }
+
+
+    /**
+     * Get the current level of the meter.
+     *
+     * @param channel The channel, 0 for left, 1 for right
+     * @return The level in the range of [0..1[
+     */
+    public double getLevel (final int channel)
+    {
+        this.update (System.nanoTime ());
+        return this.level[channel];
+    }
+
+
+    /**
+     * Get the current peak of the meter.
+     *
+     * @param channel The channel, 0 for left, 1 for right
+     * @return The peak in the range of [0..1[
+     */
+    public double getPeak (final int channel)
+    {
+        this.update (System.nanoTime ());
+        return this.peak[channel];
+    }
+
+
+    /**
+     * Drop the current peaks to the current levels.
+     */
+    public void resetPeak ()
+    {
+        this.update (System.nanoTime ());
+        for (int i = 0; i < 2; i++)
+        {
+            this.peak[i] = this.level[i];
+            this.peakTime[i] = this.lastTime;
+        }
+    }
+
+
+    /**
+     * Move the levels and peaks forward to the given time.
+     *
+     * @param now The current time in nano-seconds
+     */
+    private void update (final long now)
+    {
+        final long elapsed = now - this.lastTime;
+        if (elapsed <= 0)
+            return;
+        this.lastTime = now;
+
+        for (int i = 0; i < 2; i++)
+        {
+            final double target = this.raw[i];
+            final double current = this.level[i];
+            final double timeConstant = target > current ? this.attack : this.release;
+            this.setLevel (i, approach (current, target, elapsed, timeConstant), now);
+
+            // Let the peak fall after the hold time is over
+            final long holdEnd = this.peakTime[i] + this.peakHold;
+            if (now > holdEnd && this.peak[i] > this.level[i])
+                this.peak[i] = approach (this.peak[i], this.level[i], Math.min (elapsed, now - holdEnd), this.release);
+        }
+    }
+
+
+    private void setLevel (final int channel, final double value, final long now)
+    {
+        this.level[channel] = value;
+        if (value >= this.peak[channel])
+        {
+            this.peak[channel] = value;
+            this.peakTime[channel] = now;
+        }
+    }
+
+
+    /**
+     * Exponentially approach the target value.
+     *
+     * @param current The current value
+     * @param target The target value
+     * @param elapsed The elapsed time in nano-seconds
+     * @param timeConstant The time constant in nano-seconds
+     * @return The new value
+     */
+    private static double approach (final double current, final double target, final long elapsed, final double timeConstant)
+    {
+        if (timeConstant == 0)
+            return target;
+        return target + (current - target) * Math.exp (-elapsed / timeConstant);
+    }
+}
@@ -0,0 +1,66 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Downsamples VU meter values for a surface. Each meter slot takes a new value only if the
+ * interval of the surface has passed since its last sample, otherwise the previous value is
+ * returned. The new value is the maximum of all values since the last sample, therefore short
+ * peaks between two samples are not lost. This allows each surface to send meters at its own rate
+ * instead of every change.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterSampler
+{
+    private final long    interval;
+    private final long [] times;
+    private final int []  values;
+    private final int []  maxima;
+
+
+    /**
+     * Constructor.
+     *
+     * @param intervalMillis The minimum time between two samples of a slot in milliseconds
+     * @param numSlots The number of meter slots
+     */
+    public VuMeterSampler (final int intervalMillis, final int numSlots)
+    {
+        this.interval = TimeUnit.MILLISECONDS.toNanos (intervalMillis);
+        this.times = new long [numSlots];
+        this.values = new int [numSlots];
+        this.maxima = new int [numSlots];
+
+        Arrays.fill (this.times, System.nanoTime () - this.interval);
+    }
+
+
+    /**
+     * Sample a meter value.
+     *
+     * @param slot The index of the meter slot
+     * @param value The current value of the meter
+     * @return The maximum of the values since the last sample if the interval of the slot has
+     *         passed, otherwise the previously sampled value
+     */
+    public int sample (final int slot, final int value)
+    {
+        this.maxima[slot] = Math.max (this.maxima[slot], value);
+
+        final long now = System.nanoTime ();
+        if (now - this.times[slot] >= this.interval)
+        {
+            this.times[slot] = now;
+            this.values[slot] = this.maxima[slot];
+            this.maxima[slot] = 0;
+        }
+        return this.values[slot];
+    }
+}
@@ -0,0 +1,121 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Decides which meter values of a device port need to be sent. The values are compared after they
+ * are quantized to the LED steps of the device, so changes which do not change the display are not
+ * sent.
+ *
+ * Some devices (e.g. MCU) let the meters decay on their own by one step in a fixed time. For these
+ * the decay of the sent values is modeled and only values above the currently displayed step are
+ * sent. A value which does not change is therefore refreshed shortly before the device lowers it.
+ * Falling values are left to the decay of the device, which reaches 0 on its own. For devices
+ * which do not decay all changes are sent.
+ *
+ * Additionally, the number of meter messages per second can be limited to leave bandwidth for
+ * other messages like motor fader updates. Values which exceed the budget are not marked as sent
+ * and are therefore sent on one of the next updates.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterTransmitter
+{
+    /** The length of a burst which can be sent at once. */
+    private static final long BURST_TIME = TimeUnit.MILLISECONDS.toNanos (100);
+    /** Refresh a value this time before the device lowers it, to prevent flickering. */
+    private static final long DECAY_LEAD = TimeUnit.MILLISECONDS.toNanos (50);
+
+    private final long        decayInterval;
+    private final double      tokensPerNano;
+    private final double      maxTokens;
+    private final int []      sentSteps;
+    private final long []     sendTimes;
+    private double            tokens;
+    private long              tokenTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numMeters The number of meters of the device port
+     * @param decayMillis The time in milliseconds in which the device lowers a meter by one step,
+     *            set to 0 if the device does not let the meters decay on its own
+     * @param maxMessagesPerSecond The maximum number of meter messages per second, 0 for no limit
+     */
+    public VuMeterTransmitter (final int numMeters, final int decayMillis, final int maxMessagesPerSecond)
+    {
+        this.decayInterval = TimeUnit.MILLISECONDS.toNanos (decayMillis);
+        this.tokensPerNano = maxMessagesPerSecond / (double) TimeUnit.SECONDS.toNanos (1);
+        this.maxTokens = Math.max (1, this.tokensPerNano * BURST_TIME);
+        this.sentSteps = new int [numMeters];
+        this.sendTimes = new long [numMeters];
+
+        this.reset ();
+    }
+
+
+    /**
+     * Forget all sent values, e.g. after the meters of the device were cleared.
+     */
+    public void reset ()
+    {
+        final long now = System.nanoTime ();
+        Arrays.fill (this.sentSteps, -1);
+        Arrays.fill (this.sendTimes, now);
+        this.tokens = this.maxTokens;
+        this.tokenTime = now;
+    }
+
+
+    /**
+     * Check if a meter value needs to be sent. If true is returned, the value must be sent since it
+     * is treated as sent.
+     *
+     * @param meter The index of the meter
+     * @param step The value of the meter quantized to the steps of the device
+     * @return True if the value needs to be sent
+     */
+    public boolean update (final int meter, final int step)
+    {
+        final long now = System.nanoTime ();
+
+        if (this.decayInterval > 0)
+        {
+            // The step which the device displays after decaying the sent one
+            final long decayedSteps = (now - this.sendTimes[meter] + DECAY_LEAD) / this.decayInterval;
+            final long shownStep = Math.max (0, this.sentSteps[meter] - decayedSteps);
+            if (step <= shownStep)
+                return false;
+        }
+        else if (step == this.sentSteps[meter])
+            return false;
+
+        if (!this.consumeToken (now))
+            return false;
+
+        this.sentSteps[meter] = step;
+        this.sendTimes[meter] = now;
+        return true;
+    }
+
+
+    private boolean consumeToken (final long now)
+    {
+        if (this.tokensPerNano <= 0)
+            return true;
+
+        this.tokens = Math.min (this.maxTokens, this.tokens + (now - this.tokenTime) * this.tokensPerNano);
+        this.tokenTime = now;
+        if (this.tokens < 1)
+            return false;
+        this.tokens--;
+        return true;
+    }
+}
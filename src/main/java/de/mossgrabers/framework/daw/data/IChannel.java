@@ -298,8 +298,8 @@ public interface IChannel extends IItem
 
 
     /**
-     * Get the maximum peak of the left VU value. This takes the maximum of the left VU value since
-     * the first call. If a volume change happened since the last call the value is reset.
+     * Get the peak of the left VU value. The peak is held for the peak hold time of the ballistics
+     * and falls afterwards.
      *
      * @return The left VU value peak
      */
@@ -307,14 +307,24 @@ public interface IChannel extends IItem
 
 
     /**
-     * Get the maximum peak of the right VU value. This takes the maximum of the right VU value
-     * since the first call. If a volume change happened since the last call the value is reset.
+     * Get the peak of the right VU value. The peak is held for the peak hold time of the ballistics
+     * and falls afterwards.
      *
      * @return The right VU value peak
      */
     int getVuPeakRight ();
 
 
+    /**
+     * Configure the ballistics of the VU meter.
+     *
+     * @param attackMillis The time constant for rising levels in milliseconds
+     * @param releaseMillis The time constant for falling levels in milliseconds
+     * @param peakHoldMillis The time in milliseconds for which a peak is held before it falls
+     */
+    void setVuBallistics (int attackMillis, int releaseMillis, int peakHoldMillis);
+
+
     /**
      * Delete the channel.
      */
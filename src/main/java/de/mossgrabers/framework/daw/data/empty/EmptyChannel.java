@@ -188,6 +188,14 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setVuBallistics (final int attackMillis, final int releaseMillis, final int peakHoldMillis)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enableObservers (final boolean enable)
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.utils.LatencyTracer;
+
+
 /**
  * An abstract implementation for a MIDI output
  *
@@ -24,6 +27,8 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     protected static final int PARAMETER_MPE_PITCHBEND_SENSITIVITY_MSB = 0x00;
     protected static final int PARAMETER_MPE_PITCHBEND_SENSITIVITY_LSB = 0x00;
 
+    private LatencyTracer      latencyTracer;
+
 
     /** {@inheritDoc} */
     @Override
@@ -144,6 +149,25 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setLatencyTracer (final LatencyTracer latencyTracer)
+    {
+        this.latencyTracer = latencyTracer;
+    }
+
+
+    /**
+     * Timestamp a sent message for measuring the latency from an input to the first output. Must be
+     * called by the implementations when sending.
+     */
+    protected void traceOutput ()
+    {
+        if (this.latencyTracer != null)
+            this.latencyTracer.traceOutput ();
+    }
+
+
     /**
      * Sends a MIDI message to the hardware device.
      *
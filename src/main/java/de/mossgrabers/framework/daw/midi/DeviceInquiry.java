@@ -46,6 +46,14 @@ public class DeviceInquiry
     };
 
 
+    /** The header of universal non-real time messages, which includes the inquiry response. */
+    public static final byte []  RESPONSE_PREFIX          = new byte []
+    {
+        (byte) 0xF0,
+        (byte) 0x7E
+    };
+
+
     /** Possible results. */
     private enum ResponseType
     {
@@ -67,6 +75,17 @@ public class DeviceInquiry
     private ResponseType responseType;
 
 
+    /**
+     * Constructor.
+     *
+     * @param data The data of a device inquiry response
+     */
+    public DeviceInquiry (final byte [] data)
+    {
+        this (toUnsigned (data));
+    }
+
+
     /**
      * Constructor.
      *
@@ -231,6 +250,15 @@ public class DeviceInquiry
     }
 
 
+    private static int [] toUnsigned (final byte [] data)
+    {
+        final int [] result = new int [data.length];
+        for (int i = 0; i < data.length; i++)
+            result[i] = data[i] & 0xFF;
+        return result;
+    }
+
+
     /**
      * Get the start of the messages content depending on the length of the manufacturer ID.
      *
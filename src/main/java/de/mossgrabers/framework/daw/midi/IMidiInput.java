@@ -36,6 +36,26 @@ public interface IMidiInput
     void setSysexCallback (MidiSysExCallback callback);
 
 
+    /**
+     * Set a callback for MIDI system exclusive messages coming from this input, which are not
+     * handled by a callback registered for a specific prefix. The message is handed over as bytes.
+     *
+     * @param callback The callback
+     */
+    void setSysexByteCallback (MidiSysExByteCallback callback);
+
+
+    /**
+     * Register a callback for MIDI system exclusive messages coming from this input, which start
+     * with the given prefix (e.g. the manufacturer and model header). The callback receives the
+     * data following the prefix.
+     *
+     * @param prefix The prefix including the start byte F0
+     * @param callback The callback
+     */
+    void addSysexByteCallback (byte [] prefix, MidiSysExByteCallback callback);
+
+
     /**
      * Create a note input.
      *
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.utils.LatencyTracer;
+
+
 /**
  * Interface to a MIDI output
  *
@@ -159,4 +162,12 @@ public interface IMidiOutput
      * @param range The pitch bend range (1-96)
      */
     void sendMPEPitchbendRange (int zone, int range);
+
+
+    /**
+     * Set the tracer which measures the latency from an input of a surface to the first output.
+     *
+     * @param latencyTracer The tracer
+     */
+    void setLatencyTracer (LatencyTracer latencyTracer);
 }
\ No newline at end of file
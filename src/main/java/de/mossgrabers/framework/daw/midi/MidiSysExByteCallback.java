@@ -0,0 +1,27 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Callback for receiving MIDI System exclusive messages as bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface MidiSysExByteCallback
+{
+    /**
+     * Handle received MIDI system exclusive data. The array contains the full message (including
+     * the start and end byte). It must not be modified or stored since it is shared between all
+     * callbacks.
+     *
+     * @param data The system exclusive message
+     * @param offset The offset of the part of the message which is relevant for the callback. If the
+     *            callback was registered for a prefix it is the position after the prefix,
+     *            otherwise 0
+     * @param length The length of the relevant part. If the callback was registered for a prefix
+     *            the end byte (F7) is not included, otherwise it is the length of the message
+     */
+    void handleMidi (final byte [] data, final int offset, final int length);
+}
@@ -0,0 +1,110 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Dispatches received system exclusive messages to callbacks which are registered for a header
+ * (e.g. manufacturer and model ID). The callback receives the payload following the header as a
+ * slice of the received data without copying it. Messages which do not match any header are handed
+ * to the default callback.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysExDispatcher
+{
+    private final List<byte []>               prefixes  = new ArrayList<> ();
+    private final List<MidiSysExByteCallback> callbacks = new ArrayList<> ();
+    private MidiSysExByteCallback             defaultCallback;
+
+
+    /**
+     * Set the callback for all messages which do not match one of the registered prefixes.
+     *
+     * @param callback The callback, null to remove it
+     */
+    public synchronized void setDefaultCallback (final MidiSysExByteCallback callback)
+    {
+        this.defaultCallback = callback;
+    }
+
+
+    /**
+     * Register a callback for all messages which start with the given bytes. If prefixes overlap,
+     * the longest matching one is used.
+     *
+     * @param prefix The prefix including the start byte F0
+     * @param callback The callback
+     */
+    public synchronized void addCallback (final byte [] prefix, final MidiSysExByteCallback callback)
+    {
+        // Keep the longest prefixes first
+        int index = 0;
+        while (index < this.prefixes.size () && this.prefixes.get (index).length >= prefix.length)
+            index++;
+        this.prefixes.add (index, prefix.clone ());
+        this.callbacks.add (index, callback);
+    }
+
+
+    /**
+     * Are there any registered callbacks?
+     *
+     * @return True if at least one callback is registered
+     */
+    public synchronized boolean hasCallbacks ()
+    {
+        return this.defaultCallback != null || !this.callbacks.isEmpty ();
+    }
+
+
+    /**
+     * Hand the message to the matching callback.
+     *
+     * @param data The full system exclusive message
+     * @return True if a callback was found
+     */
+    public boolean dispatch (final byte [] data)
+    {
+        final MidiSysExByteCallback callback;
+        int offset = 0;
+        int length = data.length;
+        synchronized (this)
+        {
+            final int index = this.lookup (data);
+            if (index < 0)
+                callback = this.defaultCallback;
+            else
+            {
+                callback = this.callbacks.get (index);
+                offset = this.prefixes.get (index).length;
+                length = data.length - offset;
+                if (length > 0 && data[data.length - 1] == (byte) 0xF7)
+                    length--;
+            }
+        }
+
+        if (callback == null)
+            return false;
+        callback.handleMidi (data, offset, length);
+        return true;
+    }
+
+
+    private int lookup (final byte [] data)
+    {
+        for (int i = 0; i < this.prefixes.size (); i++)
+        {
+            final byte [] prefix = this.prefixes.get (i);
+            if (data.length >= prefix.length && Arrays.equals (prefix, 0, prefix.length, data, 0, prefix.length))
+                return i;
+        }
+        return -1;
+    }
+}
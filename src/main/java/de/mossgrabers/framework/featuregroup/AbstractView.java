@@ -10,6 +10,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -17,6 +18,8 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.util.Set;
+
 
 /**
  * Abstract implementation of a view.
@@ -123,6 +126,15 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ChangeEpochs.Domain> getGridDependencies ()
+    {
+        // Views need to opt-in since they might display anything
+        return null;
+    }
+
+
     /**
      * Get the ID of the color to use for a pad with respect to the current scale settings.
      *
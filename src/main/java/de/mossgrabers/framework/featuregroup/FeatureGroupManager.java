@@ -11,6 +11,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 
 /**
@@ -24,6 +25,7 @@ import java.util.Map.Entry;
 public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 {
     protected final Map<E, F>                         featureGroups;
+    private final Map<E, Supplier<F>>                 factories;
 
     protected E                                       activeID          = null;
     protected E                                       previousID        = null;
@@ -42,6 +44,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public FeatureGroupManager (final Class<E> clazz)
     {
         this.featureGroups = new EnumMap<> (clazz);
+        this.factories = new EnumMap<> (clazz);
     }
 
 
@@ -58,14 +61,38 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 
 
     /**
-     * Get the feature group with the given ID.
+     * Register a feature group which is only created when it is used for the first time. Use this
+     * for rarely used feature groups to speed up the initialization. Note that the factory must not
+     * create any DAW objects since this is only possible during the initialization.
+     *
+     * @param featureGroupId The ID of the feature group to register
+     * @param factory Creates the feature group
+     */
+    public void register (final E featureGroupId, final Supplier<F> factory)
+    {
+        this.factories.put (featureGroupId, factory);
+    }
+
+
+    /**
+     * Get the feature group with the given ID. If the feature group was registered with a factory
+     * and is not yet created, it is created now.
      *
      * @param featureGroupId An ID
      * @return The feature group or null if no feature group with that ID is registered
      */
     public F get (final E featureGroupId)
     {
-        return this.featureGroups.get (featureGroupId);
+        final F featureGroup = this.featureGroups.get (featureGroupId);
+        if (featureGroup != null)
+            return featureGroup;
+
+        final Supplier<F> factory = this.factories.remove (featureGroupId);
+        if (factory == null)
+            return null;
+        final F createdFeatureGroup = factory.get ();
+        this.register (featureGroupId, createdFeatureGroup);
+        return createdFeatureGroup;
     }
 
 
@@ -77,6 +104,10 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
      */
     public E get (final String featureGroupName)
     {
+        // The names are only known after all feature groups are created
+        for (final E featureGroupId: new ArrayList<> (this.factories.keySet ()))
+            this.get (featureGroupId);
+
         for (final Entry<E, F> entry: this.featureGroups.entrySet ())
             if (featureGroupName.equals (entry.getValue ().getName ()))
                 return entry.getKey ();
@@ -233,7 +264,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public F getActive ()
     {
         final E featureGroupID = this.getActiveID ();
-        return featureGroupID == null ? null : this.featureGroups.get (featureGroupID);
+        return featureGroupID == null ? null : this.get (featureGroupID);
     }
 
 
@@ -6,9 +6,12 @@ package de.mossgrabers.framework.featuregroup;
 
 import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.util.Set;
+
 
 /**
  * Interface to a view. A view contains a grid of pads and a number of buttons to which commands can
@@ -41,6 +44,16 @@ public interface IView extends IFeatureGroup
     void drawGrid ();
 
 
+    /**
+     * Get the domains of the model on which the drawing of the pad grid depends. If none of them
+     * changed since the last drawing and there was no input on the surface, drawing the grid is
+     * skipped.
+     *
+     * @return The domains or null if the grid needs to be drawn on every flush
+     */
+    Set<ChangeEpochs.Domain> getGridDependencies ();
+
+
     /**
      * A pad has been pressed or released.
      *
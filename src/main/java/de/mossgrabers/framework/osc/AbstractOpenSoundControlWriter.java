@@ -6,6 +6,7 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.utils.LatencyTracer;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
@@ -31,6 +32,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final Map<String, Object>            oldValues = new HashMap<> ();
 
     private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private LatencyTracer                          latencyTracer;
 
 
     /**
@@ -50,6 +52,17 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Set the tracer which measures the latency from a received message to the first sent bundle.
+     *
+     * @param latencyTracer The tracer
+     */
+    public void setLatencyTracer (final LatencyTracer latencyTracer)
+    {
+        this.latencyTracer = latencyTracer;
+    }
+
+
     /**
      * Send all collected messages.
      */
@@ -82,6 +95,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
                 this.logMessages (this.messages);
                 this.oscClient.sendBundle (this.messages);
+                if (this.latencyTracer != null)
+                    this.latencyTracer.traceOutput ();
             }
             catch (final IOException ex)
             {
@@ -4,10 +4,7 @@
 
 package de.mossgrabers.framework.scale;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
 
 
 /**
@@ -133,12 +130,12 @@ public enum Scale
     // @formatter:on
 
 
-    private String                      name;
-    private int []                      intervals;
-    private final Set<Integer>          scaleKeys    = new HashSet<> (7);
-    private final Map<Integer, Integer> indexInScale = new HashMap<> (7);
+    private String                 name;
+    private int []                 intervals;
+    /** The index in the scale for each note in the octave (0-11), -1 if out of scale. */
+    private final int []           indexInScale = new int [12];
 
-    private static final String []      SCALE_NAMES;
+    private static final String [] SCALE_NAMES;
     static
     {
         final Scale [] values = Scale.values ();
@@ -159,12 +156,9 @@ public enum Scale
         this.name = name;
         this.intervals = intervals;
 
+        Arrays.fill (this.indexInScale, -1);
         for (int i = 0; i < this.intervals.length; i++)
-        {
-            final Integer key = Integer.valueOf (this.intervals[i]);
-            this.scaleKeys.add (key);
-            this.indexInScale.put (key, Integer.valueOf (i));
-        }
+            this.indexInScale[this.intervals[i]] = i;
     }
 
 
@@ -198,7 +192,7 @@ public enum Scale
      */
     public boolean isInScale (final int key)
     {
-        return this.scaleKeys.contains (Integer.valueOf (key));
+        return this.indexInScale[key] >= 0;
     }
 
 
@@ -210,8 +204,7 @@ public enum Scale
      */
     public int getIndexInScale (final int note)
     {
-        final Integer index = this.indexInScale.get (Integer.valueOf (note % 12));
-        return index == null ? -1 : index.intValue ();
+        return this.indexInScale[note % 12];
     }
 
 
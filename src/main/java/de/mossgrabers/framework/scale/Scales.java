@@ -5,10 +5,12 @@
 package de.mossgrabers.framework.scale;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -116,7 +118,20 @@ public class Scales
 
     private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
     private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
+
+    // Caches for the calculated note matrices. The grid matrices are re-created if the layout
+    // changes, therefore they can be used as a key for scale, layout, orientation and shift
+    private final Map<int [], int [][]> noteMatrixCache          = new IdentityHashMap<> ();
+    private final int [][]              drumMatrixCache          = new int [128][];
+    private final int [][]              pianoMatrixCache         = new int [2 * PIANO_OCTAVE_RANGE + 1][];
+    private int                         pianoMatrixRows          = -1;
+    private int                         pianoMatrixColumns       = -1;
+    private int []                      sequencerMatrix;
+    private long                        sequencerMatrixKey       = -1;
+    private final String []             colorTable               = new String [128];
+    private int                         colorTableKey            = -1;
     private final IValueChanger         valueChanger;
+    private ChangeEpochs                changeEpochs;
 
 
     /**
@@ -162,6 +177,7 @@ public class Scales
     public void setScale (final Scale scale)
     {
         this.selectedScale = scale;
+        this.notifyChange ();
     }
 
 
@@ -173,6 +189,7 @@ public class Scales
     public void setScaleByName (final String scaleName)
     {
         this.selectedScale = Scale.getByName (scaleName);
+        this.notifyChange ();
     }
 
 
@@ -186,6 +203,7 @@ public class Scales
         final Scale [] values = Scale.values ();
         final int index = this.valueChanger.changeValue (control, this.selectedScale.ordinal (), -100, values.length);
         this.selectedScale = values[index];
+        this.notifyChange ();
     }
 
 
@@ -218,6 +236,7 @@ public class Scales
     {
         final Scale [] values = Scale.values ();
         this.selectedScale = values[Math.max (0, this.selectedScale.ordinal () - 1)];
+        this.notifyChange ();
     }
 
 
@@ -228,6 +247,7 @@ public class Scales
     {
         final Scale [] values = Scale.values ();
         this.selectedScale = values[Math.min (values.length - 1, this.selectedScale.ordinal () + 1)];
+        this.notifyChange ();
     }
 
 
@@ -290,6 +310,7 @@ public class Scales
     public void setScaleOffset (final int scaleOffset)
     {
         this.scaleOffset = Math.max (0, Math.min (scaleOffset, Scales.OFFSETS.length - 1));
+        this.notifyChange ();
     }
 
 
@@ -301,8 +322,10 @@ public class Scales
     public void setScaleOffsetByName (final String scaleOffsetName)
     {
         final int index = Scales.BASES.indexOf (scaleOffsetName);
-        if (index >= 0)
-            this.scaleOffset = index;
+        if (index < 0)
+            return;
+        this.scaleOffset = index;
+        this.notifyChange ();
     }
 
 
@@ -357,6 +380,7 @@ public class Scales
                 this.setPlayShift (0, 5);
                 break;
         }
+        this.notifyChange ();
     }
 
 
@@ -400,6 +424,7 @@ public class Scales
     {
         final ScaleLayout [] values = ScaleLayout.values ();
         this.scaleLayout = values[Math.max (0, this.scaleLayout.ordinal () - 1)];
+        this.notifyChange ();
     }
 
 
@@ -410,6 +435,7 @@ public class Scales
     {
         final ScaleLayout [] values = ScaleLayout.values ();
         this.scaleLayout = values[Math.min (values.length - 1, this.scaleLayout.ordinal () + 1)];
+        this.notifyChange ();
     }
 
 
@@ -421,6 +447,7 @@ public class Scales
     public void setChromatic (final boolean enable)
     {
         this.chromaticOn = enable;
+        this.notifyChange ();
     }
 
 
@@ -430,6 +457,7 @@ public class Scales
     public void toggleChromatic ()
     {
         this.chromaticOn = !this.chromaticOn;
+        this.notifyChange ();
     }
 
 
@@ -452,6 +480,7 @@ public class Scales
     public void setOctave (final int octave)
     {
         this.octave = Math.max (-Scales.OCTAVE_RANGE, Math.min (octave, Scales.OCTAVE_RANGE));
+        this.notifyChange ();
     }
 
 
@@ -490,6 +519,7 @@ public class Scales
     public void resetDrumOctave ()
     {
         this.drumOffset = this.drumNoteStart;
+        this.notifyChange ();
     }
 
 
@@ -534,6 +564,7 @@ public class Scales
     public void incDrumOctave ()
     {
         this.drumOffset = Math.min (DRUM_NOTE_UPPER, this.drumOffset + this.drumDefaultOffset);
+        this.notifyChange ();
     }
 
 
@@ -543,6 +574,7 @@ public class Scales
     public void decDrumOctave ()
     {
         this.drumOffset = Math.max (DRUM_NOTE_LOWER, this.drumOffset - this.drumDefaultOffset);
+        this.notifyChange ();
     }
 
 
@@ -554,6 +586,7 @@ public class Scales
     public void incDrumOffset (final int offset)
     {
         this.drumOffset = Math.min (100, this.drumOffset + offset);
+        this.notifyChange ();
     }
 
 
@@ -565,6 +598,7 @@ public class Scales
     public void decDrumOffset (final int offset)
     {
         this.drumOffset = Math.max (4, this.drumOffset - offset);
+        this.notifyChange ();
     }
 
 
@@ -576,6 +610,7 @@ public class Scales
     public void setDrumDefaultOffset (final int drumDefaultOffset)
     {
         this.drumDefaultOffset = drumDefaultOffset;
+        this.notifyChange ();
     }
 
 
@@ -598,6 +633,7 @@ public class Scales
     public void setPianoOctave (final int octave)
     {
         this.pianoOctave = Math.max (-Scales.PIANO_OCTAVE_RANGE, Math.min (octave, Scales.PIANO_OCTAVE_RANGE));
+        this.notifyChange ();
     }
 
 
@@ -642,6 +678,7 @@ public class Scales
         this.scaleShift = scaleShift;
         this.semitoneShift = semitoneShift;
         this.generateMatrices ();
+        this.notifyChange ();
     }
 
 
@@ -681,6 +718,26 @@ public class Scales
         final int midiNote = noteMap[note];
         if (midiNote == -1)
             return Scales.SCALE_COLOR_OFF;
+
+        final int key = this.selectedScale.ordinal () << 5 | this.scaleOffset << 1 | (this.chromaticOn ? 1 : 0);
+        if (key != this.colorTableKey)
+        {
+            for (int n = 0; n < this.colorTable.length; n++)
+                this.colorTable[n] = this.calcColor (n);
+            this.colorTableKey = key;
+        }
+        return this.colorTable[midiNote];
+    }
+
+
+    /**
+     * Calculate the color index for the given MIDI note.
+     *
+     * @param midiNote The MIDI note (0-127)
+     * @return The color index
+     */
+    private String calcColor (final int midiNote)
+    {
         final int noteInOctave = this.toNoteInOctave (midiNote);
         if (noteInOctave == 0)
             return Scales.SCALE_COLOR_OCTAVE;
@@ -712,12 +769,7 @@ public class Scales
      */
     public boolean isInScale (final int noteInOctave)
     {
-        for (final int interval: this.selectedScale.getIntervals ())
-        {
-            if (interval == noteInOctave)
-                return true;
-        }
-        return false;
+        return this.selectedScale.isInScale (noteInOctave);
     }
 
 
@@ -729,15 +781,7 @@ public class Scales
      */
     public int getScaleIndex (final int midiNote)
     {
-        final int noteInOctave = this.toNoteInOctave (midiNote);
-
-        final int [] intervals = this.selectedScale.getIntervals ();
-        for (int i = 0; i < intervals.length; i++)
-        {
-            if (intervals[i] == noteInOctave)
-                return i;
-        }
-        return -1;
+        return this.selectedScale.getIndexInScale (this.toNoteInOctave (midiNote));
     }
 
 
@@ -783,7 +827,7 @@ public class Scales
 
 
     /**
-     * Get the active note matrix.
+     * Get the active note matrix. The returned matrix is cached and must not be modified.
      *
      * @return The matrix
      */
@@ -794,12 +838,23 @@ public class Scales
 
 
     /**
-     * Get a note matrix.
+     * Get a note matrix. The returned matrix is cached and must not be modified.
      *
-     * @param matrix The input scale matrix
+     * @param matrix The input scale matrix, must be one of the active (chord) matrices
      * @return The matrix
      */
     public int [] getNoteMatrix (final int [] matrix)
+    {
+        final int octaveIndex = this.octave + Scales.OCTAVE_RANGE;
+        final int [][] cache = this.noteMatrixCache.computeIfAbsent (matrix, m -> new int [Scales.OFFSETS.length * (2 * Scales.OCTAVE_RANGE + 1)][]);
+        final int index = this.scaleOffset * (2 * Scales.OCTAVE_RANGE + 1) + octaveIndex;
+        if (cache[index] == null)
+            cache[index] = this.calcNoteMatrix (matrix);
+        return cache[index];
+    }
+
+
+    private int [] calcNoteMatrix (final int [] matrix)
     {
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.startNote; note < this.endNote; note++)
@@ -812,13 +867,25 @@ public class Scales
 
 
     /**
-     * Get the active sequencer matrix.
+     * Get the active sequencer matrix. The returned matrix is cached and must not be modified.
      *
      * @param length The expected length
      * @param noteOffset An offset to add to the notes
      * @return The matrix
      */
     public int [] getSequencerMatrix (final int length, final int noteOffset)
+    {
+        final long key = (long) length << 32 | (noteOffset & 0xFFFFL) << 16 | this.selectedScale.ordinal () << 5 | this.scaleOffset << 1 | (this.chromaticOn ? 1 : 0);
+        if (key != this.sequencerMatrixKey)
+        {
+            this.sequencerMatrix = this.calcSequencerMatrix (length, noteOffset);
+            this.sequencerMatrixKey = key;
+        }
+        return this.sequencerMatrix;
+    }
+
+
+    private int [] calcSequencerMatrix (final int length, final int noteOffset)
     {
         final int [] noteMap = new int [length];
         if (this.isChromatic ())
@@ -850,13 +917,29 @@ public class Scales
 
 
     /**
-     * Get the piano matrix.
+     * Get the piano matrix. The returned matrix is cached and must not be modified.
      *
      * @param rows The number of rows
      * @param columns The number of columns
      * @return The matrix
      */
     public int [] getPianoMatrix (final int rows, final int columns)
+    {
+        if (rows != this.pianoMatrixRows || columns != this.pianoMatrixColumns)
+        {
+            Arrays.fill (this.pianoMatrixCache, null);
+            this.pianoMatrixRows = rows;
+            this.pianoMatrixColumns = columns;
+        }
+
+        final int index = this.pianoOctave + Scales.PIANO_OCTAVE_RANGE;
+        if (this.pianoMatrixCache[index] == null)
+            this.pianoMatrixCache[index] = this.calcPianoMatrix (rows, columns);
+        return this.pianoMatrixCache[index];
+    }
+
+
+    private int [] calcPianoMatrix (final int rows, final int columns)
     {
         int octaveOffset = 3 + this.pianoOctave;
         int counter = this.startNote;
@@ -910,11 +993,21 @@ public class Scales
 
 
     /**
-     * Get the drum matrix.
+     * Get the drum matrix. The returned matrix is cached and must not be modified.
      *
      * @return The drum matrix
      */
     public int [] getDrumMatrix ()
+    {
+        if (this.drumOffset < 0 || this.drumOffset >= this.drumMatrixCache.length)
+            return this.calcDrumMatrix ();
+        if (this.drumMatrixCache[this.drumOffset] == null)
+            this.drumMatrixCache[this.drumOffset] = this.calcDrumMatrix ();
+        return this.drumMatrixCache[this.drumOffset];
+    }
+
+
+    private int [] calcDrumMatrix ()
     {
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
@@ -935,6 +1028,8 @@ public class Scales
     public void setDrumMatrix (final int [] matrix)
     {
         this.drumMatrix = matrix;
+        Arrays.fill (this.drumMatrixCache, null);
+        this.notifyChange ();
     }
 
 
@@ -946,6 +1041,8 @@ public class Scales
     public void setDrumNoteStart (final int drumNoteStart)
     {
         this.drumNoteStart = drumNoteStart;
+        Arrays.fill (this.drumMatrixCache, null);
+        this.notifyChange ();
     }
 
 
@@ -957,6 +1054,8 @@ public class Scales
     public void setDrumNoteEnd (final int drumNoteEnd)
     {
         this.drumNoteEnd = drumNoteEnd;
+        Arrays.fill (this.drumMatrixCache, null);
+        this.notifyChange ();
     }
 
 
@@ -1091,6 +1190,7 @@ public class Scales
     {
         this.scaleGrids.clear ();
         this.chordGrids.clear ();
+        this.noteMatrixCache.clear ();
         for (final Scale scale: Scale.values ())
         {
             this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.scaleShift, this.semitoneShift));
@@ -1118,6 +1218,8 @@ public class Scales
     public void setStartNote (final int startNote)
     {
         this.startNote = startNote;
+        this.clearGridCaches ();
+        this.notifyChange ();
     }
 
 
@@ -1140,5 +1242,38 @@ public class Scales
     public void setEndNote (final int endNote)
     {
         this.endNote = endNote;
+        this.clearGridCaches ();
+        this.notifyChange ();
+    }
+
+
+    /**
+     * Set the counters which are notified about changes of the scale settings.
+     *
+     * @param changeEpochs The change epochs
+     */
+    public void setChangeEpochs (final ChangeEpochs changeEpochs)
+    {
+        this.changeEpochs = changeEpochs;
+    }
+
+
+    /**
+     * Signal a change of the scale settings to the views which depend on them.
+     */
+    private void notifyChange ()
+    {
+        if (this.changeEpochs != null)
+            this.changeEpochs.bump (ChangeEpochs.Domain.SCALES);
+    }
+
+
+    /**
+     * Clear all cached matrices which depend on the pad grid range.
+     */
+    private void clearGridCaches ()
+    {
+        this.noteMatrixCache.clear ();
+        Arrays.fill (this.pianoMatrixCache, null);
     }
 }
\ No newline at end of file
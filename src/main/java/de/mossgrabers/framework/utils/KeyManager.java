@@ -5,14 +5,14 @@
 package de.mossgrabers.framework.utils;
 
 import de.mossgrabers.framework.controller.grid.IPadGrid;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.INoteObserver;
 import de.mossgrabers.framework.scale.Scales;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Optional;
 
 
@@ -23,12 +23,17 @@ import java.util.Optional;
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
+    private final BitSet   pressedKeys = new BitSet (128);
     private final IModel   model;
     private final Scales   scales;
     private final IPadGrid padGrid;
     private int []         noteMap     = Scales.getEmptyMatrix ();
 
+    // Reverse index of the note map: the pads of note n are stored in padsOfNotes from
+    // padsOfNoteStart[n] to padsOfNoteStart[n + 1] - 1
+    private final int []   padsOfNoteStart = new int [129];
+    private final int []   padsOfNotes     = new int [128];
+
 
     /**
      * Constructor.
@@ -42,7 +47,7 @@ public class KeyManager implements INoteObserver
         this.model = model;
         this.scales = scales;
         this.padGrid = padGrid;
-        Arrays.fill (this.pressedKeys, 0);
+        this.updateReverseIndex ();
     }
 
 
@@ -51,7 +56,7 @@ public class KeyManager implements INoteObserver
      */
     public void clearPressedKeys ()
     {
-        Arrays.fill (this.pressedKeys, 0);
+        this.pressedKeys.clear ();
     }
 
 
@@ -63,7 +68,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean isKeyPressed (final int key)
     {
-        return this.pressedKeys[key] > 0;
+        return this.pressedKeys.get (key);
     }
 
 
@@ -75,7 +80,7 @@ public class KeyManager implements INoteObserver
      */
     public void setKeyPressed (final int key, final int velocity)
     {
-        this.pressedKeys[key] = velocity;
+        this.pressedKeys.set (key, velocity > 0);
     }
 
 
@@ -87,11 +92,11 @@ public class KeyManager implements INoteObserver
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
-        }
+        if (key < 0 || key > 127)
+            return;
+        final int end = this.padsOfNoteStart[key + 1];
+        for (int i = this.padsOfNoteStart[key]; i < end; i++)
+            this.setKeyPressed (this.padsOfNotes[i], velocity);
     }
 
 
@@ -106,19 +111,15 @@ public class KeyManager implements INoteObserver
 
 
     /**
-     * Get the currently pressed keys.
+     * Get the next pressed key. Use it to iterate over all pressed keys, e.g.
+     * <code>for (int key = getNextPressedKey (0); key >= 0; key = getNextPressedKey (key + 1))</code>
      *
-     * @return The list with the keys
+     * @param fromKey The key to start the search with (inclusive)
+     * @return The next pressed key or -1 if there is none
      */
-    public List<Integer> getPressedKeys ()
+    public int getNextPressedKey (final int fromKey)
     {
-        final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
-        }
-        return keys;
+        return this.pressedKeys.nextSetBit (fromKey);
     }
 
 
@@ -129,12 +130,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return !this.pressedKeys.isEmpty ();
     }
 
 
@@ -185,5 +181,41 @@ public class KeyManager implements INoteObserver
     public void setNoteMatrix (final int [] matrix)
     {
         this.noteMap = matrix;
+        this.updateReverseIndex ();
+
+        // The colors of the pads depend on the note matrix
+        this.model.getHost ().getChangeEpochs ().bump (ChangeEpochs.Domain.SCALES);
+    }
+
+
+    /**
+     * Rebuild the index from notes to the pads which play the note.
+     */
+    private void updateReverseIndex ()
+    {
+        final int [] start = this.padsOfNoteStart;
+        Arrays.fill (start, 0);
+        final int numPads = Math.min (this.noteMap.length, 128);
+
+        // Count the pads of each note, then convert the counts to start positions
+        for (int pad = 0; pad < numPads; pad++)
+        {
+            final int note = this.noteMap[pad];
+            if (note >= 0 && note < 128)
+                start[note + 1]++;
+        }
+        for (int note = 0; note < 128; note++)
+            start[note + 1] += start[note];
+
+        // Fill in the pads, the start positions are moved while filling and restored afterwards
+        for (int pad = 0; pad < numPads; pad++)
+        {
+            final int note = this.noteMap[pad];
+            if (note >= 0 && note < 128)
+                this.padsOfNotes[start[note]++] = pad;
+        }
+        for (int note = 128; note > 0; note--)
+            start[note] = start[note - 1];
+        start[0] = 0;
     }
 }
@@ -0,0 +1,91 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A thread-safe cache with a maximum number of entries. If the cache is full, the least recently
+ * used entry is removed.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LRUCache<K, V>
+{
+    private final Map<K, V> entries;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize The maximum number of entries
+     */
+    public LRUCache (final int maxSize)
+    {
+        this.entries = new LRUMap<> (maxSize);
+    }
+
+
+    /**
+     * Get a value from the cache.
+     *
+     * @param key The key of the value
+     * @return The value or null if it is not in the cache
+     */
+    public synchronized V get (final K key)
+    {
+        return this.entries.get (key);
+    }
+
+
+    /**
+     * Add a value to the cache.
+     *
+     * @param key The key of the value
+     * @param value The value
+     */
+    public synchronized void put (final K key, final V value)
+    {
+        this.entries.put (key, value);
+    }
+
+
+    /**
+     * Remove all entries.
+     */
+    public synchronized void clear ()
+    {
+        this.entries.clear ();
+    }
+
+
+    /** A map in access order which removes the eldest entry if it is full. */
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int         maxSize;
+
+
+        LRUMap (final int maxSize)
+        {
+            super (16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<K, V> eldest)
+        {
+            return this.size () > this.maxSize;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.Arrays;
+
+
+/**
+ * A histogram of durations with a fixed relative precision, similar to a HDR histogram. Durations
+ * are recorded with microsecond resolution. Each power of two is split into 16 buckets, which keeps
+ * the error of the percentiles below about 6% while a recording is only an array increment.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatencyHistogram
+{
+    private static final int  SUB_BUCKET_BITS  = 4;
+    private static final int  SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Durations up to about 25 days (2^41 microseconds) are covered. */
+    private static final int  MAX_MAGNITUDE    = 40;
+    private static final long MAX_MICROS       = (1L << MAX_MAGNITUDE + 1) - 1;
+
+    private final long []     counts           = new long [getIndex (MAX_MICROS) + 1];
+    private long              count;
+    private long              sumNanos;
+    private long              maxNanos;
+
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record (final long nanos)
+    {
+        final long value = Math.max (0, nanos);
+        this.counts[getIndex (Math.min (value / 1000, MAX_MICROS))]++;
+        this.count++;
+        this.sumNanos += value;
+        if (value > this.maxNanos)
+            this.maxNanos = value;
+    }
+
+
+    /**
+     * Get the number of recorded durations.
+     *
+     * @return The number
+     */
+    public long getCount ()
+    {
+        return this.count;
+    }
+
+
+    /**
+     * Get the average of all recorded durations.
+     *
+     * @return The average in milliseconds
+     */
+    public double getAverageMillis ()
+    {
+        return this.count == 0 ? 0 : this.sumNanos / (double) this.count / 1000000.0;
+    }
+
+
+    /**
+     * Get the maximum of all recorded durations.
+     *
+     * @return The maximum in milliseconds
+     */
+    public double getMaximumMillis ()
+    {
+        return this.maxNanos / 1000000.0;
+    }
+
+
+    /**
+     * Get the duration below which the given percentage of the recorded durations lies. Returns the
+     * upper end of the matching bucket but never more than the maximum.
+     *
+     * @param percentile The percentile, 0 to 100
+     * @return The duration in milliseconds
+     */
+    public double getPercentileMillis (final double percentile)
+    {
+        if (this.count == 0)
+            return 0;
+
+        final long rank = Math.max (1, (long) Math.ceil (percentile / 100.0 * this.count));
+        long sum = 0;
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            sum += this.counts[i];
+            if (sum >= rank)
+                return Math.min (getUpperBound (i) / 1000.0, this.getMaximumMillis ());
+        }
+        return this.getMaximumMillis ();
+    }
+
+
+    /**
+     * Remove all recorded durations.
+     */
+    public void reset ()
+    {
+        Arrays.fill (this.counts, 0);
+        this.count = 0;
+        this.sumNanos = 0;
+        this.maxNanos = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.format ("%d x, average %.3fms, p50 %.3fms, p90 %.3fms, p99 %.3fms, max %.3fms", Long.valueOf (this.count), Double.valueOf (this.getAverageMillis ()), Double.valueOf (this.getPercentileMillis (50)), Double.valueOf (this.getPercentileMillis (90)), Double.valueOf (this.getPercentileMillis (99)), Double.valueOf (this.getMaximumMillis ()));
+    }
+
+
+    /**
+     * Get the index of the bucket for a value. Values below 16 have their own bucket, above the
+     * highest 4 bits select the bucket within the power of two.
+     *
+     * @param micros The value in microseconds
+     * @return The index of the bucket
+     */
+    private static int getIndex (final long micros)
+    {
+        if (micros < SUB_BUCKET_COUNT)
+            return (int) micros;
+        final int magnitude = 63 - Long.numberOfLeadingZeros (micros);
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + (int) (micros >> shift) - SUB_BUCKET_COUNT;
+    }
+
+
+    /**
+     * Get the largest value which falls into a bucket.
+     *
+     * @param index The index of the bucket
+     * @return The value in microseconds
+     */
+    private static long getUpperBound (final int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+            return index;
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final long subBucket = SUB_BUCKET_COUNT + (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,298 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Measures the latency from an input of a control surface (e.g. a pad hit, a knob turn or an OSC
+ * message) to the first output which is sent to the device (MIDI, USB display, HID or OSC) as its
+ * result. An input returns a token which is handed back after its command was dispatched. The first
+ * flush which starts afterwards is the flush of the command and only the outputs of this flush end
+ * the measurement. Outputs outside of it, e.g. meters or displays which are refreshed on their own,
+ * are ignored. Further inputs during a measurement are part of it. If the flush of the command sends
+ * nothing or there is no such flush in time, the input is counted as unanswered. Independent of
+ * measuring, all inputs and outputs are counted, which allows to detect if a surface is idle.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatencyTracer
+{
+    /**
+     * The kind of the input.
+     */
+    public enum Source
+    {
+        /** MIDI messages, incl. the ones of bound hardware controls. */
+        MIDI("midi"),
+        /** HID reports. */
+        HID("hid"),
+        /** OSC messages. */
+        OSC("osc");
+
+
+        private final String key;
+
+
+        private Source (final String key)
+        {
+            this.key = key;
+        }
+
+
+        /**
+         * Get the key of the source, e.g. for OSC addresses.
+         *
+         * @return The key
+         */
+        public String getKey ()
+        {
+            return this.key;
+        }
+    }
+
+
+    /** The token which is returned if the input does not start a measurement. */
+    public static final long                    NO_TOKEN   = 0;
+
+    private static final long                   TIMEOUT    = TimeUnit.SECONDS.toNanos (1);
+
+    private final Map<Source, LatencyHistogram> histograms = new EnumMap<> (Source.class);
+    private final AtomicLong                    numInputs  = new AtomicLong ();
+    private final AtomicLong                    numOutputs = new AtomicLong ();
+    private volatile boolean                    isEnabled;
+    private Source                              pendingSource;
+    private long                                pendingTime;
+    private long                                pendingToken;
+    private long                                lastToken;
+    private boolean                             isDispatched;
+    private boolean                             isAnswering;
+    private long                                outputTime;
+    private long                                numUnanswered;
+
+
+    /**
+     * Constructor.
+     */
+    public LatencyTracer ()
+    {
+        for (final Source source: Source.values ())
+            this.histograms.put (source, new LatencyHistogram ());
+    }
+
+
+    /**
+     * Enable or disable measuring.
+     *
+     * @param isEnabled True to measure
+     */
+    public void setEnabled (final boolean isEnabled)
+    {
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Is measuring enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Tag an input. Starts a measurement if none is pending.
+     *
+     * @param source The kind of the input
+     * @return The token of the measurement which needs to be handed to
+     *         {@link #traceDispatched(long)} after the command of the input was executed, or
+     *         {@link #NO_TOKEN} if no measurement was started
+     */
+    public long traceInput (final Source source)
+    {
+        this.numInputs.incrementAndGet ();
+        if (!this.isEnabled)
+            return NO_TOKEN;
+
+        final long now = System.nanoTime ();
+        synchronized (this.histograms)
+        {
+            if (this.pendingSource != null)
+            {
+                if (now - this.pendingTime <= TIMEOUT)
+                    return NO_TOKEN;
+                this.numUnanswered++;
+            }
+            this.pendingSource = source;
+            this.pendingTime = now;
+            this.pendingToken = ++this.lastToken;
+            this.isDispatched = false;
+            this.isAnswering = false;
+            return this.pendingToken;
+        }
+    }
+
+
+    /**
+     * Mark the command of an input as executed. The next flush is the one of the command.
+     *
+     * @param token The token returned by {@link #traceInput(Source)}
+     */
+    public void traceDispatched (final long token)
+    {
+        if (token == NO_TOKEN)
+            return;
+
+        synchronized (this.histograms)
+        {
+            if (token == this.pendingToken)
+                this.isDispatched = true;
+        }
+    }
+
+
+    /**
+     * Notify the start of a flush. If the command of the pending measurement was dispatched, the
+     * outputs of this flush are its result.
+     */
+    public void traceFlushStart ()
+    {
+        if (!this.isEnabled)
+            return;
+
+        synchronized (this.histograms)
+        {
+            if (this.pendingSource == null || !this.isDispatched || this.isAnswering)
+                return;
+            this.isAnswering = true;
+            this.outputTime = 0;
+        }
+    }
+
+
+    /**
+     * Timestamp an output. The first output of the flush of the pending command is its result.
+     */
+    public void traceOutput ()
+    {
+        this.numOutputs.incrementAndGet ();
+        if (!this.isEnabled)
+            return;
+
+        final long now = System.nanoTime ();
+        synchronized (this.histograms)
+        {
+            if (this.isAnswering && this.outputTime == 0)
+                this.outputTime = now;
+        }
+    }
+
+
+    /**
+     * Notify the end of a flush. Ends the pending measurement if this was the flush of its command.
+     */
+    public void traceFlushEnd ()
+    {
+        if (!this.isEnabled)
+            return;
+
+        synchronized (this.histograms)
+        {
+            if (!this.isAnswering)
+                return;
+
+            final long latency = this.outputTime - this.pendingTime;
+            if (this.outputTime != 0 && latency <= TIMEOUT)
+                this.histograms.get (this.pendingSource).record (latency);
+            else
+                this.numUnanswered++;
+            this.pendingSource = null;
+            this.pendingToken = NO_TOKEN;
+            this.isAnswering = false;
+        }
+    }
+
+
+    /**
+     * Get the number of all inputs since the creation of the tracer.
+     *
+     * @return The number of inputs
+     */
+    public long getNumInputs ()
+    {
+        return this.numInputs.get ();
+    }
+
+
+    /**
+     * Get the number of all outputs since the creation of the tracer.
+     *
+     * @return The number of outputs
+     */
+    public long getNumOutputs ()
+    {
+        return this.numOutputs.get ();
+    }
+
+
+    /**
+     * Get a summary of the measured latencies of a kind of input.
+     *
+     * @param source The kind of the input
+     * @return The summary
+     */
+    public String getSummary (final Source source)
+    {
+        synchronized (this.histograms)
+        {
+            return this.histograms.get (source).toString ();
+        }
+    }
+
+
+    /**
+     * Remove all measurements.
+     */
+    public void reset ()
+    {
+        synchronized (this.histograms)
+        {
+            this.histograms.values ().forEach (LatencyHistogram::reset);
+            this.pendingSource = null;
+            this.pendingToken = NO_TOKEN;
+            this.isAnswering = false;
+            this.numUnanswered = 0;
+        }
+    }
+
+
+    /**
+     * Create a report of all kinds of inputs.
+     *
+     * @param name The name of the surface
+     * @return The report
+     */
+    public String createReport (final String name)
+    {
+        synchronized (this.histograms)
+        {
+            final StringBuilder report = new StringBuilder ("Input to output latency of ").append (name).append (": ").append (this.numUnanswered).append (" inputs without output");
+            for (final Source source: Source.values ())
+            {
+                final LatencyHistogram histogram = this.histograms.get (source);
+                if (histogram.getCount () > 0)
+                    report.append ("\n  ").append (source.getKey ()).append (": ").append (histogram);
+            }
+            return report.toString ();
+        }
+    }
+}
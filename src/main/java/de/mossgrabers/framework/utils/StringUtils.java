@@ -16,7 +16,7 @@ import java.nio.ByteBuffer;
  */
 public class StringUtils
 {
-    private static final char [] REMOVABLE_CHARS =
+    private static final char []                        REMOVABLE_CHARS    =
     {
         ' ',
         'e',
@@ -26,6 +26,14 @@ public class StringUtils
         'o'
     };
 
+    /** The number of cached texts for each length and for the ASCII conversion. */
+    private static final int                            CACHE_SIZE         = 512;
+    /** Optimized names are only cached up to this length. */
+    private static final int                            MAX_CACHED_LENGTH  = 32;
+
+    private static final LRUCache<String, String> []    OPTIMIZED_NAMES    = createCaches ();
+    private static final LRUCache<String, String>       FIXED_ASCII_TEXTS  = new LRUCache<> (CACHE_SIZE);
+
 
     /**
      * Constructor, private due to help class.
@@ -95,7 +103,27 @@ public class StringUtils
     {
         if (text == null)
             return "";
-        final StringBuilder str = new StringBuilder ();
+
+        // Nothing to do if there are only ASCII characters
+        int i = 0;
+        while (i < text.length () && text.charAt (i) <= 127)
+            i++;
+        if (i == text.length ())
+            return text;
+
+        String fixed = FIXED_ASCII_TEXTS.get (text);
+        if (fixed == null)
+        {
+            fixed = replaceNonASCII (text);
+            FIXED_ASCII_TEXTS.put (text, fixed);
+        }
+        return fixed;
+    }
+
+
+    private static String replaceNonASCII (final String text)
+    {
+        final StringBuilder str = new StringBuilder (text.length () + 8);
         for (int i = 0; i < text.length (); i++)
         {
             final char c = text.charAt (i);
@@ -187,7 +215,8 @@ public class StringUtils
 
 
     /**
-     * Shortens a text to the given length.
+     * Shortens a text to the given length. First, spaces are removed, then the vowels (e, a, u, i,
+     * o) in that order, each from left to right. If it is still too long, the text is cut.
      *
      * @param text The text to shorten
      * @param length The length to shorten to
@@ -197,21 +226,95 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+        if (length < 0 || length >= MAX_CACHED_LENGTH)
+            return shortenName (text, length);
+
+        final LRUCache<String, String> cache = OPTIMIZED_NAMES[length];
+        String shortened = cache.get (text);
+        if (shortened == null)
+        {
+            shortened = shortenName (text, length);
+            cache.put (text, shortened);
+        }
+        return shortened;
+    }
+
+
+    /**
+     * Shortens a text to the given length in a single pass. Calculates first how many characters of
+     * each removable character need to be removed.
+     *
+     * @param text The text to shorten, must be longer than the length
+     * @param length The length to shorten to
+     * @return The shortened text
+     */
+    private static String shortenName (final String text, final int length)
+    {
+        // Count the removable characters
+        final int [] counts = new int [REMOVABLE_CHARS.length];
+        for (int i = 0; i < text.length (); i++)
+        {
+            final int index = getRemovableIndex (text.charAt (i));
+            if (index >= 0)
+                counts[index]++;
+        }
+
+        // All characters of the removable characters before 'lastIndex' are removed, from the one
+        // at 'lastIndex' only the first 'lastCount'
+        int excess = text.length () - Math.max (0, length);
+        int lastIndex = REMOVABLE_CHARS.length;
+        int lastCount = 0;
+        for (int i = 0; i < REMOVABLE_CHARS.length; i++)
+        {
+            if (counts[i] >= excess)
+            {
+                lastIndex = i;
+                lastCount = excess;
+                break;
+            }
+            excess -= counts[i];
+        }
 
-        String shortened = text;
-        for (final char element: REMOVABLE_CHARS)
+        final StringBuilder sb = new StringBuilder (text.length ());
+        for (int i = 0; i < text.length (); i++)
         {
-            if (shortened.length () <= length)
-                return shortened;
-            int pos;
-            while ((pos = shortened.indexOf (element)) != -1)
+            final char c = text.charAt (i);
+            final int index = getRemovableIndex (c);
+            if (index >= 0 && index < lastIndex)
+                continue;
+            if (index == lastIndex && lastCount > 0)
             {
-                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
-                if (shortened.length () <= length)
-                    return shortened;
+                lastCount--;
+                continue;
             }
+            sb.append (c);
+        }
+        if (sb.length () > length)
+            sb.setLength (Math.max (0, length));
+        return sb.toString ();
+    }
+
+
+    private static int getRemovableIndex (final char c)
+    {
+        for (int i = 0; i < REMOVABLE_CHARS.length; i++)
+        {
+            if (REMOVABLE_CHARS[i] == c)
+                return i;
         }
-        return shortened.length () <= length ? shortened : shortened.substring (0, length);
+        return -1;
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static LRUCache<String, String> [] createCaches ()
+    {
+        final LRUCache<String, String> [] caches = (LRUCache<String, String> []) new LRUCache<?, ?> [MAX_CACHED_LENGTH];
+        for (int i = 0; i < MAX_CACHED_LENGTH; i++)
+            caches[i] = new LRUCache<> (CACHE_SIZE);
+        return caches;
     }
 
 
@@ -327,6 +430,28 @@ public class StringUtils
     }
 
 
+    /**
+     * Convert a string with hex encoded bytes. One byte is 2 characters without any spaces.
+     *
+     * @param data The data to convert
+     * @return The parsed byte array
+     */
+    public static byte [] fromHexStrToBytes (final String data)
+    {
+        final int length = data.length ();
+        if (length % 2 != 0)
+            throw new IllegalArgumentException ("Length of hex data must be a multiple of 2!");
+
+        final byte [] result = new byte [length / 2];
+        for (int i = 0; i < result.length; i++)
+        {
+            final int pos = i * 2;
+            result[i] = (byte) (Character.digit (data.charAt (pos), 16) << 4 | Character.digit (data.charAt (pos + 1), 16));
+        }
+        return result;
+    }
+
+
     /**
      * Format a velocity percentage.
      *
@@ -0,0 +1,418 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * A hashed timer wheel for the deadlines of gestures like long-press, double-tap and auto-repeat.
+ * The deadlines are tracked with millisecond precision by the ticks of a tick driver, by default a
+ * thread of the wheel. The driver is only running while there are deadlines. The delay between a
+ * deadline and the execution of its task is collected as jitter statistics.
+ *
+ * The tick driver never calls the host, since the host API must only be used from the control
+ * thread. Expired deadlines are put into a queue instead, which is drained by a task on the control
+ * thread. The drain task is scheduled from the control thread when a deadline is added and
+ * reschedules itself every millisecond as long as there are pending deadlines.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class TimerWheel
+{
+    private static final long                     TICK_NANOS       = TimeUnit.MILLISECONDS.toNanos (1);
+    private static final int                      WHEEL_SIZE       = 512;
+    private static final int                      WHEEL_MASK       = WHEEL_SIZE - 1;
+    /** The number of ticks without deadlines after which the thread ends. */
+    private static final int                      IDLE_TICKS       = 1000;
+
+    private final IHost                           host;
+    private final ITickDriver                     driver;
+    private final List<List<Deadline>>            buckets          = new ArrayList<> (WHEEL_SIZE);
+    private final ConcurrentLinkedQueue<Deadline> added            = new ConcurrentLinkedQueue<> ();
+    private final ConcurrentLinkedQueue<Deadline> expired          = new ConcurrentLinkedQueue<> ();
+    private final AtomicInteger                   numPending       = new AtomicInteger ();
+    private final Object                          driverLock       = new Object ();
+    private boolean                               isDrainScheduled;
+    private boolean                               isRunning;
+    private long                                  startTime;
+    private long                                  currentTick;
+    private int                                   idleTicks;
+    private int                                   numDeadlines;
+
+    private final Object                          statisticsLock   = new Object ();
+    private long                                  jitterCount;
+    private long                                  jitterSum;
+    private long                                  jitterMax;
+
+
+    /**
+     * Provides the time and the ticks of the wheel.
+     */
+    public interface ITickDriver
+    {
+        /**
+         * Get the current time.
+         *
+         * @return The time in nanoseconds
+         */
+        long nanoTime ();
+
+
+        /**
+         * Start calling the tick function once per millisecond until it returns false. The wheel
+         * only starts the driver again after that. Everything done before starting must be visible
+         * to the tick function.
+         *
+         * @param tick The tick function of the wheel
+         */
+        void start (BooleanSupplier tick);
+    }
+
+
+    /**
+     * The state of a scheduled task.
+     */
+    public static final class Deadline
+    {
+        private static final int    PENDING   = 0;
+        private static final int    CANCELLED = 1;
+        private static final int    FIRED     = 2;
+
+        private final Runnable      task;
+        private final long          deadline;
+        private final AtomicInteger state     = new AtomicInteger (PENDING);
+        private long                rounds;
+
+
+        private Deadline (final Runnable task, final long deadline)
+        {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+
+        /**
+         * Cancel the task if it was not executed yet.
+         *
+         * @return True if the task was cancelled, false if it was already executed or cancelled
+         */
+        public boolean cancel ()
+        {
+            return this.state.compareAndSet (PENDING, CANCELLED);
+        }
+
+
+        /**
+         * Check if the task is neither executed nor cancelled.
+         *
+         * @return True if pending
+         */
+        public boolean isPending ()
+        {
+            return this.state.get () == PENDING;
+        }
+    }
+
+
+    /**
+     * The delay between the deadlines and the execution of the tasks on the control thread.
+     *
+     * @param count The number of executed tasks
+     * @param averageMillis The average delay in milliseconds
+     * @param maximumMillis The maximum delay in milliseconds
+     */
+    public record JitterStatistics (long count, double averageMillis, double maximumMillis)
+    {
+        /** {@inheritDoc} */
+        @Override
+        public String toString ()
+        {
+            return String.format ("%d timers, average delay %.2fms, maximum delay %.2fms", Long.valueOf (this.count), Double.valueOf (this.averageMillis), Double.valueOf (this.maximumMillis));
+        }
+    }
+
+
+    /**
+     * Constructor. Use the instance of the host, which is shared by all controls of an extension.
+     * The wheel is driven by its own thread in real time.
+     *
+     * @param host The host which executes the expired tasks
+     */
+    public TimerWheel (final IHost host)
+    {
+        this (host, new ThreadTickDriver ());
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host which executes the expired tasks
+     * @param driver Provides the time and the ticks of the wheel
+     */
+    public TimerWheel (final IHost host, final ITickDriver driver)
+    {
+        this.host = host;
+        this.driver = driver;
+
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            this.buckets.add (new ArrayList<> ());
+    }
+
+
+    /**
+     * Schedule a task. It is executed on the control thread of the host. Must be called on the
+     * control thread.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     * @return The deadline which can be used to cancel the task
+     */
+    public Deadline schedule (final Runnable task, final long delay)
+    {
+        final Deadline deadline = new Deadline (task, this.driver.nanoTime () + TimeUnit.MILLISECONDS.toNanos (Math.max (0, delay)));
+        this.numPending.incrementAndGet ();
+        this.added.add (deadline);
+
+        if (!this.isDrainScheduled)
+        {
+            this.isDrainScheduled = true;
+            this.host.scheduleTask (this::executeExpired, 1);
+        }
+
+        synchronized (this.driverLock)
+        {
+            if (!this.isRunning)
+            {
+                this.isRunning = true;
+                this.startTime = this.driver.nanoTime ();
+                this.currentTick = 0;
+                this.idleTicks = 0;
+                this.driver.start (this::tick);
+            }
+        }
+        return deadline;
+    }
+
+
+    /**
+     * Get the statistics about the delays between the deadlines and the execution of the tasks.
+     *
+     * @return The statistics
+     */
+    public JitterStatistics getJitterStatistics ()
+    {
+        synchronized (this.statisticsLock)
+        {
+            final double average = this.jitterCount == 0 ? 0 : this.jitterSum / (double) this.jitterCount / TICK_NANOS;
+            return new JitterStatistics (this.jitterCount, average, this.jitterMax / (double) TICK_NANOS);
+        }
+    }
+
+
+    /**
+     * Reset the jitter statistics.
+     */
+    public void resetJitterStatistics ()
+    {
+        synchronized (this.statisticsLock)
+        {
+            this.jitterCount = 0;
+            this.jitterSum = 0;
+            this.jitterMax = 0;
+        }
+    }
+
+
+    /**
+     * Advance the wheel by one tick. Called by the tick driver.
+     *
+     * @return False if the wheel was idle for some time and the driver should stop
+     */
+    private boolean tick ()
+    {
+        this.transferAddedDeadlines ();
+        this.expireDeadlines (this.buckets.get ((int) (this.currentTick & WHEEL_MASK)));
+        this.currentTick++;
+
+        if (this.numDeadlines > 0)
+        {
+            this.idleTicks = 0;
+            return true;
+        }
+
+        this.idleTicks++;
+        if (this.idleTicks < IDLE_TICKS)
+            return true;
+
+        synchronized (this.driverLock)
+        {
+            // Deadlines added before the lock are still handled
+            if (this.added.isEmpty ())
+            {
+                this.isRunning = false;
+                return false;
+            }
+        }
+        this.idleTicks = 0;
+        return true;
+    }
+
+
+    /**
+     * Put the newly added deadlines into their buckets.
+     */
+    private void transferAddedDeadlines ()
+    {
+        Deadline deadline;
+        while ((deadline = this.added.poll ()) != null)
+        {
+            if (!deadline.isPending ())
+            {
+                this.numPending.decrementAndGet ();
+                continue;
+            }
+
+            // Deadlines in the past expire with the current tick
+            final long ticks = Math.max (this.currentTick, (deadline.deadline - this.startTime) / TICK_NANOS);
+            deadline.rounds = (ticks - this.currentTick) / WHEEL_SIZE;
+            this.buckets.get ((int) (ticks & WHEEL_MASK)).add (deadline);
+            this.numDeadlines++;
+        }
+    }
+
+
+    /**
+     * Collect all deadlines of a bucket which are due in the current round and queue them for the
+     * control thread. Cancelled deadlines are removed.
+     *
+     * @param bucket The bucket of the current tick
+     */
+    private void expireDeadlines (final List<Deadline> bucket)
+    {
+        for (int i = bucket.size () - 1; i >= 0; i--)
+        {
+            final Deadline deadline = bucket.get (i);
+            if (deadline.isPending () && deadline.rounds > 0)
+            {
+                deadline.rounds--;
+                continue;
+            }
+
+            // Remove by replacing with the last one
+            bucket.set (i, bucket.get (bucket.size () - 1));
+            bucket.remove (bucket.size () - 1);
+            this.numDeadlines--;
+
+            if (deadline.isPending ())
+                this.expired.add (deadline);
+            else
+                this.numPending.decrementAndGet ();
+        }
+    }
+
+
+    /**
+     * Execute the tasks of the expired deadlines. Called on the control thread. Reschedules itself
+     * as long as there are deadlines which are not yet executed or removed.
+     */
+    private void executeExpired ()
+    {
+        Deadline deadline;
+        while ((deadline = this.expired.poll ()) != null)
+        {
+            this.numPending.decrementAndGet ();
+            if (!deadline.state.compareAndSet (Deadline.PENDING, Deadline.FIRED))
+                continue;
+
+            final long jitter = Math.max (0, this.driver.nanoTime () - deadline.deadline);
+            synchronized (this.statisticsLock)
+            {
+                this.jitterCount++;
+                this.jitterSum += jitter;
+                this.jitterMax = Math.max (this.jitterMax, jitter);
+            }
+
+            try
+            {
+                deadline.task.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute timer task.", ex);
+            }
+        }
+
+        if (this.numPending.get () > 0)
+            this.host.scheduleTask (this::executeExpired, 1);
+        else
+            this.isDrainScheduled = false;
+    }
+
+
+    /**
+     * Drives the wheel in real time with a daemon thread.
+     */
+    private static final class ThreadTickDriver implements ITickDriver
+    {
+        /** {@inheritDoc} */
+        @Override
+        public long nanoTime ()
+        {
+            return System.nanoTime ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void start (final BooleanSupplier tick)
+        {
+            final Thread thread = new Thread ( () -> run (tick), "DrivenByMoss Timer Wheel");
+            thread.setDaemon (true);
+            thread.start ();
+        }
+
+
+        /**
+         * The loop of the wheel thread. Ends when the wheel is idle.
+         *
+         * @param tick The tick function of the wheel
+         */
+        private static void run (final BooleanSupplier tick)
+        {
+            final long startTime = System.nanoTime ();
+            long count = 1;
+            while (true)
+            {
+                waitForTick (startTime + count * TICK_NANOS);
+                if (!tick.getAsBoolean ())
+                    return;
+                count++;
+            }
+        }
+
+
+        /**
+         * Wait until the given time.
+         *
+         * @param time The time in nanoseconds
+         */
+        private static void waitForTick (final long time)
+        {
+            long remaining;
+            while ((remaining = time - System.nanoTime ()) > 0)
+                LockSupport.parkNanos (remaining);
+        }
+    }
+}
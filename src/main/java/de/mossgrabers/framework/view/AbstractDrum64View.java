@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
@@ -20,6 +21,7 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -33,19 +35,21 @@ import java.util.Optional;
  */
 public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements TransposeView
 {
-    protected static final int DRUM_START_KEY = 36;
-    protected static final int GRID_COLUMNS   = 8;
-    protected static final int BLOCK_SIZE     = 16;
+    protected static final int                    DRUM_START_KEY    = 36;
+    protected static final int                    GRID_COLUMNS      = 8;
+    protected static final int                    BLOCK_SIZE        = 16;
 
-    protected int              offsetY;
-    protected int              selectedPad    = 0;
-    protected int []           pressedKeys    = new int [128];
-    protected int              columns;
-    protected int              rows;
-    protected int              drumOctave;
+    private static final Set<ChangeEpochs.Domain> GRID_DEPENDENCIES = Set.of (ChangeEpochs.Domain.CHANNELS, ChangeEpochs.Domain.BANKS, ChangeEpochs.Domain.NOTES, ChangeEpochs.Domain.SLOTS, ChangeEpochs.Domain.TRANSPORT, ChangeEpochs.Domain.SCALES, ChangeEpochs.Domain.SETTINGS);
 
-    private final int          xblocks;
-    private final int          yblocks;
+    protected int                                 offsetY;
+    protected int                                 selectedPad       = 0;
+    protected int []                              pressedKeys       = new int [128];
+    protected int                                 columns;
+    protected int                                 rows;
+    protected int                                 drumOctave;
+
+    private final int                             xblocks;
+    private final int                             yblocks;
 
 
     /**
@@ -178,6 +182,14 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ChangeEpochs.Domain> getGridDependencies ()
+    {
+        return GRID_DEPENDENCIES;
+    }
+
+
     private String getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
     {
         // Playing note?
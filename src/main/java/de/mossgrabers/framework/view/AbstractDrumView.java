@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.ButtonEventHandler;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -29,6 +30,7 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.IntUnaryOperator;
 
 
@@ -45,41 +47,43 @@ import java.util.function.IntUnaryOperator;
 public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends Configuration> extends AbstractSequencerView<S, C> implements TransposeView, ButtonEventHandler
 {
     /** The color ID for the recording state. */
-    public static final String COLOR_PAD_RECORD      = "COLOR_PAD_RECORD";
+    public static final String                    COLOR_PAD_RECORD      = "COLOR_PAD_RECORD";
     /** The color ID for the play state. */
-    public static final String COLOR_PAD_PLAY        = "COLOR_PAD_PLAY";
+    public static final String                    COLOR_PAD_PLAY        = "COLOR_PAD_PLAY";
     /** The color ID for the selected state. */
-    public static final String COLOR_PAD_SELECTED    = "COLOR_PAD_SELECTED";
+    public static final String                    COLOR_PAD_SELECTED    = "COLOR_PAD_SELECTED";
     /** The color ID for the mute state. */
-    public static final String COLOR_PAD_MUTED       = "COLOR_PAD_MUTED";
+    public static final String                    COLOR_PAD_MUTED       = "COLOR_PAD_MUTED";
     /** The color ID for the has-content state. */
-    public static final String COLOR_PAD_HAS_CONTENT = "COLOR_PAD_HAS_CONTENT";
+    public static final String                    COLOR_PAD_HAS_CONTENT = "COLOR_PAD_HAS_CONTENT";
     /** The color ID for the no-content state. */
-    public static final String COLOR_PAD_NO_CONTENT  = "COLOR_PAD_NO_CONTENT";
+    public static final String                    COLOR_PAD_NO_CONTENT  = "COLOR_PAD_NO_CONTENT";
     /** The color ID for the off state. */
-    public static final String COLOR_PAD_OFF         = "COLOR_PAD_OFF";
+    public static final String                    COLOR_PAD_OFF         = "COLOR_PAD_OFF";
 
-    protected static final int DRUM_START_KEY        = 36;
-    protected static final int GRID_COLUMNS          = 8;
+    protected static final int                    DRUM_START_KEY        = 36;
+    protected static final int                    GRID_COLUMNS          = 8;
 
-    protected int              loopPadPressed        = -1;
-    protected int              sequencerLines;
-    protected int              playRows;
-    protected int              numColumns;
-    protected int              allRows;
-    protected int              sequencerSteps;
-    protected int              playColumns;
-    protected IStepInfo        copyNote;
+    private static final Set<ChangeEpochs.Domain> GRID_DEPENDENCIES     = Set.of (ChangeEpochs.Domain.STEPS, ChangeEpochs.Domain.CHANNELS, ChangeEpochs.Domain.BANKS, ChangeEpochs.Domain.NOTES, ChangeEpochs.Domain.SLOTS, ChangeEpochs.Domain.TRANSPORT, ChangeEpochs.Domain.SCALES, ChangeEpochs.Domain.SETTINGS);
 
-    protected int              selectedPad;
-    protected int              scrollPosition        = -1;
+    protected int                                 loopPadPressed        = -1;
+    protected int                                 sequencerLines;
+    protected int                                 playRows;
+    protected int                                 numColumns;
+    protected int                                 allRows;
+    protected int                                 sequencerSteps;
+    protected int                                 playColumns;
+    protected IStepInfo                           copyNote;
 
-    protected ButtonID         firstPad              = ButtonID.PAD1;
-    protected ButtonID         buttonSelect          = ButtonID.SELECT;
-    protected ButtonID         buttonBrowse          = ButtonID.BROWSE;
-    protected ButtonID         buttonSolo            = ButtonID.SOLO;
-    protected ButtonID         buttonMute            = ButtonID.MUTE;
-    protected ButtonID         buttonDelete          = ButtonID.DELETE;
+    protected int                                 selectedPad;
+    protected int                                 scrollPosition        = -1;
+
+    protected ButtonID                            firstPad              = ButtonID.PAD1;
+    protected ButtonID                            buttonSelect          = ButtonID.SELECT;
+    protected ButtonID                            buttonBrowse          = ButtonID.BROWSE;
+    protected ButtonID                            buttonSolo            = ButtonID.SOLO;
+    protected ButtonID                            buttonMute            = ButtonID.MUTE;
+    protected ButtonID                            buttonDelete          = ButtonID.DELETE;
 
 
     /**
@@ -425,6 +429,15 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ChangeEpochs.Domain> getGridDependencies ()
+    {
+        // The drum pads display the playing notes
+        return GRID_DEPENDENCIES;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void drawGrid ()
@@ -370,7 +370,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     @Override
     public void updateNoteMapping ()
     {
-        final int [] matrix = this.scales.getNoteMatrix ();
+        final int [] matrix = this.scales.getNoteMatrix ().clone ();
         for (int i = this.scales.getStartNote () + this.sequencerSteps; i < this.scales.getEndNote (); i++)
             matrix[i] = -1;
         this.delayedUpdateNoteMapping (matrix);
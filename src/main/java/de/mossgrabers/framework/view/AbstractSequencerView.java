@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
@@ -23,6 +24,7 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -36,48 +38,50 @@ import java.util.List;
 public abstract class AbstractSequencerView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C>
 {
     /** The color for highlighting a step with no content. */
-    public static final String    COLOR_STEP_HILITE_NO_CONTENT = "COLOR_STEP_HILITE_NO_CONTENT";
+    public static final String                    COLOR_STEP_HILITE_NO_CONTENT = "COLOR_STEP_HILITE_NO_CONTENT";
     /** The color for highlighting a step with content. */
-    public static final String    COLOR_STEP_HILITE_CONTENT    = "COLOR_STEP_HILITE_CONTENT";
+    public static final String                    COLOR_STEP_HILITE_CONTENT    = "COLOR_STEP_HILITE_CONTENT";
     /** The color for a muted step. */
-    public static final String    COLOR_STEP_MUTED             = "COLOR_STEP_MUTED";
+    public static final String                    COLOR_STEP_MUTED             = "COLOR_STEP_MUTED";
     /** The color for a continued muted step. */
-    public static final String    COLOR_STEP_MUTED_CONT        = "COLOR_STEP_MUTED_CONT";
+    public static final String                    COLOR_STEP_MUTED_CONT        = "COLOR_STEP_MUTED_CONT";
     /** The color for a selected step. */
-    public static final String    COLOR_STEP_SELECTED          = "COLOR_STEP_SELECTED";
+    public static final String                    COLOR_STEP_SELECTED          = "COLOR_STEP_SELECTED";
     /** The color for a step with no content. */
-    public static final String    COLOR_NO_CONTENT             = "COLOR_NO_CONTENT";
+    public static final String                    COLOR_NO_CONTENT             = "COLOR_NO_CONTENT";
     /** The color for a step with content. */
-    public static final String    COLOR_CONTENT                = "COLOR_CONTENT";
+    public static final String                    COLOR_CONTENT                = "COLOR_CONTENT";
     /** The color for a step with content which is not the start of the note. */
-    public static final String    COLOR_CONTENT_CONT           = "COLOR_CONTENT_CONT";
+    public static final String                    COLOR_CONTENT_CONT           = "COLOR_CONTENT_CONT";
     /** The color for a page. */
-    public static final String    COLOR_PAGE                   = "COLOR_PAGE";
+    public static final String                    COLOR_PAGE                   = "COLOR_PAGE";
     /** The color for an active page. */
-    public static final String    COLOR_ACTIVE_PAGE            = "COLOR_ACTIVE_PAGE";
+    public static final String                    COLOR_ACTIVE_PAGE            = "COLOR_ACTIVE_PAGE";
     /** The color for a selected page. */
-    public static final String    COLOR_SELECTED_PAGE          = "COLOR_SELECTED_PAGE";
+    public static final String                    COLOR_SELECTED_PAGE          = "COLOR_SELECTED_PAGE";
     /** The color for resolution off. */
-    public static final String    COLOR_RESOLUTION_OFF         = "COLOR_RESOLUTION_OFF";
+    public static final String                    COLOR_RESOLUTION_OFF         = "COLOR_RESOLUTION_OFF";
     /** The color for resolution. */
-    public static final String    COLOR_RESOLUTION             = "COLOR_RESOLUTION";
+    public static final String                    COLOR_RESOLUTION             = "COLOR_RESOLUTION";
     /** The color for selected resolution. */
-    public static final String    COLOR_RESOLUTION_SELECTED    = "COLOR_RESOLUTION_SELECTED";
+    public static final String                    COLOR_RESOLUTION_SELECTED    = "COLOR_RESOLUTION_SELECTED";
     /** The color for transposition. */
-    public static final String    COLOR_TRANSPOSE              = "COLOR_TRANSPOSE";
+    public static final String                    COLOR_TRANSPOSE              = "COLOR_TRANSPOSE";
     /** The color for selected transposition. */
-    public static final String    COLOR_TRANSPOSE_SELECTED     = "COLOR_TRANSPOSE_SELECTED";
+    public static final String                    COLOR_TRANSPOSE_SELECTED     = "COLOR_TRANSPOSE_SELECTED";
 
-    protected int                 numSequencerRows;
-    protected int                 selectedResolutionIndex;
-    protected final Configuration configuration;
-    protected boolean             isNoteEdited                 = false;
-    protected final boolean       useDawColors;
+    private static final Set<ChangeEpochs.Domain> GRID_DEPENDENCIES            = Set.of (ChangeEpochs.Domain.STEPS, ChangeEpochs.Domain.CHANNELS, ChangeEpochs.Domain.SLOTS, ChangeEpochs.Domain.TRANSPORT, ChangeEpochs.Domain.SCALES, ChangeEpochs.Domain.SETTINGS);
 
-    protected final int           clipRows;
-    protected final int           clipCols;
+    protected int                                 numSequencerRows;
+    protected int                                 selectedResolutionIndex;
+    protected final Configuration                 configuration;
+    protected boolean                             isNoteEdited                 = false;
+    protected final boolean                       useDawColors;
 
-    private boolean               isSequencerActive;
+    protected final int                           clipRows;
+    protected final int                           clipCols;
+
+    private boolean                               isSequencerActive;
 
 
     /**
@@ -145,6 +149,14 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ChangeEpochs.Domain> getGridDependencies ()
+    {
+        return GRID_DEPENDENCIES;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onButton (final ButtonID buttonID, final ButtonEvent event, final int velocity)
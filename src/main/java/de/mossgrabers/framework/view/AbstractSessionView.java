@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.ChangeEpochs;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IScene;
@@ -23,6 +24,8 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.FrameworkException;
 import de.mossgrabers.framework.utils.Pair;
 
+import java.util.Set;
+
 
 /**
  * Abstract implementation for a view which provides a session with clips.
@@ -35,29 +38,31 @@ import de.mossgrabers.framework.utils.Pair;
 public abstract class AbstractSessionView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C>
 {
     /** The color for a scene. */
-    public static final String COLOR_SCENE                = "COLOR_SCENE";
+    public static final String                    COLOR_SCENE                = "COLOR_SCENE";
     /** The color for a selected scene. */
-    public static final String COLOR_SELECTED_SCENE       = "COLOR_SELECTED_SCENE";
+    public static final String                    COLOR_SELECTED_SCENE       = "COLOR_SELECTED_SCENE";
     /** The color for no scene. */
-    public static final String COLOR_SCENE_OFF            = "COLOR_SELECTED_OFF";
+    public static final String                    COLOR_SCENE_OFF            = "COLOR_SELECTED_OFF";
+
+    private static final Set<ChangeEpochs.Domain> GRID_DEPENDENCIES          = Set.of (ChangeEpochs.Domain.SLOTS, ChangeEpochs.Domain.CHANNELS, ChangeEpochs.Domain.BANKS, ChangeEpochs.Domain.SETTINGS);
 
     // Needs to be overwritten with device specific colors
-    protected LightInfo        clipColorIsRecording       = new LightInfo (0, -1, false);
-    protected LightInfo        clipColorIsRecordingQueued = new LightInfo (1, -1, false);
-    protected LightInfo        clipColorIsPlaying         = new LightInfo (2, -1, false);
-    protected LightInfo        clipColorIsPlayingQueued   = new LightInfo (3, -1, false);
-    protected LightInfo        clipColorHasContent        = new LightInfo (4, -1, false);
-    protected LightInfo        clipColorHasNoContent      = new LightInfo (5, -1, false);
-    protected LightInfo        clipColorIsRecArmed        = new LightInfo (6, -1, false);
+    protected LightInfo                           clipColorIsRecording       = new LightInfo (0, -1, false);
+    protected LightInfo                           clipColorIsRecordingQueued = new LightInfo (1, -1, false);
+    protected LightInfo                           clipColorIsPlaying         = new LightInfo (2, -1, false);
+    protected LightInfo                           clipColorIsPlayingQueued   = new LightInfo (3, -1, false);
+    protected LightInfo                           clipColorHasContent        = new LightInfo (4, -1, false);
+    protected LightInfo                           clipColorHasNoContent      = new LightInfo (5, -1, false);
+    protected LightInfo                           clipColorIsRecArmed        = new LightInfo (6, -1, false);
 
-    protected LightInfo        birdColorHasContent        = new LightInfo (4, -1, false);
-    protected LightInfo        birdColorSelected          = new LightInfo (2, -1, false);
+    protected LightInfo                           birdColorHasContent        = new LightInfo (4, -1, false);
+    protected LightInfo                           birdColorSelected          = new LightInfo (2, -1, false);
 
-    protected int              rows;
-    protected int              columns;
-    protected boolean          useClipColor;
-    protected ISlot            sourceSlot;
-    protected boolean          isBirdsEyeActive           = false;
+    protected int                                 rows;
+    protected int                                 columns;
+    protected boolean                             useClipColor;
+    protected ISlot                               sourceSlot;
+    protected boolean                             isBirdsEyeActive           = false;
 
 
     /**
@@ -286,6 +291,14 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ChangeEpochs.Domain> getGridDependencies ()
+    {
+        return GRID_DEPENDENCIES;
+    }
+
+
     /**
      * Toggles the birdseye view.
      */
@@ -0,0 +1,63 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.simulation.InputReplay;
+import de.mossgrabers.framework.simulation.SimulatedHost;
+import de.mossgrabers.framework.simulation.SimulatedSettingsUI;
+import de.mossgrabers.framework.simulation.SimulatedSetupFactory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+
+/**
+ * Replays MIDI input into the MIDI monitor and checks the logged events.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class MidiMonitorReplayTest
+{
+    private static final long TIMEOUT = 5000;
+
+
+    @Test
+    void logsReplayedEvents () throws InterruptedException
+    {
+        final SimulatedHost host = new SimulatedHost ();
+        final MidiMonitorSetup setup = new MidiMonitorSetup (host, new SimulatedSetupFactory (host), new SimulatedSettingsUI (), new SimulatedSettingsUI ());
+        setup.init ();
+        setup.startup ();
+
+        new InputReplay (host).run (List.of ("# Note on and off, a CC and a pitchbend", "0 MIDI 0 90 3C 64", "10 MIDI 0 80 3C 00", "20 MIDI 0 B0 07 7F", "30 MIDI 0 E0 00 40"), 100);
+
+        // The events are formatted on a background thread and printed by the host thread
+        final String log = waitForConsole (host, "Pitchbend");
+        setup.exit ();
+
+        assertTrue (log.contains ("Note On  C4"), log);
+        assertTrue (log.contains ("Note Off C4"), log);
+        assertTrue (log.contains ("CC 07 Channel Volume (MSB)"), log);
+    }
+
+
+    private static String waitForConsole (final SimulatedHost host, final String text) throws InterruptedException
+    {
+        final long end = System.currentTimeMillis () + TIMEOUT;
+        String log = "";
+        while (System.currentTimeMillis () < end)
+        {
+            log = String.join ("\n", host.getConsole ());
+            if (log.contains (text))
+                break;
+            Thread.sleep (10);
+            host.getClock ().advance (10);
+        }
+        return log;
+    }
+}
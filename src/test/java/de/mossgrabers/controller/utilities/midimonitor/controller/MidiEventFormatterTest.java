@@ -0,0 +1,56 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.simulation.SimulatedHost;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+
+/**
+ * Tests the hand over of the capture files to the formatter thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class MidiEventFormatterTest
+{
+    @Test
+    void stopCompletesCapture () throws IOException
+    {
+        final SimulatedHost host = new SimulatedHost ();
+        final MidiEventBuffer buffer = new MidiEventBuffer (64);
+        final MidiEventFormatter formatter = new MidiEventFormatter (host, buffer);
+        final File file = File.createTempFile ("MidiMonitor", ".mid");
+        file.deleteOnExit ();
+
+        // Queued before the start, therefore all events must end up in the capture
+        formatter.setCapture (new StandardMidiFileCapture (file));
+        buffer.offer (System.nanoTime (), 0x90, 60, 100);
+        buffer.offer (System.nanoTime (), 0x80, 60, 0);
+        formatter.start ();
+        formatter.stop ();
+
+        // The track length is patched on close and counts everything after the track header
+        try (final DataInputStream in = new DataInputStream (new FileInputStream (file)))
+        {
+            assertEquals (18, in.skipBytes (18));
+            assertEquals (file.length () - 22, in.readInt ());
+        }
+        // Tempo (7), 2 notes with delta time (2 * 4) and end of track (4)
+        assertEquals (22 + 7 + 8 + 4, file.length ());
+
+        final String log = String.join ("\n", host.getConsole ());
+        assertTrue (log.contains ("Note On  C4"), log);
+        assertTrue (log.contains ("Note Off C4"), log);
+    }
+}
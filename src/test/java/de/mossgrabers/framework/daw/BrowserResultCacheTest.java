@@ -0,0 +1,55 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests that the browser results are cached per filter combination.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class BrowserResultCacheTest
+{
+    @Test
+    void keepsPagesOfOtherFilterCombinations ()
+    {
+        final BrowserResultCache cache = new BrowserResultCache (16);
+
+        cache.select ("0\nBass", 100);
+        cache.put (20, "Sub Bass");
+        cache.select ("0\nLead", 100);
+        assertNull (cache.get (20));
+        cache.put (20, "Saw Lead");
+
+        cache.select ("0\nBass", 100);
+        assertEquals ("Sub Bass", cache.get (20));
+        cache.select ("0\nLead", 100);
+        assertEquals ("Saw Lead", cache.get (20));
+    }
+
+
+    @Test
+    void changedItemCountOnlyRemovesTheSelectedCombination ()
+    {
+        final BrowserResultCache cache = new BrowserResultCache (16);
+
+        cache.select ("0\nBass", 100);
+        cache.put (3, "Sub Bass");
+        cache.select ("0\nLead", 100);
+        cache.put (3, "Saw Lead");
+
+        // A search in the lead results
+        cache.setItemCount (7);
+        assertNull (cache.get (3));
+
+        cache.select ("0\nBass", 7);
+        assertEquals ("Sub Bass", cache.get (3));
+    }
+}
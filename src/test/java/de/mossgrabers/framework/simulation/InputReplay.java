@@ -0,0 +1,158 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.utils.FrameworkException;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Replays recorded input into the simulation. Each line of a recording contains one event, which is
+ * scheduled on the virtual clock of the host. Empty lines and lines starting with '#' are ignored.
+ * The supported formats are (time in milliseconds, data as hex bytes):
+ *
+ * <pre>
+ * time MIDI input status data1 data2
+ * time SYSEX input data...
+ * time HID device reportID data...
+ * time OSC address values...
+ * </pre>
+ *
+ * OSC values are handed over as integers if possible, as doubles if they contain a dot, otherwise
+ * as text.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class InputReplay
+{
+    private final SimulatedHost host;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host of the simulation
+     */
+    public InputReplay (final SimulatedHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Schedule all events of a recording. The times are relative to the current time of the clock.
+     * The MIDI inputs must have been created before (e.g. by initializing the controller setup).
+     *
+     * @param lines The lines of the recording
+     * @return The latest time of all events
+     */
+    public long schedule (final List<String> lines)
+    {
+        long end = 0;
+        for (int i = 0; i < lines.size (); i++)
+        {
+            final String line = lines.get (i).trim ();
+            if (line.isEmpty () || line.startsWith ("#"))
+                continue;
+
+            final String [] parts = line.split ("\\s+");
+            if (parts.length < 3)
+                throw new FrameworkException ("Line " + (i + 1) + " of the recording is incomplete: " + line);
+
+            try
+            {
+                final long time = Long.parseLong (parts[0]);
+                this.host.getClock ().schedule (this.createEvent (parts), time);
+                end = Math.max (end, time);
+            }
+            catch (final NumberFormatException | IndexOutOfBoundsException ex)
+            {
+                throw new FrameworkException ("Line " + (i + 1) + " of the recording could not be parsed: " + line, ex);
+            }
+        }
+        return end;
+    }
+
+
+    /**
+     * Schedule all events of a recording and run the clock until all of them are executed.
+     *
+     * @param lines The lines of the recording
+     * @param tail Additional milliseconds to run the clock after the last event, e.g. to let
+     *            pending flushes finish
+     */
+    public void run (final List<String> lines, final long tail)
+    {
+        this.host.getClock ().advance (this.schedule (lines) + tail);
+    }
+
+
+    private Runnable createEvent (final String [] parts)
+    {
+        switch (parts[1])
+        {
+            case "MIDI":
+            {
+                final SimulatedMidiInput input = this.host.getMidiAccess ().getInput (Integer.parseInt (parts[2]));
+                final int status = Integer.parseInt (parts[3], 16);
+                final int data1 = Integer.parseInt (parts[4], 16);
+                final int data2 = Integer.parseInt (parts[5], 16);
+                return () -> input.receiveMidi (status, data1, data2);
+            }
+
+            case "SYSEX":
+            {
+                final SimulatedMidiInput input = this.host.getMidiAccess ().getInput (Integer.parseInt (parts[2]));
+                final byte [] data = parseBytes (parts, 3);
+                return () -> input.receiveSysex (data);
+            }
+
+            case "HID":
+            {
+                final SimulatedUsbDevice device = this.host.getSimulatedUsbDevice (Integer.parseInt (parts[2]));
+                final byte reportID = (byte) Integer.parseInt (parts[3], 16);
+                final byte [] data = parseBytes (parts, 4);
+                return () -> device.receiveHidReport (reportID, data);
+            }
+
+            case "OSC":
+            {
+                final List<Object> values = new ArrayList<> ();
+                for (int i = 3; i < parts.length; i++)
+                    values.add (parseValue (parts[i]));
+                final SimulatedOSCMessage message = new SimulatedOSCMessage (parts[2], values);
+                return () -> this.host.getOSC ().receiveMessage (message);
+            }
+
+            default:
+                throw new FrameworkException ("Unknown event type in recording: " + parts[1]);
+        }
+    }
+
+
+    private static byte [] parseBytes (final String [] parts, final int offset)
+    {
+        return StringUtils.fromHexStrToBytes (String.join ("", Arrays.copyOfRange (parts, offset, parts.length)));
+    }
+
+
+    private static Object parseValue (final String value)
+    {
+        try
+        {
+            if (value.indexOf ('.') >= 0)
+                return Double.valueOf (value);
+            return Integer.valueOf (value);
+        }
+        catch (final NumberFormatException ex)
+        {
+            return value;
+        }
+    }
+}
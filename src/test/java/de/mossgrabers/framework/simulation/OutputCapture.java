@@ -0,0 +1,111 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Captures all data which is sent by a controller in the simulation: MIDI, USB, HID and OSC.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OutputCapture
+{
+    /**
+     * The captured output.
+     *
+     * @param time The time of the virtual clock when the data was sent
+     * @param port The name of the port, e.g. "MIDI 0" or "USB 0"
+     * @param data The sent bytes, for OSC the address and the values as text
+     */
+    public record Event (long time, String port, byte [] data)
+    {
+        // Intentionally empty
+    }
+
+
+    private final VirtualClock clock;
+    private final List<Event>  events    = new ArrayList<> ();
+    private long               numBytes;
+    private boolean            isEnabled = true;
+
+
+    /**
+     * Constructor.
+     *
+     * @param clock The clock for the timestamps of the events
+     */
+    public OutputCapture (final VirtualClock clock)
+    {
+        this.clock = clock;
+    }
+
+
+    /**
+     * Capture sent data.
+     *
+     * @param port The name of the port
+     * @param data The data, is copied
+     * @param offset The offset into the data
+     * @param length The number of bytes to capture
+     */
+    public synchronized void capture (final String port, final byte [] data, final int offset, final int length)
+    {
+        if (!this.isEnabled)
+            return;
+
+        final byte [] copy = new byte [length];
+        System.arraycopy (data, offset, copy, 0, length);
+        this.events.add (new Event (this.clock.getTime (), port, copy));
+        this.numBytes += length;
+    }
+
+
+    /**
+     * Get all captured events.
+     *
+     * @return The events in the order they were sent
+     */
+    public synchronized List<Event> getEvents ()
+    {
+        return Collections.unmodifiableList (new ArrayList<> (this.events));
+    }
+
+
+    /**
+     * Get the number of all captured bytes.
+     *
+     * @return The number of bytes
+     */
+    public synchronized long getNumBytes ()
+    {
+        return this.numBytes;
+    }
+
+
+    /**
+     * Enable or disable capturing. If disabled all sent data is dropped, e.g. to run longer
+     * simulations without collecting the output.
+     *
+     * @param isEnabled True to capture
+     */
+    public synchronized void setEnabled (final boolean isEnabled)
+    {
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Remove all captured events.
+     */
+    public synchronized void clear ()
+    {
+        this.events.clear ();
+        this.numBytes = 0;
+    }
+}
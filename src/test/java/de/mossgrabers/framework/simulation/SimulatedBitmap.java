@@ -0,0 +1,84 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * A bitmap of the simulation. Since there is no graphics context without the DAW, render requests
+ * are only counted. The image buffer (32 bit per pixel) stays empty but is handed to the encoders,
+ * which allows to measure the encoding and the transmission of the display data.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedBitmap implements IBitmap
+{
+    private final int        width;
+    private final int        height;
+    private final ByteBuffer imageBuffer;
+    private int              renderCount = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public SimulatedBitmap (final int width, final int height)
+    {
+        this.width = width;
+        this.height = height;
+        this.imageBuffer = ByteBuffer.allocate (width * height * 4);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        // There is no window in the simulation
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // There is no window in the simulation
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        this.renderCount++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        encoder.encode (this.imageBuffer.duplicate ().clear (), this.width, this.height);
+    }
+
+
+    /**
+     * Get the number of render requests.
+     *
+     * @return The number of render requests
+     */
+    public int getRenderCount ()
+    {
+        return this.renderCount;
+    }
+}
@@ -0,0 +1,369 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.daw.ChangeEpochs;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.daw.SubscriptionProfiler;
+import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.IDeviceMetadata;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.utils.TimerWheel;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * A host for running controller code without the DAW. Tasks are scheduled on a virtual clock, all
+ * output to MIDI, USB and OSC is captured and console output is collected.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHost implements IHost
+{
+    private static final List<IDeviceMetadata> INSTRUMENTS    = List.of (new DeviceMetadata ("Polysynth"), new DeviceMetadata ("Drum Machine"), new DeviceMetadata ("Sampler"));
+    private static final List<IDeviceMetadata> AUDIO_EFFECTS  = List.of (new DeviceMetadata ("EQ+"), new DeviceMetadata ("Compressor"), new DeviceMetadata ("Delay+"));
+
+    private final VirtualClock                 clock          = new VirtualClock ();
+    private final OutputCapture                capture        = new OutputCapture (this.clock);
+    private final SimulatedMidiAccess          midiAccess     = new SimulatedMidiAccess (this.capture);
+    private final SimulatedOSCConnection       osc            = new SimulatedOSCConnection (this.capture);
+    private final List<SimulatedUsbDevice>     usbDevices     = new ArrayList<> ();
+    private final Set<Capability>              capabilities   = EnumSet.allOf (Capability.class);
+    private final List<String>                 console        = Collections.synchronizedList (new ArrayList<> ());
+    private final TimerWheel                   timerWheel     = new TimerWheel (this, this.clock);
+    private final SubscriptionProfiler         profiler       = new SubscriptionProfiler ();
+    private final ChangeEpochs                 changeEpochs   = new ChangeEpochs ();
+    private IHwSurfaceFactory                  surfaceFactory = new SimulatedHwSurfaceFactory (this);
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Simulation";
+    }
+
+
+    /**
+     * Get the virtual clock of the simulation.
+     *
+     * @return The clock
+     */
+    public VirtualClock getClock ()
+    {
+        return this.clock;
+    }
+
+
+    /**
+     * Get the capture of all output.
+     *
+     * @return The capture
+     */
+    public OutputCapture getCapture ()
+    {
+        return this.capture;
+    }
+
+
+    /**
+     * Get the MIDI access of the simulation.
+     *
+     * @return The MIDI access
+     */
+    public SimulatedMidiAccess getMidiAccess ()
+    {
+        return this.midiAccess;
+    }
+
+
+    /**
+     * Get the OSC connection of the simulation.
+     *
+     * @return The OSC connection
+     */
+    public SimulatedOSCConnection getOSC ()
+    {
+        return this.osc;
+    }
+
+
+    /**
+     * Get the lines written to the console. Lines might be written from other threads, therefore a
+     * copy is returned.
+     *
+     * @return The lines
+     */
+    public List<String> getConsole ()
+    {
+        synchronized (this.console)
+        {
+            return List.copyOf (this.console);
+        }
+    }
+
+
+    /**
+     * Set the capabilities which the simulated host supports. By default all are supported.
+     *
+     * @param capabilities The capabilities
+     */
+    public void setCapabilities (final Set<Capability> capabilities)
+    {
+        this.capabilities.clear ();
+        this.capabilities.addAll (capabilities);
+    }
+
+
+    /**
+     * Set the factory for the hardware controls. By default the controls of the simulation are
+     * created.
+     *
+     * @param surfaceFactory The factory
+     */
+    public void setSurfaceFactory (final IHwSurfaceFactory surfaceFactory)
+    {
+        this.surfaceFactory = surfaceFactory;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supports (final Capability capability)
+    {
+        return this.capabilities.contains (capability);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void restart ()
+    {
+        this.println ("Restart requested.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        this.clock.schedule (task, delay);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public SubscriptionProfiler getSubscriptionProfiler ()
+    {
+        return this.profiler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ChangeEpochs getChangeEpochs ()
+    {
+        return this.changeEpochs;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        this.console.add ("ERROR: " + text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable ex)
+    {
+        this.error (text);
+
+        final StringWriter sw = new StringWriter ();
+        ex.printStackTrace (new PrintWriter (sw));
+        this.error (sw.toString ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        this.console.add (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        this.console.add ("NOTIFICATION: " + message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwSurfaceFactory createSurfaceFactory (final double width, final double height)
+    {
+        return this.surfaceFactory;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    {
+        return this.osc;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        this.osc.setCallback (callback);
+        return this.osc;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<?> values)
+    {
+        return new SimulatedOSCMessage (address, values);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        this.osc.setCallback (null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IImage loadSVG (final String imageName, final int scale)
+    {
+        return new IImage ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public double getWidth ()
+            {
+                return 0;
+            }
+
+
+            /** {@inheritDoc} */
+            @Override
+            public int getHeight ()
+            {
+                return 0;
+            }
+        };
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBitmap createBitmap (final int width, final int height)
+    {
+        return new SimulatedBitmap (width, height);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMemoryBlock createMemoryBlock (final int size)
+    {
+        return new SimulatedMemoryBlock (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbDevice getUsbDevice (final int index)
+    {
+        return this.getSimulatedUsbDevice (index);
+    }
+
+
+    /**
+     * Get a USB device of the simulation. Devices are created on first access.
+     *
+     * @param index The index of the device
+     * @return The device
+     */
+    public SimulatedUsbDevice getSimulatedUsbDevice (final int index)
+    {
+        while (this.usbDevices.size () <= index)
+            this.usbDevices.add (new SimulatedUsbDevice (this.clock, this.capture, this.usbDevices.size ()));
+        return this.usbDevices.get (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseUsbDevices ()
+    {
+        for (final SimulatedUsbDevice device: this.usbDevices)
+            device.release ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public List<IDeviceMetadata> getInstrumentMetadata ()
+    {
+        return INSTRUMENTS;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public List<IDeviceMetadata> getAudioEffectMetadata ()
+    {
+        return AUDIO_EFFECTS;
+    }
+
+
+    /** The metadata of a simulated device. */
+    private record DeviceMetadata (String name) implements IDeviceMetadata
+    {
+        /** {@inheritDoc} */
+        @Override
+        public String fullName ()
+        {
+            return this.name;
+        }
+    }
+}
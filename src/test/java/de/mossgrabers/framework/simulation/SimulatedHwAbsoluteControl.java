@@ -0,0 +1,114 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.hardware.AbstractHwContinuousControl;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * A fader or absolute knob of the simulation. Values are handed to the bound command or parameter
+ * like the DAW would do.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwAbsoluteControl extends AbstractHwContinuousControl implements IHwFader, IHwAbsoluteKnob
+{
+    private IParameter parameter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param label The label of the control
+     */
+    public SimulatedHwAbsoluteControl (final IHost host, final String label)
+    {
+        super (host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IParameter parameter)
+    {
+        this.parameter = parameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        input.bind ((IHwFader) this, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final TriggerCommand command, final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        this.touchCommand = command;
+
+        input.bindTouch (this, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleValue (final double value)
+    {
+        this.traceInput ();
+
+        if (this.command != null)
+        {
+            this.command.execute ((int) Math.round (value * 127.0));
+            return;
+        }
+
+        if (this.pitchbendCommand != null)
+        {
+            final double v = value * 16383.0;
+            final int data1 = (int) Math.min (127, Math.round (v % 128.0));
+            final int data2 = (int) Math.min (127, Math.round (v / 128.0));
+            this.pitchbendCommand.onPitchbend (data1, data2);
+            return;
+        }
+
+        if (this.parameter != null)
+            this.parameter.setNormalizedValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void disableTakeOver ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndexInGroup (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
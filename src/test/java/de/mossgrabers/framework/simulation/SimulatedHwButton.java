@@ -0,0 +1,71 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.hardware.AbstractHwButton;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * A button of the simulation. It is triggered by the MIDI input to which it is bound.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwButton extends AbstractHwButton
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param label The label of the button
+     */
+    public SimulatedHwButton (final IHost host, final String label)
+    {
+        super (host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final TriggerCommand command)
+    {
+        this.command = command;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        input.bind (this, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control, final int value)
+    {
+        input.bind (this, type, channel, control, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IMidiInput input)
+    {
+        input.unbind (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
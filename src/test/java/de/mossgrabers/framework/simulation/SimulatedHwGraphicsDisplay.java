@@ -0,0 +1,37 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwControl;
+import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * A graphics display of the simulation. The content is only rendered into the bitmap of the
+ * display, there is no on-screen representation.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwGraphicsDisplay extends AbstractHwControl implements IHwGraphicsDisplay
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public SimulatedHwGraphicsDisplay (final IHost host)
+    {
+        super (host, null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
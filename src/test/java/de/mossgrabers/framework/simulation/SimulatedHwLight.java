@@ -0,0 +1,94 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwControl;
+import de.mossgrabers.framework.controller.hardware.IHwLight;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+
+/**
+ * A light of the simulation. Like the lights of the DAW the state is only sent to the device if it
+ * has changed since the last flush.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwLight extends AbstractHwControl implements IHwLight
+{
+    private final IntSupplier supplier;
+    private final IntConsumer sendValueConsumer;
+    private boolean           isOn     = true;
+    private boolean           hasState = false;
+    private int               state;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param supplier Supplies the encoded state of the light
+     * @param sendValueConsumer Sends the encoded state to the device
+     */
+    public SimulatedHwLight (final IHost host, final IntSupplier supplier, final IntConsumer sendValueConsumer)
+    {
+        super (host, null);
+
+        this.supplier = supplier;
+        this.sendValueConsumer = sendValueConsumer;
+    }
+
+
+    /**
+     * Send the state of the light to the device, if it has changed. Called by the surface factory
+     * when it is flushed.
+     */
+    @Override
+    public void update ()
+    {
+        final int newState = this.isOn ? this.supplier.getAsInt () : 0;
+        if (this.hasState && newState == this.state)
+            return;
+        this.hasState = true;
+        this.state = newState;
+        this.sendValueConsumer.accept (newState);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void turnOff ()
+    {
+        this.isOn = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        this.isOn = true;
+        this.clearCache ();
+    }
+
+
+    /**
+     * Send the state on the next flush even if it did not change.
+     */
+    public void clearCache ()
+    {
+        this.hasState = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,45 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwControl;
+import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * A piano keyboard of the simulation. Played notes reach the note inputs directly.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwPianoKeyboard extends AbstractHwControl implements IHwPianoKeyboard
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public SimulatedHwPianoKeyboard (final IHost host)
+    {
+        super (host, null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
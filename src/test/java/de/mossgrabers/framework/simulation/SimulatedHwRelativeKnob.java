@@ -0,0 +1,125 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.hardware.AbstractHwContinuousControl;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * A relative knob of the simulation. The MIDI input decodes the value with the encoding of the knob
+ * like the value matchers of the DAW, the knob converts it back to the two's complement value
+ * expected by the commands.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwRelativeKnob extends AbstractHwContinuousControl implements IHwRelativeKnob
+{
+    private final RelativeEncoding encoding;
+    private IParameter             parameter;
+    private boolean                shouldAdaptSensitivity = true;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param label The label of the knob
+     * @param encoding The encoding of the relative value
+     */
+    public SimulatedHwRelativeKnob (final IHost host, final String label, final RelativeEncoding encoding)
+    {
+        super (host, label);
+
+        this.encoding = encoding;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IParameter parameter)
+    {
+        this.parameter = parameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        input.bind (this, type, channel, control, this.encoding);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final TriggerCommand command, final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        this.touchCommand = command;
+
+        input.bindTouch (this, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleValue (final double value)
+    {
+        this.traceInput ();
+
+        final double a = value * 61.0;
+        final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
+        if (this.command != null)
+            this.command.execute (v < 0 ? v + 128 : v);
+        else if (this.parameter != null)
+            this.parameter.changeValue (v);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSensitivity (final double sensitivity)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean shouldAdaptSensitivity ()
+    {
+        return this.shouldAdaptSensitivity;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setShouldAdaptSensitivity (final boolean shouldAdaptSensitivity)
+    {
+        this.shouldAdaptSensitivity = shouldAdaptSensitivity;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndexInGroup (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
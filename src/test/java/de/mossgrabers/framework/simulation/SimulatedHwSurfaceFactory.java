@@ -0,0 +1,163 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.ContinuousID;
+import de.mossgrabers.framework.controller.OutputID;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
+import de.mossgrabers.framework.controller.hardware.IHwLight;
+import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.IBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+
+/**
+ * Creates the hardware controls of the simulation. Like the hardware surface of the DAW, the lights
+ * send their state when the factory is flushed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwSurfaceFactory implements IHwSurfaceFactory
+{
+    private final IHost                  host;
+    private final List<SimulatedHwLight> lights = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public SimulatedHwSurfaceFactory (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwButton createButton (final int surfaceID, final ButtonID buttonID, final String label)
+    {
+        return new SimulatedHwButton (this.host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwLight createLight (final int surfaceID, final OutputID outputID, final Supplier<ColorEx> supplier, final Consumer<ColorEx> sendValueConsumer)
+    {
+        return this.addLight (new SimulatedHwLight (this.host, () -> {
+            final ColorEx color = supplier.get ();
+            return color == null ? 0 : color.encode ();
+        }, state -> sendValueConsumer.accept (ColorEx.decode (state))));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwLight createLight (final int surfaceID, final OutputID outputID, final IntSupplier supplier, final IntConsumer sendValueConsumer, final IntFunction<ColorEx> stateToColorFunction, final IHwButton button)
+    {
+        final IHwLight light = this.addLight (new SimulatedHwLight (this.host, supplier, sendValueConsumer));
+        if (button != null)
+            button.addLight (light);
+        return light;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwFader createFader (final int surfaceID, final ContinuousID faderID, final String label, final boolean isVertical)
+    {
+        return new SimulatedHwAbsoluteControl (this.host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwAbsoluteKnob createAbsoluteKnob (final int surfaceID, final ContinuousID knobID, final String label)
+    {
+        return new SimulatedHwAbsoluteControl (this.host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwRelativeKnob createRelativeKnob (final int surfaceID, final ContinuousID knobID, final String label)
+    {
+        return this.createRelativeKnob (surfaceID, knobID, label, RelativeEncoding.TWOS_COMPLEMENT);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwRelativeKnob createRelativeKnob (final int surfaceID, final ContinuousID knobID, final String label, final RelativeEncoding encoding)
+    {
+        return new SimulatedHwRelativeKnob (this.host, label, encoding);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwTextDisplay createTextDisplay (final int surfaceID, final OutputID outputID, final int numLines)
+    {
+        return new SimulatedHwTextDisplay (this.host, numLines);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwGraphicsDisplay createGraphicsDisplay (final int surfaceID, final OutputID outputID, final IBitmap bitmap)
+    {
+        return new SimulatedHwGraphicsDisplay (this.host);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwPianoKeyboard createPianoKeyboard (final int surfaceID, final int numKeys)
+    {
+        return new SimulatedHwPianoKeyboard (this.host);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        this.lights.forEach (SimulatedHwLight::update);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearCache ()
+    {
+        this.lights.forEach (SimulatedHwLight::clearCache);
+    }
+
+
+    private IHwLight addLight (final SimulatedHwLight light)
+    {
+        this.lights.add (light);
+        return light;
+    }
+}
@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.utils.ButtonEvent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Replays button presses into a button of the simulated hardware surface and checks the output of
+ * its light and the long press, which is detected on the timer wheel driven by the virtual clock.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class SimulatedHwSurfaceFactoryTest
+{
+    private static final int NOTE = 0x5E;
+
+
+    @Test
+    void lightFollowsButton ()
+    {
+        final SimulatedHost host = new SimulatedHost ();
+        final IHwSurfaceFactory factory = host.createSurfaceFactory (100, 100);
+        final IMidiInput input = host.getMidiAccess ().createInput ("Test");
+        final IMidiOutput output = host.getMidiAccess ().createOutput ();
+
+        final AtomicBoolean isOn = new AtomicBoolean ();
+        final IHwButton button = factory.createButton (0, ButtonID.PLAY, "Play");
+        button.bind ( (event, velocity) -> {
+            if (event == ButtonEvent.UP)
+                isOn.set (!isOn.get ());
+        });
+        button.bind (input, BindType.NOTE, 0, NOTE);
+        factory.createLight (0, null, () -> isOn.get () ? 127 : 0, value -> output.sendNote (NOTE, value), null, button);
+
+        factory.flush ();
+        new InputReplay (host).run (List.of ("0 MIDI 0 90 5E 7F", "10 MIDI 0 80 5E 00"), 10);
+        factory.flush ();
+        // Unchanged lights must not be sent again
+        factory.flush ();
+
+        final List<OutputCapture.Event> events = host.getCapture ().getEvents ();
+        assertEquals (2, events.size ());
+        assertArrayEquals (new byte []
+        {
+            (byte) 0x90,
+            NOTE,
+            0
+        }, events.get (0).data ());
+        assertArrayEquals (new byte []
+        {
+            (byte) 0x90,
+            NOTE,
+            127
+        }, events.get (1).data ());
+    }
+
+
+    @Test
+    void longPressFollowsVirtualClock ()
+    {
+        final SimulatedHost host = new SimulatedHost ();
+        final IHwSurfaceFactory factory = host.createSurfaceFactory (100, 100);
+        final IMidiInput input = host.getMidiAccess ().createInput ("Test");
+        final IHwButton button = factory.createButton (0, ButtonID.PLAY, "Play");
+        button.bind ( (event, velocity) -> {
+            // Intentionally empty
+        });
+        button.bind (input, BindType.NOTE, 0, NOTE);
+
+        final InputReplay replay = new InputReplay (host);
+        replay.run (List.of ("0 MIDI 0 90 5E 7F"), 200);
+        assertFalse (button.isLongPressed ());
+        host.getClock ().advance (200);
+        assertTrue (button.isLongPressed ());
+    }
+}
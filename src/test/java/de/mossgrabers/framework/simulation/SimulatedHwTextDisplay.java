@@ -0,0 +1,65 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwControl;
+import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+
+
+/**
+ * A text display of the simulation which stores the lines to check them after a replay.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedHwTextDisplay extends AbstractHwControl implements IHwTextDisplay
+{
+    private final String [] lines;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param numLines The number of lines of the display
+     */
+    public SimulatedHwTextDisplay (final IHost host, final int numLines)
+    {
+        super (host, null);
+
+        this.lines = new String [numLines];
+        Arrays.fill (this.lines, "");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void setLine (final int line, final String text)
+    {
+        this.lines[line] = text;
+    }
+
+
+    /**
+     * Get the text of a line.
+     *
+     * @param line The index of the line
+     * @return The text
+     */
+    public synchronized String getLine (final int line)
+    {
+        return this.lines[line];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,39 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * A memory block of the simulation which is backed by a heap buffer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedMemoryBlock implements IMemoryBlock
+{
+    private final ByteBuffer buffer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The size of the memory block in bytes
+     */
+    public SimulatedMemoryBlock (final int size)
+    {
+        this.buffer = ByteBuffer.allocate (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ByteBuffer createByteBuffer ()
+    {
+        return this.buffer.duplicate ().clear ();
+    }
+}
@@ -0,0 +1,97 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Creates the MIDI ports of the simulation. The created ports can be retrieved to replay input and
+ * are re-used if they are requested again.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedMidiAccess implements IMidiAccess
+{
+    private final OutputCapture             capture;
+    private final List<SimulatedMidiInput>  inputs  = new ArrayList<> ();
+    private final List<SimulatedMidiOutput> outputs = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param capture Where to capture the output
+     */
+    public SimulatedMidiAccess (final OutputCapture capture)
+    {
+        this.capture = capture;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        return this.createOutput (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        return this.getOutput (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        return this.createInput (0, name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        while (this.inputs.size () <= index)
+            this.inputs.add (new SimulatedMidiInput (this.capture, name));
+        return this.inputs.get (index);
+    }
+
+
+    /**
+     * Get a MIDI input. The input must have been created before.
+     *
+     * @param index The index of the input
+     * @return The input
+     */
+    public SimulatedMidiInput getInput (final int index)
+    {
+        return this.inputs.get (index);
+    }
+
+
+    /**
+     * Get a MIDI output. Outputs are created on first access.
+     *
+     * @param index The index of the output
+     * @return The output
+     */
+    public SimulatedMidiOutput getOutput (final int index)
+    {
+        while (this.outputs.size () <= index)
+            this.outputs.add (new SimulatedMidiOutput (this.capture, this.outputs.size ()));
+        return this.outputs.get (index);
+    }
+}
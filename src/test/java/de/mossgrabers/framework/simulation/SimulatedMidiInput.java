@@ -0,0 +1,322 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwContinuousControl;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExByteCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.daw.midi.SysExDispatcher;
+import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A MIDI input of the simulation. Received messages are dispatched to the bound hardware controls
+ * like the matchers of the DAW would do. Messages which do not match any control are handed to the
+ * MIDI callback and notes additionally to the default note input.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedMidiInput implements IMidiInput
+{
+    private final OutputCapture               capture;
+    private final String                      name;
+    private final SysExDispatcher             sysexDispatcher = new SysExDispatcher ();
+    private final Map<Integer, List<Binding>> bindings        = new HashMap<> ();
+    private final SimulatedNoteInput          defaultNoteInput;
+    private MidiShortCallback                 midiCallback;
+    private MidiSysExCallback                 sysexCallback;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capture Where to capture the notes sent to the DAW
+     * @param name The name of the input
+     */
+    public SimulatedMidiInput (final OutputCapture capture, final String name)
+    {
+        this.capture = capture;
+        this.name = name;
+        this.defaultNoteInput = new SimulatedNoteInput (capture, name);
+    }
+
+
+    /**
+     * Receive a short MIDI message from the (simulated) device.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void receiveMidi (final int status, final int data1, final int data2)
+    {
+        if (this.dispatchToBindings (status, data1, data2))
+            return;
+
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+
+        final int code = status & 0xF0;
+        if (code == MidiConstants.CMD_NOTE_OFF || code == MidiConstants.CMD_NOTE_ON || code == MidiConstants.CMD_POLY_AFTERTOUCH)
+            this.defaultNoteInput.sendRawMidiEvent (status, data1, data2);
+    }
+
+
+    /**
+     * Receive a system exclusive message from the (simulated) device.
+     *
+     * @param data The bytes of the message including the start and end byte
+     */
+    public void receiveSysex (final byte [] data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (StringUtils.toHexStr (data).replace (" ", ""));
+        if (this.sysexDispatcher.hasCallbacks ())
+            this.sysexDispatcher.dispatch (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexByteCallback (final MidiSysExByteCallback callback)
+    {
+        this.sysexDispatcher.setDefaultCallback (callback);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addSysexByteCallback (final byte [] prefix, final MidiSysExByteCallback callback)
+    {
+        this.sysexDispatcher.addCallback (prefix, callback);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return new SimulatedNoteInput (this.capture, this.name + " " + name);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return this.defaultNoteInput;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.defaultNoteInput.sendRawMidiEvent (status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control)
+    {
+        this.addBinding (type, channel, control, new Binding (button, -1, null, null, false));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IHwButton button)
+    {
+        for (final List<Binding> list: this.bindings.values ())
+            list.removeIf (binding -> binding.button () == button);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control, final int value)
+    {
+        this.addBinding (type, channel, control, new Binding (button, value, null, null, false));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.addBinding (type, channel, control, new Binding (null, -1, fader, null, false));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteKnob absoluteKnob, final BindType type, final int channel, final int control)
+    {
+        this.addBinding (type, channel, control, new Binding (null, -1, absoluteKnob, null, false));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteControl absoluteControl, final BindType type, final int channel, final int control)
+    {
+        this.addBinding (type, channel, control, new Binding (null, -1, absoluteControl, null, false));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control, final RelativeEncoding encoding)
+    {
+        this.addBinding (type, channel, control, new Binding (null, -1, relativeKnob, encoding, false));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control)
+    {
+        this.addBinding (type, channel, control, new Binding (null, -1, relativeKnob, null, true));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.addBinding (type, channel, control, new Binding (null, -1, fader, null, true));
+    }
+
+
+    private void addBinding (final BindType type, final int channel, final int control, final Binding binding)
+    {
+        this.bindings.computeIfAbsent (getKey (type, channel, control), key -> new ArrayList<> ()).add (binding);
+    }
+
+
+    /**
+     * Hand a MIDI message to all matching bound controls.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return True if at least one control matched
+     */
+    private boolean dispatchToBindings (final int status, final int data1, final int data2)
+    {
+        final int channel = status & 0xF;
+        final List<Binding> matches;
+        switch (status & 0xF0)
+        {
+            case MidiConstants.CMD_NOTE_ON:
+            case MidiConstants.CMD_NOTE_OFF:
+                matches = this.bindings.get (getKey (BindType.NOTE, channel, data1));
+                break;
+            case MidiConstants.CMD_CC:
+                matches = this.bindings.get (getKey (BindType.CC, channel, data1));
+                break;
+            case MidiConstants.CMD_PITCHBEND:
+                matches = this.bindings.get (getKey (BindType.PITCHBEND, channel, 0));
+                break;
+            default:
+                return false;
+        }
+        if (matches == null || matches.isEmpty ())
+            return false;
+
+        final boolean isNoteOff = (status & 0xF0) == MidiConstants.CMD_NOTE_OFF;
+        final boolean isPressed = !isNoteOff && data2 > 0;
+        for (final Binding binding: matches)
+        {
+            if (binding.button () != null)
+            {
+                if (binding.value () < 0)
+                    binding.button ().trigger (isPressed ? ButtonEvent.DOWN : ButtonEvent.UP, data2 / 127.0);
+                else if (binding.value () == data2)
+                    binding.button ().trigger (ButtonEvent.DOWN, data2 / 127.0);
+            }
+            else if (binding.isTouch ())
+                binding.control ().triggerTouch (isPressed);
+            else if ((status & 0xF0) == MidiConstants.CMD_PITCHBEND)
+                binding.control ().handleValue ((data2 << 7 | data1) / 16383.0);
+            else if (binding.encoding () == null)
+                binding.control ().handleValue (data2 / 127.0);
+            else
+                binding.control ().handleValue (decodeRelative (binding.encoding (), data2) / 61.0);
+        }
+        return true;
+    }
+
+
+    /**
+     * Decode a relative value like the value matchers of the DAW.
+     *
+     * @param encoding The encoding of the value
+     * @param value The value to decode
+     * @return The signed change
+     */
+    private static int decodeRelative (final RelativeEncoding encoding, final int value)
+    {
+        switch (encoding)
+        {
+            case OFFSET_BINARY:
+                return value - 64;
+            case SIGNED_BIT:
+                return (value & 0x40) == 0 ? value & 0x3F : -(value & 0x3F);
+            case SIGNED_BIT2:
+                return (value & 0x40) == 0 ? -(value & 0x3F) : value & 0x3F;
+            case TWOS_COMPLEMENT:
+            default:
+                return value < 64 ? value : value - 128;
+        }
+    }
+
+
+    private static Integer getKey (final BindType type, final int channel, final int control)
+    {
+        return Integer.valueOf (type.ordinal () << 16 | channel << 8 | control);
+    }
+
+
+    /** A control bound to a MIDI message. */
+    private record Binding (IHwButton button, int value, IHwContinuousControl control, RelativeEncoding encoding, boolean isTouch)
+    {
+        // Intentionally empty
+    }
+}
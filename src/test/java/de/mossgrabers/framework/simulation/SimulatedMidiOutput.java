@@ -0,0 +1,64 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.daw.midi.AbstractMidiOutput;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * A MIDI output of the simulation which captures all sent messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedMidiOutput extends AbstractMidiOutput
+{
+    private final OutputCapture capture;
+    private final String        port;
+    private final byte []       shortMessage = new byte [3];
+
+
+    /**
+     * Constructor.
+     *
+     * @param capture Where to capture the sent messages
+     * @param index The index of the port
+     */
+    public SimulatedMidiOutput (final OutputCapture capture, final int index)
+    {
+        this.capture = capture;
+        this.port = "MIDI " + index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.capture.capture (this.port, data, 0, data.length);
+        this.traceOutput ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        // The DAW also accepts hex strings with spaces
+        this.sendSysex (StringUtils.fromHexStrToBytes (data.replace (" ", "")));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        this.shortMessage[0] = (byte) status;
+        this.shortMessage[1] = (byte) data1;
+        this.shortMessage[2] = (byte) data2;
+        this.capture.capture (this.port, this.shortMessage, 0, 3);
+        this.traceOutput ();
+    }
+}
@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.AbstractModel;
+import de.mossgrabers.framework.daw.DataSetup;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ISceneBank;
+import de.mossgrabers.framework.scale.Scales;
+
+
+/**
+ * A model of the simulation. There is no DAW project behind it, therefore all parts of the model
+ * are missing (null) unless a simulation sets them. Controllers which only need the model
+ * infrastructure (value changer, color manager, scales) can run with it.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedModel extends AbstractModel
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param colorManager The color manager
+     * @param valueChanger The value changer
+     * @param scales The scales object
+     * @param modelSetup The configuration parameters for the model
+     */
+    public SimulatedModel (final IHost host, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
+    {
+        super (modelSetup, new DataSetup (host, valueChanger, colorManager), scales);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorDeviceOnMasterTrack ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISceneBank createSceneBank (final int numScenes)
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteClip getNoteClip (final int cols, final int rows)
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createNoteClip (final ITrack track, final ISlot slot, final int lengthInBeats, final boolean overdub)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordNoteClip (final ITrack track, final ISlot slot)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteClip getCursorClip ()
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void ensureClip ()
+    {
+        // Intentionally empty
+    }
+}
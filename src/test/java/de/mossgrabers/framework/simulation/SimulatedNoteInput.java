@@ -0,0 +1,101 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.daw.midi.AbstractNoteInput;
+import de.mossgrabers.framework.daw.midi.MidiConstants;
+
+
+/**
+ * A note input of the simulation. Notes which are sent to the DAW are translated with the key and
+ * velocity tables and captured. Note repeat is not supported.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedNoteInput extends AbstractNoteInput
+{
+    private final OutputCapture capture;
+    private final String        port;
+    private final byte []       message = new byte [3];
+    private Integer []          keyTable;
+    private Integer []          velocityTable;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capture Where to capture the notes sent to the DAW
+     * @param name The name of the note input
+     */
+    public SimulatedNoteInput (final OutputCapture capture, final String name)
+    {
+        this.capture = capture;
+        this.port = "Note Input " + name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setKeyTranslationTable (final Integer [] table)
+    {
+        this.keyTable = table;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVelocityTranslationTable (final Integer [] table)
+    {
+        this.velocityTable = table;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableMPE (final boolean enable)
+    {
+        this.isMPEEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMPEPitchBendSensitivity (final int pitchBendRange)
+    {
+        this.mpePitchBendSensitivity = pitchBendRange;
+    }
+
+
+    /**
+     * Send a MIDI event to the DAW. Notes are translated with the key and velocity tables.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        int key = data1;
+        int velocity = data2;
+        final int code = status & 0xF0;
+        if (code == MidiConstants.CMD_NOTE_OFF || code == MidiConstants.CMD_NOTE_ON)
+        {
+            if (this.keyTable != null)
+            {
+                key = this.keyTable[data1].intValue ();
+                // Notes translated to -1 are filtered
+                if (key < 0)
+                    return;
+            }
+            if (this.velocityTable != null && code == MidiConstants.CMD_NOTE_ON)
+                velocity = this.velocityTable[data2].intValue ();
+        }
+
+        this.message[0] = (byte) status;
+        this.message[1] = (byte) key;
+        this.message[2] = (byte) velocity;
+        this.capture.capture (this.port, this.message, 0, 3);
+    }
+}
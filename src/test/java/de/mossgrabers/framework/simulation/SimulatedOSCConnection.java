@@ -0,0 +1,91 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+
+/**
+ * The OSC server and client of the simulation. Sent messages are captured as text, received
+ * messages can be replayed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedOSCConnection implements IOpenSoundControlServer, IOpenSoundControlClient
+{
+    private static final String       PORT = "OSC";
+
+    private final OutputCapture       capture;
+    private IOpenSoundControlCallback callback;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capture Where to capture the sent messages
+     */
+    public SimulatedOSCConnection (final OutputCapture capture)
+    {
+        this.capture = capture;
+    }
+
+
+    /**
+     * Set the callback which receives the OSC messages.
+     *
+     * @param callback The callback
+     */
+    public void setCallback (final IOpenSoundControlCallback callback)
+    {
+        this.callback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void start (final int port)
+    {
+        // Nothing to open in the simulation
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        final StringBuilder sb = new StringBuilder (message.getAddress ());
+        for (final Object value: message.getValues ())
+            sb.append (' ').append (value);
+        final byte [] data = sb.toString ().getBytes (StandardCharsets.UTF_8);
+        this.capture.capture (PORT, data, 0, data.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        for (final IOpenSoundControlMessage message: messages)
+            this.sendMessage (message);
+    }
+
+
+    /**
+     * Receive an OSC message from the (simulated) client.
+     *
+     * @param message The message
+     */
+    public void receiveMessage (final IOpenSoundControlMessage message)
+    {
+        if (this.callback != null)
+            this.callback.handle (message);
+    }
+}
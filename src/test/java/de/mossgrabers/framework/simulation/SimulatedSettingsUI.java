@@ -0,0 +1,316 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.configuration.IActionSetting;
+import de.mossgrabers.framework.configuration.IBooleanSetting;
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+import de.mossgrabers.framework.configuration.ISetting;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.ISignalSetting;
+import de.mossgrabers.framework.configuration.IStringSetting;
+import de.mossgrabers.framework.configuration.IValueSetting;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The settings of the simulation. The settings keep their values in memory. They can be looked up
+ * by their category and label to change them like a user would do in the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedSettingsUI implements ISettingsUI
+{
+    private final Map<String, ISetting> settings = new HashMap<> ();
+
+
+    /**
+     * Get a setting which was created before.
+     *
+     * @param category The category of the setting
+     * @param label The label of the setting
+     * @return The setting or null if there is no such setting
+     */
+    public ISetting getSetting (final String category, final String label)
+    {
+        return this.settings.get (category + "/" + label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IEnumSetting getEnumSetting (final String label, final String category, final String [] options, final String initialValue)
+    {
+        return this.add (category, label, new EnumSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBooleanSetting getBooleanSetting (final String label, final String category, final boolean initialValue)
+    {
+        return this.add (category, label, new BooleanSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStringSetting getStringSetting (final String label, final String category, final int numChars, final String initialText)
+    {
+        return this.add (category, label, new StringSetting (initialText));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IIntegerSetting getRangeSetting (final String label, final String category, final int minValue, final int maxValue, final int stepResolution, final String unit, final int initialValue)
+    {
+        return this.add (category, label, new IntegerSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDoubleSetting getNumberSetting (final String label, final String category, final double minValue, final double maxValue, final double stepResolution, final String unit, final double initialValue)
+    {
+        return this.add (category, label, new DoubleSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISignalSetting getSignalSetting (final String label, final String category, final String title)
+    {
+        return this.add (category, label, new SignalSetting ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IColorSetting getColorSetting (final String label, final String category, final ColorEx defaultColor)
+    {
+        return this.add (category, label, new ColorSetting (defaultColor));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IActionSetting getActionSetting (final String label, final String category)
+    {
+        return this.add (category, label, new StringSetting (""));
+    }
+
+
+    private <S extends ISetting> S add (final String category, final String label, final S setting)
+    {
+        this.settings.put (category + "/" + label, setting);
+        return setting;
+    }
+
+
+    /** Base class for all settings. */
+    private abstract static class AbstractSimulatedSetting implements ISetting
+    {
+        /** {@inheritDoc} */
+        @Override
+        public void setEnabled (final boolean enable)
+        {
+            // Nothing to display in the simulation
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setVisible (final boolean visible)
+        {
+            // Nothing to display in the simulation
+        }
+    }
+
+
+    /**
+     * A setting which keeps a value. Like in the DAW observers are notified about the current value
+     * when they are added.
+     *
+     * @param <T> The type of the value
+     */
+    private static class ValueSetting<T> extends AbstractSimulatedSetting implements IValueSetting<T>
+    {
+        private final List<IValueObserver<T>> observers = new ArrayList<> ();
+        private T                             value;
+
+
+        /**
+         * Constructor.
+         *
+         * @param initialValue The initial value
+         */
+        protected ValueSetting (final T initialValue)
+        {
+            this.value = initialValue;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void addValueObserver (final IValueObserver<T> observer)
+        {
+            this.observers.add (observer);
+            observer.update (this.value);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final T value)
+        {
+            this.value = value;
+            for (final IValueObserver<T> observer: this.observers)
+                observer.update (value);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public T get ()
+        {
+            return this.value;
+        }
+    }
+
+
+    /** An enumeration setting. */
+    private static class EnumSetting extends ValueSetting<String> implements IEnumSetting
+    {
+        EnumSetting (final String initialValue)
+        {
+            super (initialValue);
+        }
+    }
+
+
+    /** A string setting, also used for actions. */
+    private static class StringSetting extends ValueSetting<String> implements IActionSetting
+    {
+        StringSetting (final String initialValue)
+        {
+            super (initialValue);
+        }
+    }
+
+
+    /** A boolean setting. */
+    private static class BooleanSetting extends ValueSetting<Boolean> implements IBooleanSetting
+    {
+        BooleanSetting (final boolean initialValue)
+        {
+            super (Boolean.valueOf (initialValue));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final boolean value)
+        {
+            this.set (Boolean.valueOf (value));
+        }
+    }
+
+
+    /** An integer setting. */
+    private static class IntegerSetting extends ValueSetting<Integer> implements IIntegerSetting
+    {
+        IntegerSetting (final int initialValue)
+        {
+            super (Integer.valueOf (initialValue));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final int value)
+        {
+            this.set (Integer.valueOf (value));
+        }
+    }
+
+
+    /** A double setting. */
+    private static class DoubleSetting extends ValueSetting<Double> implements IDoubleSetting
+    {
+        DoubleSetting (final double initialValue)
+        {
+            super (Double.valueOf (initialValue));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double value)
+        {
+            this.set (Double.valueOf (value));
+        }
+    }
+
+
+    /** A color setting. */
+    private static class ColorSetting extends ValueSetting<ColorEx> implements IColorSetting
+    {
+        ColorSetting (final ColorEx initialValue)
+        {
+            super (initialValue);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double red, final double green, final double blue)
+        {
+            this.set (new ColorEx (red, green, blue));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double [] rgb)
+        {
+            this.set (rgb[0], rgb[1], rgb[2]);
+        }
+    }
+
+
+    /** A signal setting, which is triggered like a button. */
+    public static class SignalSetting extends AbstractSimulatedSetting implements ISignalSetting
+    {
+        private final List<IValueObserver<Void>> observers = new ArrayList<> ();
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void addSignalObserver (final IValueObserver<Void> observer)
+        {
+            this.observers.add (observer);
+        }
+
+
+        /**
+         * Trigger the signal like clicking the button in the DAW.
+         */
+        public void trigger ()
+        {
+            for (final IValueObserver<Void> observer: this.observers)
+                observer.update (null);
+        }
+    }
+}
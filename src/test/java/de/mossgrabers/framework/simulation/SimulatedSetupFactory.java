@@ -0,0 +1,63 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.util.List;
+
+
+/**
+ * Factory for creating the model and MIDI access of the simulation.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedSetupFactory implements ISetupFactory
+{
+    private final SimulatedHost host;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host of the simulation
+     */
+    public SimulatedSetupFactory (final SimulatedHost host)
+    {
+        this.host = host;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IModel createModel (final Configuration configuration, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
+    {
+        return new SimulatedModel (this.host, colorManager, valueChanger, scales, modelSetup);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiAccess createMidiAccess ()
+    {
+        return this.host.getMidiAccess ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ArpeggiatorMode> getArpeggiatorModes ()
+    {
+        return List.of (ArpeggiatorMode.values ());
+    }
+}
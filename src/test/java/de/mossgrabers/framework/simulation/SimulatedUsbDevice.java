@@ -0,0 +1,135 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.IHidCallback;
+import de.mossgrabers.framework.usb.IHidDevice;
+import de.mossgrabers.framework.usb.IUsbCallback;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.IUsbEndpoint;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+
+/**
+ * A USB device of the simulation. All data which is sent to the endpoints and as HID reports is
+ * captured. HID input reports can be replayed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedUsbDevice implements IUsbDevice, IHidDevice
+{
+    private final VirtualClock  clock;
+    private final OutputCapture capture;
+    private final String        port;
+    private IHidCallback        hidCallback;
+
+
+    /**
+     * Constructor.
+     *
+     * @param clock The clock to schedule the asynchronous callbacks
+     * @param capture Where to capture the sent data
+     * @param index The index of the device
+     */
+    public SimulatedUsbDevice (final VirtualClock clock, final OutputCapture capture, final int index)
+    {
+        this.clock = clock;
+        this.capture = capture;
+        this.port = "USB " + index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbEndpoint getEndpoint (final int interfaceIndex, final int endpointIndex)
+    {
+        final String endpointPort = this.port + " Endpoint " + interfaceIndex + "/" + endpointIndex;
+        return new IUsbEndpoint ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public void send (final IMemoryBlock memoryBlock, final int timeout)
+            {
+                SimulatedUsbDevice.this.capture (endpointPort, memoryBlock);
+            }
+
+
+            /** {@inheritDoc} */
+            @Override
+            public void sendAsync (final IMemoryBlock memoryBlock, final IUsbCallback callback, final int timeout)
+            {
+                final int length = SimulatedUsbDevice.this.capture (endpointPort, memoryBlock);
+                SimulatedUsbDevice.this.clock.schedule ( () -> callback.process (length), 0);
+            }
+        };
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void release ()
+    {
+        this.hidCallback = null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<IHidDevice> getHidDevice ()
+    {
+        return Optional.of (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCallback (final IHidCallback callback)
+    {
+        this.hidCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
+    {
+        return this.capture (this.port + " Output Report " + reportID, memoryBlock);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int sendFeatureReport (final byte reportID, final IMemoryBlock memoryBlock)
+    {
+        return this.capture (this.port + " Feature Report " + reportID, memoryBlock);
+    }
+
+
+    /**
+     * Receive a HID input report from the (simulated) device.
+     *
+     * @param reportID The ID of the report
+     * @param data The data of the report
+     */
+    public void receiveHidReport (final byte reportID, final byte [] data)
+    {
+        if (this.hidCallback != null)
+            this.hidCallback.process (reportID, data, data.length);
+    }
+
+
+    private int capture (final String endpointPort, final IMemoryBlock memoryBlock)
+    {
+        final ByteBuffer buffer = memoryBlock.createByteBuffer ();
+        final int length = buffer.limit ();
+        final byte [] data = new byte [length];
+        buffer.get (data);
+        this.capture.capture (endpointPort, data, 0, length);
+        return length;
+    }
+}
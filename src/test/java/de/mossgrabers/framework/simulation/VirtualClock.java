@@ -0,0 +1,122 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.simulation;
+
+import de.mossgrabers.framework.utils.TimerWheel;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * A clock for the headless simulation. Time only moves forward when the clock is advanced, which
+ * executes all tasks which became due in the order of their scheduled time. The clock also drives
+ * the timer wheel of the simulation, which makes the gesture deadlines deterministic as well.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VirtualClock implements TimerWheel.ITickDriver
+{
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<> ();
+    private long                               time  = 0;
+    private long                               count = 0;
+
+
+    /**
+     * Get the current time.
+     *
+     * @return The time in milliseconds since the start of the simulation
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long nanoTime ()
+    {
+        return TimeUnit.MILLISECONDS.toNanos (this.time);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void start (final BooleanSupplier tick)
+    {
+        this.schedule ( () -> {
+
+            if (tick.getAsBoolean ())
+                this.start (tick);
+
+        }, 1);
+    }
+
+
+    /**
+     * Schedule a task.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds after which the task should be executed
+     */
+    public void schedule (final Runnable task, final long delay)
+    {
+        this.tasks.add (new ScheduledTask (this.time + Math.max (0, delay), this.count++, task));
+    }
+
+
+    /**
+     * Check if there are tasks which are not executed yet.
+     *
+     * @return True if there are pending tasks
+     */
+    public boolean hasPendingTasks ()
+    {
+        return !this.tasks.isEmpty ();
+    }
+
+
+    /**
+     * Move the time forward and execute all tasks which become due. Tasks scheduled by these tasks
+     * are executed as well if they become due in the given time span.
+     *
+     * @param millis The number of milliseconds to move forward
+     */
+    public void advance (final long millis)
+    {
+        final long end = this.time + Math.max (0, millis);
+        while (!this.tasks.isEmpty () && this.tasks.peek ().time () <= end)
+        {
+            final ScheduledTask task = this.tasks.poll ();
+            this.time = task.time ();
+            task.task ().run ();
+        }
+        this.time = end;
+    }
+
+
+    /**
+     * Execute all tasks which are due at the current time.
+     */
+    public void runDueTasks ()
+    {
+        this.advance (0);
+    }
+
+
+    /** A task with its execution time. The sequence number keeps the order of equal times. */
+    private record ScheduledTask (long time, long sequence, Runnable task) implements Comparable<ScheduledTask>
+    {
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo (final ScheduledTask other)
+        {
+            final int result = Long.compare (this.time, other.time);
+            return result == 0 ? Long.compare (this.sequence, other.sequence) : result;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests that only the outputs of the flush of a command end the latency measurement of its input.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class LatencyTracerTest
+{
+    @Test
+    void ignoresOutputsOutsideTheFlushOfTheCommand ()
+    {
+        final LatencyTracer tracer = new LatencyTracer ();
+        tracer.setEnabled (true);
+
+        final long token = tracer.traceInput (LatencyTracer.Source.MIDI);
+
+        // A meter refresh before the command was executed and one outside of any flush
+        tracer.traceFlushStart ();
+        tracer.traceOutput ();
+        tracer.traceFlushEnd ();
+        tracer.traceDispatched (token);
+        tracer.traceOutput ();
+        assertTrue (tracer.getSummary (LatencyTracer.Source.MIDI).startsWith ("0 x"));
+
+        tracer.traceFlushStart ();
+        tracer.traceOutput ();
+        tracer.traceFlushEnd ();
+        assertTrue (tracer.getSummary (LatencyTracer.Source.MIDI).startsWith ("1 x"));
+    }
+
+
+    @Test
+    void countsFlushWithoutOutputAsUnanswered ()
+    {
+        final LatencyTracer tracer = new LatencyTracer ();
+        tracer.setEnabled (true);
+
+        tracer.traceDispatched (tracer.traceInput (LatencyTracer.Source.OSC));
+        tracer.traceFlushStart ();
+        tracer.traceFlushEnd ();
+
+        final String report = tracer.createReport ("Test");
+        assertTrue (report.contains ("1 inputs without output"), report);
+    }
+}
@@ -0,0 +1,47 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import de.mossgrabers.framework.simulation.SimulatedHost;
+import de.mossgrabers.framework.simulation.VirtualClock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Tests that the expired deadlines are executed by the drain task of the host and that the drain
+ * task ends when no deadlines are pending.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class TimerWheelTest
+{
+    @Test
+    void drainsExpiredDeadlinesOnTheHost ()
+    {
+        final SimulatedHost host = new SimulatedHost ();
+        final VirtualClock clock = host.getClock ();
+        final TimerWheel wheel = host.getTimerWheel ();
+
+        final AtomicInteger executed = new AtomicInteger ();
+        wheel.schedule (executed::incrementAndGet, 10);
+        wheel.schedule (executed::incrementAndGet, 20).cancel ();
+
+        clock.advance (9);
+        assertEquals (0, executed.get ());
+        clock.advance (3);
+        assertEquals (1, executed.get ());
+
+        // The cancelled deadline is removed, afterwards the wheel and the drain task end
+        clock.advance (2000);
+        assertEquals (1, executed.get ());
+        assertFalse (clock.hasPendingTasks ());
+    }
+}